@@ -0,0 +1,48 @@
+// Platform vs virtual thread comparison (k6: https://k6.io).
+//
+// 1) Start the app twice against the same DB, once per mode:
+//      docker build --build-arg JAVA_VERSION=21 -t joycrew-backend:vt .
+//      docker run -e VIRTUAL_THREADS_ENABLED=false ... joycrew-backend:vt   # platform threads
+//      docker run -e VIRTUAL_THREADS_ENABLED=true  ... joycrew-backend:vt   # virtual threads
+//    Add -Djdk.tracePinnedThreads=short (JAVA_TOOL_OPTIONS) to log any carrier pinning.
+// 2) Run:  k6 run -e BASE_URL=http://localhost:8082 -e TOKEN=<jwt> loadtest/virtual-threads.js
+// 3) Compare http_req_duration p95/p99, http_reqs/s and the tomcat.threads.busy /
+//    jvm.threads.live / hikaricp.connections.pending metrics between the two runs.
+//
+// Both scenarios are DB-bound reads (HikariCP pool = 5 in k8s), so this measures thread
+// overhead and queueing at a fixed pool size. For slow upstream calls, point the Kakao
+// base URL at a stub with artificial latency and add an order scenario.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const TOKEN = __ENV.TOKEN;
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'constant-arrival-rate',
+      rate: 200, timeUnit: '1s', duration: '2m',
+      preAllocatedVUs: 100, maxVUs: 1000,
+      exec: 'reads',
+    },
+    catalog: {
+      executor: 'constant-arrival-rate',
+      rate: 20, timeUnit: '1s', duration: '2m',
+      preAllocatedVUs: 50, maxVUs: 500,
+      exec: 'catalog',
+    },
+  },
+};
+
+const auth = { headers: { Authorization: `Bearer ${TOKEN}` } };
+
+export function reads() {
+  const res = http.get(`${BASE_URL}/api/wallet/point`, auth);
+  check(res, { 'wallet 200': (r) => r.status === 200 });
+}
+
+export function catalog() {
+  const res = http.get(`${BASE_URL}/api/catalog/kakao/CAFE?page=0&size=20`);
+  check(res, { 'catalog 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,53 @@
+package com.joycrew.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 처리량 비교.
+ * - legacy: 요청마다 키 파생 + 파서 생성 (기존 JwtUtil 방식)
+ * - sharedParser: 키/파서 재사용, 검증 캐시 없음
+ * - cachedClaims: 키/파서 재사용 + 최근 검증 토큰 캐시 (같은 토큰 반복 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtVerificationBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+  private JwtUtil sharedParser;
+  private JwtUtil cachedClaims;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    sharedParser = new JwtUtil(SECRET, 3600000L, 0);
+    cachedClaims = new JwtUtil(SECRET, 3600000L, 1024);
+    token = cachedClaims.generateToken("bench@joycrew.com");
+  }
+
+  @Benchmark
+  public Claims legacy() {
+    return Jwts.parserBuilder()
+        .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+  }
+
+  @Benchmark
+  public Claims sharedParser() {
+    return sharedParser.parseClaims(token);
+  }
+
+  @Benchmark
+  public Claims cachedClaims() {
+    return cachedClaims.parseClaims(token);
+  }
+}
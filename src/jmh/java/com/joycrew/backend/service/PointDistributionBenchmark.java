@@ -0,0 +1,119 @@
+package com.joycrew.backend.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 대량 지급의 DB 왕복 패턴 비교 (H2 인메모리, 한 트랜잭션).
+ * - perRecipient: 직원마다 지갑 조회 + UPDATE + 거래 INSERT (기존 AdminPointService 방식)
+ * - chunked: 청크마다 UPDATE ... IN (...) 한 문장 + 거래 배치 INSERT (BulkPointDistributor 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PointDistributionBenchmark {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  @Param({"1000", "10000"})
+  public int recipients;
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbc;
+  private List<Long> employeeIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataSource = new SingleConnectionDataSource("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1", "sa", "", true);
+    dataSource.setAutoCommit(false);
+    jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("""
+        create table wallet (wallet_id bigint auto_increment primary key, employee_id bigint not null unique,
+          balance int not null, giftable_point int not null, updated_at timestamp not null)""");
+    jdbc.execute("""
+        create table reward_point_transaction (transaction_id bigint auto_increment primary key,
+          sender_id bigint, receiver_id bigint, point_amount int not null, message clob,
+          type varchar(50) not null, transaction_date timestamp not null, created_at timestamp not null)""");
+
+    employeeIds = new ArrayList<>(recipients);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (long id = 1; id <= recipients; id++) {
+      employeeIds.add(id);
+    }
+    jdbc.batchUpdate("insert into wallet (employee_id, balance, giftable_point, updated_at) values (?, 0, 0, ?)",
+        employeeIds, CHUNK_SIZE, (ps, id) -> {
+          ps.setLong(1, id);
+          ps.setTimestamp(2, now);
+        });
+    commit();
+  }
+
+  @TearDown(Level.Invocation)
+  public void rollback() throws Exception {
+    dataSource.getConnection().rollback();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbc.execute("drop all objects");
+    dataSource.destroy();
+  }
+
+  @Benchmark
+  public void perRecipient() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (Long employeeId : employeeIds) {
+      Long walletId = jdbc.queryForObject("select wallet_id from wallet where employee_id = ?", Long.class, employeeId);
+      jdbc.update("update wallet set balance = balance + ?, giftable_point = giftable_point + ?, updated_at = ? where wallet_id = ?",
+          100, 100, now, walletId);
+      jdbc.update("""
+          insert into reward_point_transaction (sender_id, receiver_id, point_amount, message, type, transaction_date, created_at)
+          values (?, ?, ?, ?, ?, ?, ?)""", 0L, employeeId, 100, "Monthly", "AWARD_MANAGER_SPOT", now, now);
+    }
+  }
+
+  @Benchmark
+  public void chunked() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (int from = 0; from < employeeIds.size(); from += CHUNK_SIZE) {
+      List<Long> slice = employeeIds.subList(from, Math.min(from + CHUNK_SIZE, employeeIds.size()));
+      String in = String.join(",", Collections.nCopies(slice.size(), "?"));
+      List<Object> args = new ArrayList<>(slice.size() + 3);
+      args.add(100);
+      args.add(100);
+      args.add(now);
+      args.addAll(slice);
+      jdbc.update("update wallet set balance = balance + ?, giftable_point = giftable_point + ?, updated_at = ? "
+          + "where employee_id in (" + in + ")", args.toArray());
+      jdbc.batchUpdate("""
+          insert into reward_point_transaction (sender_id, receiver_id, point_amount, message, type, transaction_date, created_at)
+          values (?, ?, ?, ?, ?, ?, ?)""", slice, slice.size(), (ps, employeeId) -> {
+        ps.setLong(1, 0L);
+        ps.setLong(2, employeeId);
+        ps.setInt(3, 100);
+        ps.setString(4, "Monthly");
+        ps.setString(5, "AWARD_MANAGER_SPOT");
+        ps.setTimestamp(6, now);
+        ps.setTimestamp(7, now);
+      });
+    }
+  }
+
+  private void commit() {
+    try {
+      dataSource.getConnection().commit();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.joycrew.backend.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 카탈로그 GET 응답의 HTTP 캐시 검증자/정책.
+ * - ETag = 스냅샷 버전 (URL마다 본문은 버전으로 결정되므로 본문 해시를 계산할 필요가 없다)
+ * - If-None-Match/If-Modified-Since가 맞으면 본문을 만들거나 직렬화하지 않고 304
+ * - Cache-Control: 브라우저는 max-age, 앞단 CDN은 s-maxage 동안 캐시하고 만료 후에도 stale-while-revalidate 동안은
+ *   이전 응답을 주면서 백그라운드로 재검증
+ * ETag는 약한 검증자(W/)다: Tomcat은 강한 ETag가 붙은 응답을 압축하지 않고, gzip 본문은 원본과 바이트가 다르기 때문.
+ * 메트릭: catalog.http.not-modified
+ */
+@Component
+public class CatalogHttpCache {
+
+    private final CatalogSnapshotStore snapshotStore;
+    private final CacheControl cacheControl;
+    private final Counter notModified;
+
+    public CatalogHttpCache(CatalogSnapshotStore snapshotStore,
+                            @Value("${catalog.http.max-age-seconds:60}") long maxAgeSeconds,
+                            @Value("${catalog.http.s-maxage-seconds:300}") long sharedMaxAgeSeconds,
+                            @Value("${catalog.http.stale-while-revalidate-seconds:600}") long staleWhileRevalidateSeconds,
+                            MeterRegistry meterRegistry) {
+        this.snapshotStore = snapshotStore;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds))
+                .staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds))
+                .cachePublic();
+        this.notModified = Counter.builder("catalog.http.not-modified")
+                .description("Catalog requests answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷 기준으로 조건부 요청을 처리한다. body가 null을 돌려주면 404 (캐시 헤더 없음).
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, Supplier<T> body) {
+        // 본문보다 버전을 먼저 읽는다: 그 사이 스냅샷이 바뀌면 옛 ETag로 새 본문이 한 번 나갈 수 있지만,
+        // 다음 재검증에서 버전이 달라 200으로 바로잡힌다
+        String etag = etagOf(snapshotStore.current().version());
+        long lastModified = snapshotStore.lastChangedAt().toEpochMilli();
+        if (request.checkNotModified(etag, lastModified)) {
+            notModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        T value = body.get();
+        if (value == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .body(value);
+    }
+
+    static String etagOf(long version) {
+        return "W/\"c" + Long.toHexString(version) + "\"";
+    }
+}
@@ -0,0 +1,41 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.dto.kakao.ExternalProductDetailResponse;
+import com.joycrew.backend.dto.kakao.ExternalProductResponse;
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스냅샷에 담긴 상품 한 건. 응답 DTO를 미리 만들어 두어 요청마다 포인트 환산/객체 생성을 하지 않는다.
+ */
+public record CatalogItem(
+        String templateId,
+        String name,
+        String brand,
+        GiftCategory category,
+        int priceKrw,
+        LocalDateTime updatedAt,
+        double popularity,
+        ExternalProductResponse summary,
+        ExternalProductDetailResponse detail
+) {
+
+    /** popularity: template_popularity 점수 (없으면 0) */
+    static CatalogItem of(KakaoTemplate t, int krwPerPoint, double popularity) {
+        int point = (int) Math.ceil(t.getBasePriceKrw() / (double) krwPerPoint);
+        return new CatalogItem(
+                t.getTemplateId(),
+                t.getName(),
+                t.getBrand(),
+                t.getJoyCategory(),
+                t.getBasePriceKrw(),
+                t.getUpdatedAt(),
+                popularity,
+                new ExternalProductResponse(t.getTemplateId(), t.getName(), t.getBrand(), point,
+                        t.getBasePriceKrw(), t.getThumbnailUrl()),
+                new ExternalProductDetailResponse(t.getTemplateId(), t.getName(), t.getBrand(), point,
+                        t.getBasePriceKrw(), t.getThumbnailUrl()));
+    }
+}
@@ -0,0 +1,250 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.enums.GiftCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 상품명/브랜드 n-gram 역색인.
+ * - 정규화한 "상품명 + 구분자 + 브랜드" 의 1-gram/2-gram을 문서 번호 배열(오름차순)로 색인
+ * - 같은 n-gram을 초성으로 바꾼 본문에도 색인 → "ㅇㅁㄹ", "아메ㄹ" 처럼 초성이 섞인 검색어 지원
+ * - 검색어의 n-gram 목록을 가장 짧은 것부터 교집합해 후보를 줄이고, 후보만 실제 부분 일치로 확인·점수화
+ * 문서 분석 결과는 이전 색인에서 상품명/브랜드가 같은 문서의 것을 재사용하므로 재적재 시 바뀐 상품만 다시 분석한다.
+ */
+final class CatalogSearchIndex {
+
+    private static final char FIELD_SEPARATOR = '\u0000';
+    private static final int[] NONE = new int[0];
+
+    private final List<CatalogItem> items;
+    private final Map<String, Analyzed> docsById;
+    private final Map<Integer, int[]> fullPostings;
+    private final Map<Integer, int[]> choseongPostings;
+    private final int reusedDocs;
+
+    /** 한 문서의 분석 결과 (정규화 문자열 + 색인 키) */
+    private record Analyzed(String rawName, String rawBrand, String name, String brand,
+                            int[] fullGrams, int[] choseongGrams) {
+
+        boolean sameSource(CatalogItem item) {
+            return rawName.equals(item.name()) && Objects.equals(rawBrand, item.brand());
+        }
+    }
+
+    private CatalogSearchIndex(List<CatalogItem> items, Map<String, Analyzed> docsById,
+                               Map<Integer, int[]> fullPostings, Map<Integer, int[]> choseongPostings, int reusedDocs) {
+        this.items = items;
+        this.docsById = docsById;
+        this.fullPostings = fullPostings;
+        this.choseongPostings = choseongPostings;
+        this.reusedDocs = reusedDocs;
+    }
+
+    /** items의 순서가 문서 번호다. previous가 있으면 바뀌지 않은 상품의 분석 결과를 재사용한다. */
+    static CatalogSearchIndex build(List<CatalogItem> items, CatalogSearchIndex previous) {
+        Map<String, Analyzed> docsById = new HashMap<>(Math.max(16, items.size() * 4 / 3 + 1));
+        Map<Integer, List<Integer>> full = new HashMap<>();
+        Map<Integer, List<Integer>> choseong = new HashMap<>();
+        int reused = 0;
+
+        for (int ord = 0; ord < items.size(); ord++) {
+            CatalogItem item = items.get(ord);
+            Analyzed doc = previous == null ? null : previous.docsById.get(item.templateId());
+            if (doc != null && doc.sameSource(item)) {
+                reused++;
+            } else {
+                doc = analyze(item);
+            }
+            docsById.put(item.templateId(), doc);
+            for (int key : doc.fullGrams()) full.computeIfAbsent(key, k -> new ArrayList<>()).add(ord);
+            for (int key : doc.choseongGrams()) choseong.computeIfAbsent(key, k -> new ArrayList<>()).add(ord);
+        }
+        return new CatalogSearchIndex(items, docsById, toArrays(full), toArrays(choseong), reused);
+    }
+
+    private static Analyzed analyze(CatalogItem item) {
+        String name = SearchText.normalize(item.name());
+        String brand = SearchText.normalize(item.brand());
+        String text = name + FIELD_SEPARATOR + brand;
+
+        Set<Integer> full = new HashSet<>();
+        Set<Integer> choseong = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == FIELD_SEPARATOR) continue;
+            full.add(unigram(c));
+            choseong.add(unigram(SearchText.choseong(c)));
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                char next = text.charAt(i + 1);
+                full.add(bigram(c, next));
+                choseong.add(bigram(SearchText.choseong(c), SearchText.choseong(next)));
+            }
+        }
+        return new Analyzed(item.name(), item.brand(), name, brand, toSortedArray(full), toSortedArray(choseong));
+    }
+
+    /** 이전 색인에서 분석 결과를 재사용한 문서 수 */
+    int reusedDocs() {
+        return reusedDocs;
+    }
+
+    /**
+     * 공백으로 나눈 모든 검색어가 상품명 또는 브랜드에 부분 일치하는 문서 번호를 관련도 순으로 반환한다.
+     * category가 null이면 전체에서 찾는다.
+     */
+    int[] search(String query, GiftCategory category) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) return NONE;
+
+        int[] candidates = null;
+        for (String term : terms) {
+            for (int[] postings : postingsOf(term)) {
+                candidates = candidates == null ? postings : intersect(candidates, postings);
+                if (candidates.length == 0) return NONE;
+            }
+        }
+
+        List<int[]> scored = new ArrayList<>();   // {ord, score}
+        for (int ord : candidates) {
+            CatalogItem item = items.get(ord);
+            if (category != null && item.category() != category) continue;
+            int score = score(docsById.get(item.templateId()), terms);
+            if (score > 0) scored.add(new int[]{ord, score});
+        }
+        // 점수 → 짧은 상품명(더 구체적인 일치) → 문서 번호
+        scored.sort(Comparator.<int[]>comparingInt(s -> -s[1])
+                .thenComparingInt(s -> items.get(s[0]).name().length())
+                .thenComparingInt(s -> s[0]));
+        return scored.stream().mapToInt(s -> s[0]).toArray();
+    }
+
+    private static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        for (String raw : query.trim().split("\\s+")) {
+            String term = SearchText.normalize(raw);
+            if (!term.isEmpty()) terms.add(term);
+        }
+        return terms;
+    }
+
+    // 초성이 섞인 쌍은 초성 색인에서, 나머지는 원문 색인에서 찾는다 (색인에 없는 n-gram이면 결과 없음)
+    private List<int[]> postingsOf(String term) {
+        List<int[]> lists = new ArrayList<>();
+        if (term.length() == 1) {
+            char c = term.charAt(0);
+            lists.add(SearchText.isChoseong(c)
+                    ? choseongPostings.getOrDefault(unigram(c), NONE)
+                    : fullPostings.getOrDefault(unigram(c), NONE));
+            return lists;
+        }
+        for (int i = 0; i + 1 < term.length(); i++) {
+            char a = term.charAt(i);
+            char b = term.charAt(i + 1);
+            lists.add(SearchText.isChoseong(a) || SearchText.isChoseong(b)
+                    ? choseongPostings.getOrDefault(bigram(SearchText.choseong(a), SearchText.choseong(b)), NONE)
+                    : fullPostings.getOrDefault(bigram(a, b), NONE));
+        }
+        lists.sort(Comparator.comparingInt(l -> l.length));
+        return lists;
+    }
+
+    /** 검색어마다: 상품명 완전 일치 > 상품명 접두 > 상품명 부분 > 브랜드. 초성이 섞인 검색어는 절반 */
+    private static int score(Analyzed doc, List<String> terms) {
+        int total = 0;
+        for (String term : terms) {
+            int s = 0;
+            int inName = SearchText.indexOf(doc.name(), term);
+            if (inName == 0 && term.length() == doc.name().length()) s = 100;
+            else if (inName == 0) s = 60;
+            else if (inName > 0) s = 40;
+            else {
+                int inBrand = SearchText.indexOf(doc.brand(), term);
+                if (inBrand == 0) s = 25;
+                else if (inBrand > 0) s = 15;
+            }
+            if (s == 0) return 0;   // n-gram 후보지만 실제로는 이어져 있지 않음
+            total += containsChoseong(term) ? s / 2 : s;
+        }
+        return total;
+    }
+
+    private static boolean containsChoseong(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (SearchText.isChoseong(term.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    /** 대략적인 힙 사용량 (바이트): 문서 번호 배열 + 맵 엔트리 + 문서별 분석 결과 */
+    long estimatedBytes() {
+        long bytes = 0;
+        for (Map<Integer, int[]> postings : List.of(fullPostings, choseongPostings)) {
+            for (int[] ords : postings.values()) {
+                bytes += 64 + 16 + 4L * ords.length;
+            }
+        }
+        for (Analyzed doc : docsById.values()) {
+            bytes += 40 + 2 * (40 + 2L * doc.name().length()) + 2 * 16
+                    + 4L * (doc.fullGrams().length + doc.choseongGrams().length);
+        }
+        return bytes;
+    }
+
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    // 한쪽이 훨씬 짧으면 긴 쪽을 이진 탐색 (흔한 글자의 긴 목록을 끝까지 훑지 않는다)
+    private static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) return intersect(b, a);
+        int[] out = new int[a.length];
+        int n = 0;
+        if ((long) a.length * 8 < b.length) {
+            int from = 0;
+            for (int ord : a) {
+                int found = Arrays.binarySearch(b, from, b.length, ord);
+                if (found >= 0) {
+                    out[n++] = ord;
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static Map<Integer, int[]> toArrays(Map<Integer, List<Integer>> postings) {
+        Map<Integer, int[]> arrays = new HashMap<>(Math.max(16, postings.size() * 4 / 3 + 1));
+        postings.forEach((key, ords) -> arrays.put(key, ords.stream().mapToInt(Integer::intValue).toArray()));
+        return arrays;
+    }
+
+    private static int[] toSortedArray(Set<Integer> keys) {
+        int[] array = keys.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+}
@@ -0,0 +1,200 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.dto.kakao.ExternalProductResponse;
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.enums.SortOption;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 카탈로그 전체의 불변 스냅샷.
+ * 전체/카테고리별 목록을 정렬 옵션마다 미리 정렬해 두므로 조회는 리스트 슬라이스만 한다.
+ * 목록들은 같은 CatalogItem 참조를 공유한다 (정렬 옵션 하나당 상품 수 × 참조 2개).
+ * version은 내용에서 계산한 값이라 같은 데이터를 적재한 파드끼리 같다.
+ */
+public final class CatalogSnapshot {
+
+    private static final Comparator<CatalogItem> BY_ID = Comparator.comparing(CatalogItem::templateId);
+
+    private static final Comparator<CatalogItem> NEWEST = Comparator.comparing(CatalogItem::updatedAt).reversed();
+
+    // 인기순: 최근 주문 감쇠 점수 → 주문이 없으면 최신순
+    private static final Comparator<CatalogItem> MOST_POPULAR =
+            Comparator.comparingDouble(CatalogItem::popularity).reversed().thenComparing(NEWEST).thenComparing(BY_ID);
+
+    private static final Map<SortOption, Comparator<CatalogItem>> ORDERS = new EnumMap<>(Map.of(
+            SortOption.NEW, NEWEST.thenComparing(BY_ID),
+            SortOption.POPULAR, MOST_POPULAR,
+            // 검색어가 없을 때의 관련도순 = 인기순
+            SortOption.RELEVANCE, MOST_POPULAR,
+            SortOption.PRICE_ASC, Comparator.comparingInt(CatalogItem::priceKrw).thenComparing(BY_ID),
+            SortOption.PRICE_DESC, Comparator.comparingInt(CatalogItem::priceKrw).reversed().thenComparing(BY_ID)
+    ));
+
+    private final long version;
+    private final LocalDateTime lastUpdatedAt;
+    private final Map<String, CatalogItem> byId;
+    private final Map<SortOption, List<CatalogItem>> all;
+    private final Map<GiftCategory, Map<SortOption, List<CatalogItem>>> byCategory;
+    // 검색 색인의 문서 번호 = items(templateId 순) 의 위치. ranks[정렬][문서 번호] = 그 정렬에서의 순위
+    private final List<CatalogItem> items;
+    private final CatalogSearchIndex searchIndex;
+    private final Map<SortOption, int[]> ranks;
+
+    private CatalogSnapshot(long version, LocalDateTime lastUpdatedAt, Map<String, CatalogItem> byId,
+                            Map<SortOption, List<CatalogItem>> all,
+                            Map<GiftCategory, Map<SortOption, List<CatalogItem>>> byCategory,
+                            List<CatalogItem> items, CatalogSearchIndex searchIndex, Map<SortOption, int[]> ranks) {
+        this.version = version;
+        this.lastUpdatedAt = lastUpdatedAt;
+        this.byId = byId;
+        this.all = all;
+        this.byCategory = byCategory;
+        this.items = items;
+        this.searchIndex = searchIndex;
+        this.ranks = ranks;
+    }
+
+    public static CatalogSnapshot build(List<KakaoTemplate> templates, int krwPerPoint) {
+        return build(templates, krwPerPoint, Map.of(), null);
+    }
+
+    /**
+     * popularity: templateId → 인기도 점수 (없는 상품은 0).
+     * previous가 있으면 상품명/브랜드가 바뀌지 않은 상품의 검색 색인 분석 결과를 재사용한다.
+     */
+    public static CatalogSnapshot build(List<KakaoTemplate> templates, int krwPerPoint,
+                                        Map<String, Double> popularity, CatalogSnapshot previous) {
+        List<CatalogItem> items = templates.stream()
+                .map(t -> CatalogItem.of(t, krwPerPoint, popularity.getOrDefault(t.getTemplateId(), 0.0)))
+                .sorted(BY_ID)
+                .toList();
+
+        Map<String, CatalogItem> byId = new HashMap<>(Math.max(16, items.size() * 4 / 3 + 1));
+        LocalDateTime lastUpdatedAt = null;
+        long version = krwPerPoint;
+        for (CatalogItem item : items) {
+            byId.put(item.templateId(), item);
+            if (lastUpdatedAt == null || item.updatedAt().isAfter(lastUpdatedAt)) {
+                lastUpdatedAt = item.updatedAt();
+            }
+            version = 31 * version + contentHash(item);
+        }
+
+        Map<SortOption, List<CatalogItem>> all = sortedLists(items);
+        Map<GiftCategory, Map<SortOption, List<CatalogItem>>> byCategory = new EnumMap<>(GiftCategory.class);
+        for (GiftCategory category : GiftCategory.values()) {
+            byCategory.put(category, sortedLists(items.stream().filter(i -> i.category() == category).toList()));
+        }
+        CatalogSearchIndex searchIndex = CatalogSearchIndex.build(items, previous == null ? null : previous.searchIndex);
+        return new CatalogSnapshot(version, lastUpdatedAt, Map.copyOf(byId), all, byCategory,
+                items, searchIndex, ranks(items, all));
+    }
+
+    // JVM마다 달라지는 해시(Enum/Object의 identity hashCode, record의 hashCode)를 쓰지 않는다:
+    // 파드마다 버전이 달라지면 ETag가 맞지 않아 재검증이 모두 200이 된다
+    private static int contentHash(CatalogItem item) {
+        ExternalProductResponse s = item.summary();
+        return Objects.hash(s.templateId(), s.name(), s.brand(), s.pointPrice(), s.priceKrw(), s.thumbnailUrl(),
+                item.category().name(), item.updatedAt(), item.popularity());
+    }
+
+    private static Map<SortOption, int[]> ranks(List<CatalogItem> items, Map<SortOption, List<CatalogItem>> all) {
+        Map<CatalogItem, Integer> ords = new IdentityHashMap<>(items.size());
+        for (int ord = 0; ord < items.size(); ord++) {
+            ords.put(items.get(ord), ord);
+        }
+        Map<SortOption, int[]> ranks = new EnumMap<>(SortOption.class);
+        all.forEach((sort, sorted) -> {
+            int[] rank = new int[items.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                rank[ords.get(sorted.get(i))] = i;
+            }
+            ranks.put(sort, rank);
+        });
+        return ranks;
+    }
+
+    private static Map<SortOption, List<CatalogItem>> sortedLists(List<CatalogItem> items) {
+        Map<SortOption, List<CatalogItem>> lists = new EnumMap<>(SortOption.class);
+        ORDERS.forEach((sort, order) -> lists.put(sort, items.stream().sorted(order).toList()));
+        return lists;
+    }
+
+    /** 내용 기반 버전 (상품/가격/카테고리/수정 시각/인기도/포인트 환산율이 같으면 같은 값) */
+    public long version() {
+        return version;
+    }
+
+    /** 가장 최근에 수정된 상품의 updatedAt. 비어 있으면 null */
+    public LocalDateTime lastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /** category가 null이면 전체 목록 */
+    public List<CatalogItem> list(GiftCategory category, SortOption sort) {
+        return category == null ? all.get(sort) : byCategory.get(category).get(sort);
+    }
+
+    /**
+     * 상품명/브랜드 검색 (초성 포함). RELEVANCE면 관련도순, 그 밖의 정렬이면 일치한 상품을 그 정렬 순서로 돌려준다.
+     * category가 null이면 전체에서 찾는다.
+     */
+    public List<CatalogItem> search(String query, GiftCategory category, SortOption sort) {
+        int[] ords = searchIndex.search(query, category);
+        if (sort != SortOption.RELEVANCE) {
+            int[] rank = ranks.get(sort);
+            ords = Arrays.stream(ords).boxed()
+                    .sorted(Comparator.comparingInt(ord -> rank[ord]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        List<CatalogItem> found = new ArrayList<>(ords.length);
+        for (int ord : ords) {
+            found.add(items.get(ord));
+        }
+        return found;
+    }
+
+    /** 직전 스냅샷에서 검색 분석 결과를 재사용한 상품 수 */
+    public int reusedSearchDocs() {
+        return searchIndex.reusedDocs();
+    }
+
+    public CatalogItem find(String templateId) {
+        return byId.get(templateId);
+    }
+
+    /**
+     * 대략적인 힙 사용량 (바이트). 문자열은 Latin-1 압축을 무시하고 UTF-16 기준으로 센다.
+     * 항목당: CatalogItem + DTO 2개 + LocalDateTime 헤더/필드, 문자열 4개, 맵 엔트리, 정렬 목록 참조. 검색 색인 포함.
+     */
+    public long estimatedBytes() {
+        long listRefs = 2L * ORDERS.size() * 8;
+        long bytes = 0;
+        for (CatalogItem item : byId.values()) {
+            bytes += 48 + 2 * 40 + 24 + 48 + listRefs;
+            bytes += stringBytes(item.templateId()) + stringBytes(item.name()) + stringBytes(item.brand())
+                    + stringBytes(item.summary().thumbnailUrl());
+        }
+        return bytes + 4L * ranks.size() * items.size() + searchIndex.estimatedBytes();
+    }
+
+    private static long stringBytes(String s) {
+        return s == null ? 0 : 40 + 2L * s.length();
+    }
+}
@@ -0,0 +1,180 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.kakao.TemplatePopularity;
+import com.joycrew.backend.repository.KakaoTemplateRepository;
+import com.joycrew.backend.repository.KakaoTemplateRepository.CatalogStamp;
+import com.joycrew.backend.repository.TemplatePopularityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카탈로그 스냅샷 보관소.
+ * - 기동 시 kakao_template 전체를 적재해 불변 스냅샷을 만들고, 요청은 volatile 참조 하나만 읽는다.
+ * - 주기적으로 max(updatedAt)/count 만 조회해 바뀌었을 때만 새 스냅샷을 만들어 통째로 교체
+ * - 일정 주기마다 무조건 재적재 (updatedAt을 건드리지 않은 직접 수정 대비)
+ * - 인기도(template_popularity)는 자주 바뀌므로 resort-ms 마다만 확인해 바뀌었으면 다시 정렬한다
+ * 메트릭: catalog.snapshot.swaps, catalog.snapshot.build, catalog.snapshot.templates, catalog.snapshot.bytes
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotStore {
+
+    private final KakaoTemplateRepository templateRepository;
+    private final TemplatePopularityRepository popularityRepository;
+    private final int krwPerPoint;
+    private final Duration fullReloadInterval;
+    private final Duration resortInterval;
+    private final double popularityHalfLifeHours;
+
+    // synchronized 대신 ReentrantLock: 락 안에서 JDBC를 호출해도 가상 스레드가 고정되지 않음
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile Stamp stamp;
+    private volatile long lastFullReloadNanos;
+    private volatile LocalDateTime popularityUpdatedAt;
+    private volatile long lastPopularityCheckNanos;
+    private volatile Instant lastChangedAt = Instant.now();
+
+    private final Counter swaps;
+    private final Timer buildTimer;
+
+    private record Stamp(LocalDateTime lastUpdatedAt, long total) { }
+
+    public CatalogSnapshotStore(KakaoTemplateRepository templateRepository,
+                                TemplatePopularityRepository popularityRepository,
+                                @Value("${joycrew.points.krw_per_point:40}") int krwPerPoint,
+                                @Value("${catalog.snapshot.full-reload-minutes:30}") long fullReloadMinutes,
+                                @Value("${catalog.popularity.resort-ms:300000}") long resortMs,
+                                @Value("${catalog.popularity.half-life-hours:168}") double popularityHalfLifeHours,
+                                MeterRegistry meterRegistry) {
+        this.templateRepository = templateRepository;
+        this.popularityRepository = popularityRepository;
+        this.krwPerPoint = krwPerPoint;
+        this.fullReloadInterval = Duration.ofMinutes(fullReloadMinutes);
+        this.resortInterval = Duration.ofMillis(resortMs);
+        this.popularityHalfLifeHours = popularityHalfLifeHours;
+
+        this.swaps = Counter.builder("catalog.snapshot.swaps")
+                .description("Catalog snapshots built and swapped in")
+                .register(meterRegistry);
+        this.buildTimer = Timer.builder("catalog.snapshot.build")
+                .description("Time to load and index the catalog snapshot")
+                .register(meterRegistry);
+        Gauge.builder("catalog.snapshot.templates", this, s -> s.snapshot == null ? 0 : s.snapshot.size())
+                .description("Templates in the current catalog snapshot")
+                .register(meterRegistry);
+        Gauge.builder("catalog.snapshot.bytes", this, s -> s.snapshot == null ? 0 : s.snapshot.estimatedBytes())
+                .description("Estimated heap used by the current catalog snapshot")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /** 현재 스냅샷. 기동 직후 적재 전 요청이면 그 자리에서 한 번 적재한다. */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current != null) return current;
+        lock.lock();
+        try {
+            if (snapshot == null) reload();
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.snapshot.refresh-ms:30000}",
+            initialDelayString = "${catalog.snapshot.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            if (snapshot == null || System.nanoTime() - lastFullReloadNanos >= fullReloadInterval.toNanos()) {
+                reload();
+                return;
+            }
+            if (!Objects.equals(readStamp(), stamp)) {
+                reload();
+                return;
+            }
+            if (System.nanoTime() - lastPopularityCheckNanos >= resortInterval.toNanos()) {
+                lastPopularityCheckNanos = System.nanoTime();
+                if (!Objects.equals(popularityRepository.findLastUpdatedAt(), popularityUpdatedAt)) {
+                    reload();
+                }
+            }
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 기존 스냅샷을 유지 (다음 주기에 재시도)
+            log.warn("Catalog snapshot refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /** 전체 재적재 후 교체. 상품을 일괄 수정한 직후 호출하면 즉시 반영된다. */
+    public void reload() {
+        lock.lock();
+        try {
+            // 목록보다 먼저 읽어 두면 적재 중 바뀐 상품은 다음 주기에 다시 감지된다
+            Stamp next = readStamp();
+            LocalDateTime nextPopularity = popularityRepository.findLastUpdatedAt();
+            CatalogSnapshot previous = snapshot;
+            CatalogSnapshot built = buildTimer.record(() ->
+                    CatalogSnapshot.build(templateRepository.findAll(), krwPerPoint, loadPopularity(), previous));
+            if (previous == null || previous.version() != built.version()) {
+                lastChangedAt = Instant.now();
+            }
+            snapshot = built;
+            stamp = next;
+            popularityUpdatedAt = nextPopularity;
+            lastFullReloadNanos = System.nanoTime();
+            lastPopularityCheckNanos = lastFullReloadNanos;
+            swaps.increment();
+            log.info("Catalog snapshot loaded: {} template(s), version {}, {} search doc(s) reused", built.size(),
+                    Long.toHexString(built.version()), built.reusedSearchDocs());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 내용(버전)이 마지막으로 바뀐 시각. HTTP Last-Modified로 쓴다.
+     * 상품 삭제/인기순 변경은 max(updatedAt)을 움직이지 않으므로 lastUpdatedAt 대신 이 값을 쓴다.
+     */
+    public Instant lastChangedAt() {
+        return lastChangedAt;
+    }
+
+    // 기준 시각을 옮기는 중이면 행마다 기준이 다를 수 있으므로 가장 최근 기준으로 환산해 비교한다
+    private Map<String, Double> loadPopularity() {
+        List<TemplatePopularity> rows = popularityRepository.findAll();
+        Map<String, Double> scores = new HashMap<>();
+        rows.stream().map(TemplatePopularity::getScoreEpoch).max(Comparator.naturalOrder()).ifPresent(latest ->
+                rows.forEach(p -> scores.put(p.getTemplateId(), p.scoreAt(latest, popularityHalfLifeHours))));
+        return scores;
+    }
+
+    private Stamp readStamp() {
+        CatalogStamp s = templateRepository.findCatalogStamp();
+        return new Stamp(s.getLastUpdatedAt(), s.getTotal());
+    }
+}
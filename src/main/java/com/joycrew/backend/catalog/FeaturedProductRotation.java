@@ -0,0 +1,110 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.enums.SortOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추천 상품 순환 목록.
+ * - 스냅샷의 상품을 섞은 배열을 만들어 두고, 요청마다 공유 커서에서 limit개를 이어서 꺼낸다 (O(limit), DB 조회 없음)
+ * - 연속한 요청은 서로 다른 상품을 받고, 한 바퀴를 돌면 처음부터 다시 돈다
+ * - spread-categories면 카테고리별로 섞은 뒤 번갈아 끼워 넣어, 상품이 많은 카테고리가 추천을 독차지하지 않게 한다
+ * - 주기적으로 다시 섞고, 스냅샷 버전이 바뀌면(상품 추가/삭제) 새 목록으로 교체
+ */
+@Slf4j
+@Component
+public class FeaturedProductRotation {
+
+    private final CatalogSnapshotStore snapshotStore;
+    private final boolean spreadCategories;
+
+    private volatile Rotation rotation;
+
+    private record Rotation(long version, CatalogItem[] items, AtomicInteger cursor) { }
+
+    public FeaturedProductRotation(CatalogSnapshotStore snapshotStore,
+                                   @Value("${catalog.featured.spread-categories:true}") boolean spreadCategories) {
+        this.snapshotStore = snapshotStore;
+        this.spreadCategories = spreadCategories;
+    }
+
+    /** 순환 목록에서 다음 limit개 (상품 수보다 많이 요청하면 상품 수만큼) */
+    public List<CatalogItem> next(int limit) {
+        Rotation current = rotation;
+        if (current == null) {
+            current = rebuild();
+        }
+        CatalogItem[] items = current.items();
+        int n = Math.min(limit, items.length);
+        if (n == 0) return List.of();
+
+        int start = Math.floorMod(current.cursor().getAndAdd(n), items.length);
+        List<CatalogItem> picked = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            picked.add(items[(start + i) % items.length]);
+        }
+        return picked;
+    }
+
+    /** 스냅샷이 바뀌었으면 바로, 아니면 reshuffle-ms 마다 다시 섞는다 */
+    @Scheduled(fixedDelayString = "${catalog.featured.check-ms:30000}",
+            initialDelayString = "${catalog.featured.check-ms:30000}")
+    public void refreshIfChanged() {
+        Rotation current = rotation;
+        if (current == null || current.version() != snapshotStore.current().version()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.featured.reshuffle-ms:600000}",
+            initialDelayString = "${catalog.featured.reshuffle-ms:600000}")
+    public void reshuffle() {
+        rebuild();
+    }
+
+    private Rotation rebuild() {
+        CatalogSnapshot snapshot = snapshotStore.current();
+        CatalogItem[] items = spreadCategories ? spreadByCategory(snapshot) : shuffled(snapshot.list(null, SortOption.NEW));
+        Rotation next = new Rotation(snapshot.version(), items, new AtomicInteger());
+        rotation = next;
+        log.debug("Featured rotation reshuffled: {} template(s)", items.length);
+        return next;
+    }
+
+    // 카테고리마다 섞은 목록을 한 개씩 번갈아 꺼낸다 (짧은 카테고리가 먼저 끝나면 나머지로 계속)
+    private static CatalogItem[] spreadByCategory(CatalogSnapshot snapshot) {
+        List<List<CatalogItem>> perCategory = new ArrayList<>();
+        for (GiftCategory category : GiftCategory.values()) {
+            List<CatalogItem> items = new ArrayList<>(snapshot.list(category, SortOption.NEW));
+            if (!items.isEmpty()) {
+                Collections.shuffle(items, ThreadLocalRandom.current());
+                perCategory.add(items);
+            }
+        }
+        Collections.shuffle(perCategory, ThreadLocalRandom.current());
+
+        CatalogItem[] out = new CatalogItem[snapshot.size()];
+        int n = 0;
+        for (int round = 0; n < out.length; round++) {
+            for (List<CatalogItem> items : perCategory) {
+                if (round < items.size()) out[n++] = items.get(round);
+            }
+        }
+        return out;
+    }
+
+    private static CatalogItem[] shuffled(List<CatalogItem> items) {
+        List<CatalogItem> copy = new ArrayList<>(items);
+        Collections.shuffle(copy, ThreadLocalRandom.current());
+        return copy.toArray(CatalogItem[]::new);
+    }
+}
@@ -0,0 +1,60 @@
+package com.joycrew.backend.catalog;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 카탈로그 검색용 문자열 처리 (정규화, 초성 변환, 초성 섞인 부분 일치).
+ * 초성: 완성형 한글 음절(가~힣)의 첫 자음을 호환 자모(ㄱ~ㅎ)로 바꾼 것. "아메리카노" → "ㅇㅁㄹㅋㄴ"
+ */
+final class SearchText {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private SearchText() {
+    }
+
+    /** NFC(맥 등에서 오는 자모 분리형 입력 결합) + 소문자 + 공백 제거 */
+    static String normalize(String s) {
+        if (s == null) return "";
+        String nfc = Normalizer.normalize(s, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /** 한글 음절이면 초성, 아니면 그대로 */
+    static char choseong(char c) {
+        if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) return c;
+        return CHOSEONG.charAt((c - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSEONG);
+    }
+
+    /** 검색어의 단독 자음(초성 입력)인지 */
+    static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    /** 검색어 글자 q가 본문 글자 t와 맞는지: 단독 초성은 그 초성으로 시작하는 음절과도 맞는다 */
+    static boolean charMatches(char q, char t) {
+        return q == t || (isChoseong(q) && choseong(t) == q);
+    }
+
+    /** 정규화된 본문에서 term이 처음 맞는 위치, 없으면 -1 ("아메ㄹ" 은 "아메리카노" 의 0) */
+    static int indexOf(String text, String term) {
+        int last = text.length() - term.length();
+        outer:
+        for (int i = 0; i <= last; i++) {
+            for (int j = 0; j < term.length(); j++) {
+                if (!charMatches(term.charAt(j), text.charAt(i + j))) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
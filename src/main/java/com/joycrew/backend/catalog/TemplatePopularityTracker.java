@@ -0,0 +1,207 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.enums.SortOption;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+import com.joycrew.backend.entity.kakao.TemplatePopularity;
+import com.joycrew.backend.event.OrderPlacedEvent;
+import com.joycrew.backend.repository.OrderRepository;
+import com.joycrew.backend.repository.OrderRepository.PlacedOrder;
+import com.joycrew.backend.repository.TemplatePopularityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 인기도 집계.
+ * - PLACED 주문 이벤트마다 메모리의 templateId → 가중치 합에 더하고, flush-ms 마다 template_popularity에 덧셈으로 반영
+ * - 가중치 = 2^((주문 시각 - 기준 시각) / 반감기): 오래된 주문은 새 주문 대비 반감기마다 절반으로 줄어드는 것과 같아
+ *   주기적인 감쇠 UPDATE 없이 점수 비교만으로 "최근 주문이 많은 순"이 된다. 파드마다 더해도 합이 같다.
+ * - 기준 시각은 EPOCH에서 ERA_HALF_LIVES 반감기마다 앞으로 옮기고, 그때 저장된 점수에 같은 비율을 곱한다 (rebase).
+ *   그래서 반감기가 짧거나 시간이 오래 지나도 가중치가 2^ERA_HALF_LIVES 근처에 머물러 double이 넘치지 않는다.
+ *   메모리의 미반영분은 가중치의 log2 로 쌓아 기준 시각과 무관하게 유한하다.
+ * - 테이블이 비어 있으면 기동 시 window-days 안의 PLACED 주문으로 한 번 채운다.
+ * 정렬 자체는 CatalogSnapshotStore가 이 테이블을 읽어 스냅샷에 반영한다 (요청 경로에서 주문 테이블을 조회하지 않음).
+ * 메트릭: catalog.popularity.flushed, catalog.popularity.pending
+ */
+@Slf4j
+@Component
+public class TemplatePopularityTracker {
+
+    // 최초 기준 시각. 실제 기준 시각은 여기서 era 단위로만 움직이므로 파드마다 같은 값을 계산한다.
+    static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    // 한 기준 시각을 쓰는 기간 (반감기 수). 그 안에서 주문 하나의 가중치는 최대 2^32
+    static final int ERA_HALF_LIVES = 32;
+
+    private final TemplatePopularityRepository popularityRepository;
+    private final OrderRepository orderRepository;
+    private final CatalogSnapshotStore snapshotStore;
+    private final TransactionTemplate transactionTemplate;
+    private final double halfLifeHours;
+    private final long eraSeconds;
+    private final int windowDays;
+
+    // templateId → 아직 DB에 반영하지 않은 가중치 합의 log2 (merge/remove가 키 단위로 원자적)
+    private final ConcurrentHashMap<String, Double> pending = new ConcurrentHashMap<>();
+
+    private final Counter flushed;
+
+    public TemplatePopularityTracker(TemplatePopularityRepository popularityRepository,
+                                     OrderRepository orderRepository,
+                                     CatalogSnapshotStore snapshotStore,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${catalog.popularity.half-life-hours:168}") double halfLifeHours,
+                                     @Value("${catalog.popularity.window-days:30}") int windowDays,
+                                     MeterRegistry meterRegistry) {
+        if (!Double.isFinite(halfLifeHours) || halfLifeHours * 3600 < 1) {
+            throw new IllegalArgumentException(
+                    "catalog.popularity.half-life-hours must be a finite number of at least one second: " + halfLifeHours);
+        }
+        this.popularityRepository = popularityRepository;
+        this.orderRepository = orderRepository;
+        this.snapshotStore = snapshotStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.halfLifeHours = halfLifeHours;
+        this.eraSeconds = Math.max(1, Math.round(halfLifeHours * 3600 * ERA_HALF_LIVES));
+        this.windowDays = windowDays;
+
+        this.flushed = Counter.builder("catalog.popularity.flushed")
+                .description("Template popularity deltas written to template_popularity")
+                .register(meterRegistry);
+        Gauge.builder("catalog.popularity.pending", pending, Map::size)
+                .description("Templates with popularity not yet flushed")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.getTemplateId(), LocalDateTime.now());
+    }
+
+    void record(String templateId, LocalDateTime orderedAt) {
+        if (templateId == null) return;
+        pending.merge(templateId, logWeight(orderedAt), TemplatePopularityTracker::logSum);
+    }
+
+    /** 주문 시각의 가중치를 epoch 기준으로 */
+    double weight(LocalDateTime orderedAt, LocalDateTime epoch) {
+        return Math.pow(2, logWeight(orderedAt) - logWeight(epoch));
+    }
+
+    /** 시각 t 에 쓰는 기준 시각: EPOCH + era의 정수 배 */
+    LocalDateTime epochAt(LocalDateTime t) {
+        long eras = Math.floorDiv(Duration.between(EPOCH, t).toSeconds(), eraSeconds);
+        return EPOCH.plusSeconds(eras * eraSeconds);
+    }
+
+    // log2(EPOCH 기준 가중치) = 지난 반감기 수. 넘치지 않는다.
+    private double logWeight(LocalDateTime t) {
+        return Duration.between(EPOCH, t).toSeconds() / 3600.0 / halfLifeHours;
+    }
+
+    // log2(2^a + 2^b)
+    static double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.pow(2, Math.min(a, b) - max)) / Math.log(2);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.popularity.flush-ms:60000}",
+            initialDelayString = "${catalog.popularity.flush-ms:60000}")
+    public void flush() {
+        flush(LocalDateTime.now());
+    }
+
+    void flush(LocalDateTime now) {
+        if (pending.isEmpty()) return;
+
+        Map<String, Double> drained = new HashMap<>();
+        for (String templateId : pending.keySet()) {
+            Double delta = pending.remove(templateId);
+            if (delta != null) drained.put(templateId, delta);
+        }
+        if (drained.isEmpty()) return;
+
+        try {
+            write(drained, now);
+            flushed.increment(drained.size());
+        } catch (RuntimeException e) {
+            // 실패한 가중치는 되돌려 두고 다음 주기에 다시 반영
+            drained.forEach((templateId, delta) -> pending.merge(templateId, delta, TemplatePopularityTracker::logSum));
+            log.warn("Template popularity flush failed for {} template(s): {}", drained.size(), e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (popularityRepository.count() > 0) return;
+
+            LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+            List<PlacedOrder> orders = orderRepository.findPlacedSince(since);
+            if (orders.isEmpty()) return;
+
+            // Order에는 템플릿 ID의 해시(productId)만 남으므로 현재 카탈로그로 역매핑한다
+            Map<Long, String> templateIds = new HashMap<>();
+            for (CatalogItem item : snapshotStore.current().list(null, SortOption.NEW)) {
+                templateIds.put(KakaoTemplate.productIdOf(item.templateId()), item.templateId());
+            }
+            Map<String, Double> scores = new HashMap<>();
+            for (PlacedOrder order : orders) {
+                String templateId = templateIds.get(order.getProductId());
+                if (templateId != null) {
+                    scores.merge(templateId, logWeight(order.getOrderedAt()), TemplatePopularityTracker::logSum);
+                }
+            }
+            if (scores.isEmpty()) return;
+
+            write(scores, LocalDateTime.now());
+            snapshotStore.reload();
+            log.info("Template popularity backfilled from {} order(s) over {} day(s): {} template(s)",
+                    orders.size(), windowDays, scores.size());
+        } catch (RuntimeException e) {
+            log.warn("Template popularity backfill failed: {}", e.getMessage());
+        }
+    }
+
+    // logDeltas: templateId → 더할 가중치 합의 log2
+    private void write(Map<String, Double> logDeltas, LocalDateTime now) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 시계가 앞선 파드가 이미 기준 시각을 옮겼으면 그 기준을 따른다
+            LocalDateTime epoch = epochAt(now);
+            LocalDateTime latest = popularityRepository.findLatestEpoch();
+            if (latest != null && latest.isAfter(epoch)) epoch = latest;
+            rebase(epoch, now);
+
+            double logEpoch = logWeight(epoch);
+            for (Map.Entry<String, Double> e : logDeltas.entrySet()) {
+                double delta = Math.pow(2, e.getValue() - logEpoch);
+                if (popularityRepository.addScore(e.getKey(), delta, epoch, now) == 0) {
+                    popularityRepository.save(new TemplatePopularity(e.getKey(), delta, epoch, now));
+                }
+            }
+        });
+    }
+
+    // 이전 기준 시각의 행을 epoch 기준으로 환산 (오래된 기준의 점수는 0으로 수렴할 뿐 넘치지 않는다)
+    private void rebase(LocalDateTime epoch, LocalDateTime now) {
+        for (LocalDateTime from : popularityRepository.findEpochsBefore(epoch)) {
+            int rows = popularityRepository.rebase(from, epoch, weight(from, epoch), now);
+            log.info("Template popularity rebased from {} to {}: {} template(s)", from, epoch, rows);
+        }
+    }
+}
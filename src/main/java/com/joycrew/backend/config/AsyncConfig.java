@@ -1,24 +1,134 @@
 package com.joycrew.backend.config;
 
+import com.joycrew.backend.config.AsyncExecutorProperties.Pool;
+import com.joycrew.backend.config.AsyncExecutorProperties.RejectionPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 작업 종류별 비동기 실행기.
+ * - taskExecutor: 기본(@Async 이름 미지정)
+ * - notificationExecutor: 포인트 선물 알림 저장/SSE 푸시
+ * - mailExecutor: 메일 발송
+ * - externalCallExecutor: 외부 API 호출
+ * 크기와 거절 정책은 async.executors.&lt;name&gt; 으로 설정한다.
+ * 메트릭(name=빈 이름): 풀 게이지(executor.active, executor.queued 등, 스프링 부트가 등록),
+ * executor.rejected, executor.idle(큐 대기 시간), executor(실행 시간).
+ */
+@Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
 
+  private final AsyncExecutorProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Environment environment;
+
   @Bean(name = "taskExecutor")
   public Executor taskExecutor() {
+    return buildExecutor("taskExecutor", "default", "Async-");
+  }
+
+  @Bean(name = "notificationExecutor")
+  public Executor notificationExecutor() {
+    return buildExecutor("notificationExecutor", "notifications", "Notify-");
+  }
+
+  @Bean(name = "mailExecutor")
+  public Executor mailExecutor() {
+    return buildExecutor("mailExecutor", "mail", "Mail-");
+  }
+
+  @Bean(name = "externalCallExecutor")
+  public Executor externalCallExecutor() {
+    return buildExecutor("externalCallExecutor", "external-calls", "External-");
+  }
+
+  /**
+   * @param name 메트릭 name 태그. 스프링 부트가 풀 게이지(executor.active, executor.queued ...)를
+   *             빈 이름으로 등록하므로 같은 값을 사용한다.
+   */
+  Executor buildExecutor(String name, String poolKey, String threadNamePrefix) {
+    Pool pool = properties.pool(poolKey);
+    TaskDecorator decorator = instrumented(name, new ContextPropagatingTaskDecorator());
+
+    // spring.threads.virtual.enabled=true 이고 JDK 21 이상이면 가상 스레드 사용
+    // (Tomcat 요청 처리와 @Scheduled 스케줄러는 Spring Boot가 같은 설정으로 전환)
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+      executor.setVirtualThreads(true);
+      // 풀 크기 대신 동시 실행 수로 상한 (DB 커넥션 풀/외부 API 보호)
+      executor.setConcurrencyLimit(pool.getVirtualConcurrencyLimit());
+      executor.setTaskDecorator(decorator);
+      return executor;
+    }
+
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setCorePoolSize(5);
-    executor.setMaxPoolSize(10);
-    executor.setQueueCapacity(25);
-    executor.setThreadNamePrefix("Async-");
+    executor.setCorePoolSize(pool.getCoreSize());
+    executor.setMaxPoolSize(pool.getMaxSize());
+    executor.setQueueCapacity(pool.getQueueCapacity());
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.setRejectedExecutionHandler(rejectionHandler(name, pool.getRejectionPolicy()));
+    // 테넌트/인증/MDC를 비동기 스레드로 전파 (@Async 리스너에서 테넌트 범위 조회 가능)
+    executor.setTaskDecorator(decorator);
     executor.initialize();
     return executor;
   }
+
+  /** 큐 대기 시간(executor.idle)과 실행 시간(executor)을 기록 (Micrometer TimedExecutor와 같은 이름) */
+  private TaskDecorator instrumented(String name, TaskDecorator delegate) {
+    Timer waitTimer = Timer.builder("executor.idle").tag("name", name)
+        .description("Time tasks spend queued before they start")
+        .register(meterRegistry);
+    Timer runTimer = Timer.builder("executor").tag("name", name)
+        .description("Task execution time")
+        .register(meterRegistry);
+
+    return runnable -> {
+      Runnable decorated = delegate.decorate(runnable);
+      long submittedAt = System.nanoTime();
+      return () -> {
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+        try {
+          decorated.run();
+        } finally {
+          runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+      };
+    };
+  }
+
+  private RejectedExecutionHandler rejectionHandler(String name, RejectionPolicy policy) {
+    Counter rejected = Counter.builder("executor.rejected").tag("name", name)
+        .tag("policy", policy.name().toLowerCase())
+        .description("Tasks that did not fit in the executor queue")
+        .register(meterRegistry);
+    RejectedExecutionHandler delegate = (policy == RejectionPolicy.CALLER_RUNS)
+        ? new ThreadPoolExecutor.CallerRunsPolicy()
+        : new ThreadPoolExecutor.AbortPolicy();
+
+    return (task, executor) -> {
+      rejected.increment();
+      log.warn("Executor '{}' saturated (queue={}), policy={}", name, executor.getQueue().size(), policy);
+      delegate.rejectedExecution(task, executor);
+    };
+  }
 }
@@ -0,0 +1,42 @@
+package com.joycrew.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 작업 종류별 비동기 실행기 설정 (async.executors.&lt;name&gt;.*).
+ * 설정이 없는 실행기는 Pool 기본값을 사용한다.
+ */
+@Getter @Setter
+@Component
+@ConfigurationProperties("async")
+public class AsyncExecutorProperties {
+
+    private Map<String, Pool> executors = new LinkedHashMap<>();
+
+    public Pool pool(String name) {
+        return executors.getOrDefault(name, new Pool());
+    }
+
+    @Getter @Setter
+    public static class Pool {
+        private int coreSize = 5;
+        private int maxSize = 10;
+        private int queueCapacity = 25;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        // 가상 스레드 모드에서는 풀 대신 동시 실행 수 상한만 적용
+        private int virtualConcurrencyLimit = 200;
+    }
+
+    public enum RejectionPolicy {
+        /** 큐가 가득 차면 제출한 스레드에서 직접 실행 (요청 처리 속도를 늦춰 역압 전달) */
+        CALLER_RUNS,
+        /** 큐가 가득 차면 TaskRejectedException (호출 측에서 처리) */
+        ABORT
+    }
+}
@@ -0,0 +1,48 @@
+package com.joycrew.backend.config;
+
+import com.joycrew.backend.tenant.TenantContext;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * 작업을 제출한 스레드의 컨텍스트(테넌트, 인증 정보, MDC)를 비동기 작업 스레드로 복사한다.
+ * 작업이 끝나면 워커 스레드의 이전 상태로 되돌려 풀 스레드 간 누수를 막는다.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    Long tenantId = TenantContext.get();
+    // 요청 스레드가 끝나며 컨텍스트를 정리해도 영향받지 않도록 인증 정보만 새 컨텍스트로 복사
+    SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+    securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+    return () -> {
+      Long previousTenant = TenantContext.get();
+      SecurityContext previousSecurity = SecurityContextHolder.getContext();
+      Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+      try {
+        set(tenantId, securityContext, mdc);
+        runnable.run();
+      } finally {
+        set(previousTenant, previousSecurity, previousMdc);
+      }
+    };
+  }
+
+  private static void set(Long tenantId, SecurityContext securityContext, Map<String, String> mdc) {
+    if (tenantId != null) TenantContext.set(tenantId);
+    else TenantContext.clear();
+
+    if (securityContext != null) SecurityContextHolder.setContext(securityContext);
+    else SecurityContextHolder.clearContext();
+
+    if (mdc != null) MDC.setContextMap(mdc);
+    else MDC.clear();
+  }
+}
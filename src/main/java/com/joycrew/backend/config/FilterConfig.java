@@ -1,11 +1,19 @@
 // src/main/java/com/joycrew/backend/config/FilterConfig.java
 package com.joycrew.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joycrew.backend.idempotency.IdempotencyFilter;
+import com.joycrew.backend.idempotency.IdempotencyStore;
 import com.joycrew.backend.tenant.DomainTenantFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class FilterConfig {
 
@@ -17,4 +25,18 @@ public class FilterConfig {
         reg.addUrlPatterns("/*");  // 전 요청 적용
         return reg;
     }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(
+            IdempotencyStore store,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<IdempotencyFilter> reg = new FilterRegistrationBean<>();
+        reg.setFilter(new IdempotencyFilter(store, objectMapper, Duration.ofMillis(waitTimeoutMs), meterRegistry));
+        reg.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1); // 인증(SecurityFilterChain) 이후 → 직원별 키 범위
+        // 포인트를 움직이는 POST만 (선물, 구매, 대량 지급)
+        reg.addUrlPatterns("/api/gift-points", "/api/orders", "/api/admin/employees/points/distribute");
+        return reg;
+    }
 }
@@ -1,30 +1,97 @@
 package com.joycrew.backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
+/**
+ * Kakao GiftBiz 전용 HTTP 클라이언트.
+ * - Apache HttpClient 5 커넥션 풀(HTTP/1.1 keep-alive): 요청마다 TCP/TLS 핸드셰이크를 반복하지 않는다.
+ * - 유휴/만료 커넥션은 백그라운드에서 정리하고, 오래 쉰 커넥션은 재사용 전에 검증한다.
+ * - 응답 본문은 버퍼링 팩토리 없이 스트리밍으로 읽는다.
+ * - 메트릭: http.client.requests(uri 태그 = 엔드포인트), httpcomponents.httpclient.pool.*(client=kakao-giftbiz)
+ */
 @Configuration
 public class KakaoGiftBizClientConfig {
 
+    static final String METRICS_NAME = "kakao-giftbiz";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager kakaoGiftBizConnectionManager(
+            @Value("${kakao.giftbiz.timeout-ms:5000}") long timeoutMs,
+            @Value("${kakao.giftbiz.pool.max-total:50}") int maxTotal,
+            @Value("${kakao.giftbiz.pool.max-per-route:20}") int maxPerRoute,
+            @Value("${kakao.giftbiz.pool.time-to-live-seconds:300}") long timeToLiveSeconds,
+            @Value("${kakao.giftbiz.pool.validate-after-inactivity-ms:2000}") long validateAfterInactivityMs,
+            MeterRegistry meterRegistry) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                // LIFO: 최근에 쓴(살아 있는) 커넥션부터 재사용 → 유휴 커넥션은 자연스럽게 만료
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(timeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(timeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, METRICS_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient kakaoGiftBizHttpClient(
+            @Qualifier("kakaoGiftBizConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            @Value("${kakao.giftbiz.timeout-ms:5000}") long timeoutMs,
+            @Value("${kakao.giftbiz.pool.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+            @Value("${kakao.giftbiz.pool.idle-evict-seconds:30}") long idleEvictSeconds) {
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(timeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                // 선물 주문은 멱등이 아니므로 자동 재시도하지 않음
+                .disableAutomaticRetries()
+                .setUserAgent("JoyCrewBackend/1.0")
+                .build();
+    }
+
     @Bean
     public RestTemplate kakaoGiftBizRestTemplate(
-            @Value("${kakao.giftbiz.timeout-ms:5000}") long timeoutMs) {
-
-        var factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout((int) timeoutMs);
-        factory.setReadTimeout((int) timeoutMs);
+            RestTemplateBuilder restTemplateBuilder,
+            @Qualifier("kakaoGiftBizHttpClient") CloseableHttpClient httpClient,
+            @Value("${kakao.giftbiz.base-url}") String baseUrl) {
 
-        return new RestTemplateBuilder()
-                .requestFactory(() -> new BufferingClientHttpRequestFactory(factory))
-                .setConnectTimeout(Duration.ofMillis(timeoutMs))
-                .setReadTimeout(Duration.ofMillis(timeoutMs))
+        // 부트가 구성한 빌더를 사용해야 http.client.requests 메트릭이 붙는다.
+        // rootUri + 상대 경로 템플릿으로 호출하므로 uri 태그가 엔드포인트 단위로 기록된다.
+        return restTemplateBuilder
+                .rootUri(baseUrl)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
                 .build();
     }
 }
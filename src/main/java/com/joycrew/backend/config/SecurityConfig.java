@@ -5,6 +5,10 @@ import com.joycrew.backend.entity.enums.AdminLevel;
 import com.joycrew.backend.security.EmployeeDetailsService;
 import com.joycrew.backend.security.JwtAuthenticationFilter;
 import com.joycrew.backend.security.JwtUtil;
+import com.joycrew.backend.security.PrincipalCache;
+import com.joycrew.backend.security.PublicRouteRegistry;
+import com.joycrew.backend.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +23,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -34,6 +41,10 @@ public class SecurityConfig {
   private final JwtUtil jwtUtil;
   private final EmployeeDetailsService employeeDetailsService;
   private final ObjectMapper objectMapper;
+  private final PrincipalCache principalCache;
+  private final TokenVersionRegistry tokenVersionRegistry;
+  private final PublicRouteRegistry publicRouteRegistry;
+  private final MeterRegistry meterRegistry;
 
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -44,34 +55,30 @@ public class SecurityConfig {
                     .frameOptions(frameOptions -> frameOptions.disable()))
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                    .requestMatchers(
-                            "/",
-                            "/error",
-                            "/actuator/health",
-                            "/h2-console/**",
-                            "/api/auth/login",
-                            "/api/auth/logout",
-                            "/api/auth/password-reset/request",
-                            "/api/auth/password-reset/confirm",
-                            "/v3/api-docs/**",
-                            "/swagger-ui/**",
-                            "/swagger-ui.html",
-                            "/api/kyc/phone/**",
-                            "/accounts/emails/by-phone"
-                    ).permitAll()
-                    .requestMatchers(HttpMethod.GET, "/api/catalog/**").permitAll()
+                    // 공개 경로는 JWT 필터와 같은 목록을 사용 (PublicRouteRegistry)
+                    .requestMatchers(publicRoutes()).permitAll()
                     .requestMatchers("/api/admin/**").hasAuthority(AdminLevel.SUPER_ADMIN.name())
                     .anyRequest().authenticated()
             )
 
             .sessionManagement(session -> session
                     .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, employeeDetailsService),
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, employeeDetailsService, principalCache,
+                            tokenVersionRegistry, publicRouteRegistry, meterRegistry),
                     UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
   }
 
+  private RequestMatcher publicRoutes() {
+    List<RequestMatcher> matchers = publicRouteRegistry.routes().stream()
+            .map(route -> (RequestMatcher) (route.method() == null
+                    ? AntPathRequestMatcher.antMatcher(route.pattern())
+                    : AntPathRequestMatcher.antMatcher(route.method(), route.pattern())))
+            .toList();
+    return new OrRequestMatcher(matchers);
+  }
+
   @Bean
   public CorsConfigurationSource corsConfigurationSource() {
     CorsConfiguration config = new CorsConfiguration();
@@ -0,0 +1,84 @@
+package com.joycrew.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 토스페이먼츠 전용 HTTP 클라이언트 (빌링키 발급, 자동결제 승인).
+ * 연결/응답 타임아웃이 있는 커넥션 풀을 사용해 야간 자동결제가 느린 소켓에 묶이지 않도록 한다.
+ */
+@Configuration
+public class TossClientConfig {
+
+    static final String METRICS_NAME = "toss";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager tossConnectionManager(
+            @Value("${toss.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${toss.http.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${toss.http.max-total:20}") int maxTotal,
+            @Value("${toss.http.max-per-route:10}") int maxPerRoute,
+            MeterRegistry meterRegistry) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, METRICS_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient tossHttpClient(
+            @Qualifier("tossConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            @Value("${toss.http.read-timeout-ms:30000}") long readTimeoutMs) {
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofSeconds(1))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                // 결제 승인은 멱등이 보장되지 않으므로 자동 재시도하지 않음
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate tossRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            @Qualifier("tossHttpClient") CloseableHttpClient httpClient,
+            @Value("${toss.base-url:https://api.tosspayments.com}") String baseUrl) {
+
+        return restTemplateBuilder
+                .rootUri(baseUrl)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+}
@@ -20,6 +20,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
+
 @Tag(name = "Employee Administration", description = "APIs for HR administrators to manage employees.")
 @RestController
 @RequestMapping("/api/admin/employees")
@@ -121,13 +123,21 @@ public class AdminEmployeeController {
     return ResponseEntity.ok(new SuccessResponse("Employee successfully deactivated."));
   }
 
-  @Operation(summary = "Distribute or revoke points in bulk", description = "Use a positive value for 'points' to distribute, and a negative value to revoke.", security = @SecurityRequirement(name = "Authorization"))
+  @Operation(summary = "Distribute or revoke points in bulk", description = "Use a positive value for 'points' to distribute, and a negative value to revoke. The distribution runs as a background job; poll the returned job id for progress.", security = @SecurityRequirement(name = "Authorization"))
   @PostMapping("/points/distribute")
-  public ResponseEntity<SuccessResponse> distributePoints(
+  public ResponseEntity<PointDistributionJobResponse> distributePoints(
       @Valid @RequestBody AdminPointDistributionRequest request,
       @AuthenticationPrincipal UserPrincipal principal) {
-    pointService.distributePoints(request, principal.getEmployee());
-    return ResponseEntity.ok(new SuccessResponse("Point distribution process completed successfully."));
+    PointDistributionJobResponse job = pointService.enqueueDistribution(request, principal.getEmployeeId());
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/admin/employees/points/distribute/jobs/" + job.jobId()))
+        .body(job);
+  }
+
+  @Operation(summary = "Get point distribution job progress", description = "Returns the status, committed recipient count and failure message of a distribution job.", security = @SecurityRequirement(name = "Authorization"))
+  @GetMapping("/points/distribute/jobs/{jobId}")
+  public ResponseEntity<PointDistributionJobResponse> getDistributionJob(@PathVariable Long jobId) {
+    return ResponseEntity.ok(pointService.getDistributionJob(jobId));
   }
 
   @Operation(summary = "Get admin's personal and company point balance", description = "Gets the admin's personal wallet balance and the total budget of the company they belong to.", security = @SecurityRequirement(name = "Authorization"))
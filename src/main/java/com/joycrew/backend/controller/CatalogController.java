@@ -1,5 +1,6 @@
 package com.joycrew.backend.controller;
 
+import com.joycrew.backend.catalog.CatalogHttpCache;
 import com.joycrew.backend.dto.kakao.ExternalProductDetailResponse;
 import com.joycrew.backend.dto.kakao.ExternalProductResponse;
 import com.joycrew.backend.dto.kakao.PagedCatalogResponse;
@@ -7,8 +8,10 @@ import com.joycrew.backend.entity.enums.GiftCategory;
 import com.joycrew.backend.entity.enums.SortOption;
 import com.joycrew.backend.service.ExternalCatalogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,33 +22,39 @@ public class CatalogController {
 
     // (참고: 사장님 코드에서 변수명이 catalog 였는데, catalogService로 바꿨습니다.)
     private final ExternalCatalogService catalogService;
+    private final CatalogHttpCache httpCache;
 
     /**
      * 추천 상품 (랜덤) - 이건 List가 맞음 (수정 X)
+     * 요청마다 순환 목록의 다음 상품을 주므로 캐시하지 않는다.
      */
     @GetMapping(value = "/featured", produces = "application/json; charset=UTF-8")
     public ResponseEntity<List<ExternalProductResponse>> getFeaturedProducts() {
-        return ResponseEntity.ok(catalogService.getFeaturedProducts());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(catalogService.getFeaturedProducts());
     }
 
     /**
-     * [수정] 카테고리 없이 이름으로만 전체 상품 검색
+     * [수정] 카테고리 없이 상품명/브랜드로 전체 상품 검색 (초성 검색 지원, 기본 정렬 = 관련도순)
      * (반환 타입을 List -> PagedCatalogResponse 로 변경)
+     * (카탈로그 버전 ETag로 조건부 요청 처리: 바뀐 게 없으면 본문 없이 304)
      */
     @GetMapping(value = "/search", produces = "application/json; charset=UTF-8")
     public ResponseEntity<PagedCatalogResponse> searchProducts( // [수정] 반환 타입
                                                                 @RequestParam String searchName,
                                                                 @RequestParam(defaultValue = "0") int page,
                                                                 @RequestParam(defaultValue = "20") int size,
-                                                                @RequestParam(defaultValue = "POPULAR") SortOption sort
+                                                                @RequestParam(defaultValue = "RELEVANCE") SortOption sort,
+                                                                WebRequest request
     ) {
-        PagedCatalogResponse response = catalogService.searchProductsByName(searchName, page, size, sort); // [수정]
-        return ResponseEntity.ok(response);
+        return httpCache.respond(request, () -> catalogService.searchProductsByName(searchName, page, size, sort)); // [수정]
     }
 
     /**
      * [수정] 카테고리별 상품 조회 (검색 포함)
      * (반환 타입을 List -> PagedCatalogResponse 로 변경)
+     * (카탈로그 버전 ETag로 조건부 요청 처리: 바뀐 게 없으면 본문 없이 304)
      */
     @GetMapping(value = "/kakao/{category}", produces = "application/json; charset=UTF-8")
     public ResponseEntity<PagedCatalogResponse> listKakaoByCategory( // [수정] 반환 타입
@@ -53,7 +62,8 @@ public class CatalogController {
                                                                      @RequestParam(defaultValue = "0") int page,
                                                                      @RequestParam(defaultValue = "20") int size,
                                                                      @RequestParam(defaultValue = "POPULAR") SortOption sort,
-                                                                     @RequestParam(required = false) String searchName
+                                                                     @RequestParam(required = false) String searchName,
+                                                                     WebRequest request
     ) {
         GiftCategory gc;
         try {
@@ -63,8 +73,7 @@ public class CatalogController {
             return ResponseEntity.badRequest().build(); // 잘못된 카테고리명
         }
 
-        PagedCatalogResponse response = catalogService.listByCategory(gc, page, size, sort, searchName); // [수정]
-        return ResponseEntity.ok(response);
+        return httpCache.respond(request, () -> catalogService.listByCategory(gc, page, size, sort, searchName)); // [수정]
     }
 
     /**
@@ -73,9 +82,9 @@ public class CatalogController {
      */
     @GetMapping(value = "/kakao/product/{templateId}", produces = "application/json; charset=UTF-8")
     public ResponseEntity<ExternalProductDetailResponse> getProductDetail(
-            @PathVariable String templateId
+            @PathVariable String templateId,
+            WebRequest request
     ) {
-        var resp = catalogService.getDetailWithPoints(templateId);
-        return resp == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(resp);
+        return httpCache.respond(request, () -> catalogService.getDetailWithPoints(templateId));
     }
 }
\ No newline at end of file
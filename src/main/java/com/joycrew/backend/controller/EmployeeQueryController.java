@@ -48,11 +48,10 @@ public class EmployeeQueryController {
             @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal UserPrincipal principal
     ) {
-        var me = principal.getEmployee();
         PagedEmployeeResponse response = employeeQueryService.getEmployees(
                 keyword, page, size,
-                me.getEmployeeId(),
-                me.getRole() // 요청자 역할 전달
+                principal.getEmployeeId(),
+                principal.getRole() // 요청자 역할 전달
         );
         return ResponseEntity.ok(response);
     }
@@ -26,7 +26,7 @@ public class OrderController {
             @AuthenticationPrincipal UserPrincipal principal,
             @RequestBody CreateOrderRequest request
     ) {
-        Long employeeId = principal.getEmployee().getEmployeeId();
+        Long employeeId = principal.getEmployeeId();
         return ResponseEntity.ok(giftPurchaseService.purchaseWithPoints(employeeId, request));
     }
 
@@ -36,7 +36,7 @@ public class OrderController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        Long employeeId = principal.getEmployee().getEmployeeId();
+        Long employeeId = principal.getEmployeeId();
         return ResponseEntity.ok(orderService.getMyOrders(employeeId, page, size));
     }
 
@@ -45,7 +45,7 @@ public class OrderController {
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable Long orderId
     ) {
-        Long employeeId = principal.getEmployee().getEmployeeId();
+        Long employeeId = principal.getEmployeeId();
         return ResponseEntity.ok(orderService.getMyOrderDetail(employeeId, orderId));
     }
 }
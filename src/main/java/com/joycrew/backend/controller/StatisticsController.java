@@ -1,9 +1,12 @@
 package com.joycrew.backend.controller;
 
+import com.joycrew.backend.dto.PagedResponse;
 import com.joycrew.backend.dto.PointStatisticsResponse;
+import com.joycrew.backend.dto.TransactionHistoryResponse;
 import com.joycrew.backend.security.UserPrincipal;
 import com.joycrew.backend.service.StatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Statistics", description = "포인트 및 활동 통계 API")
@@ -21,12 +25,24 @@ public class StatisticsController {
 
   private final StatisticsService statisticsService;
 
-  @Operation(summary = "내 포인트 통계 조회", description = "로그인된 사용자의 주고받은 포인트 및 태그 통계를 조회합니다.", security = @SecurityRequirement(name = "Authorization"))
+  @Operation(summary = "내 포인트 통계 조회", description = "로그인된 사용자의 주고받은 포인트, 태그, 월별 통계와 최근 거래 내역을 조회합니다.", security = @SecurityRequirement(name = "Authorization"))
   @GetMapping("/me")
   public ResponseEntity<PointStatisticsResponse> getMyStatistics(
-      @AuthenticationPrincipal UserPrincipal principal
+      @AuthenticationPrincipal UserPrincipal principal,
+      @Parameter(description = "함께 반환할 최근 거래 내역 수 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int historySize
   ) {
-    PointStatisticsResponse stats = statisticsService.getPointStatistics(principal.getUsername());
+    PointStatisticsResponse stats = statisticsService.getPointStatistics(principal.getUsername(), historySize);
     return ResponseEntity.ok(stats);
   }
+
+  @Operation(summary = "내 포인트 거래 내역 조회 (페이지)", description = "받은(RECEIVED) 또는 보낸(SENT) 포인트 거래 내역을 최신순으로 조회합니다.", security = @SecurityRequirement(name = "Authorization"))
+  @GetMapping("/me/transactions")
+  public ResponseEntity<PagedResponse<TransactionHistoryResponse>> getMyTransactions(
+      @AuthenticationPrincipal UserPrincipal principal,
+      @Parameter(description = "RECEIVED 또는 SENT") @RequestParam(defaultValue = "RECEIVED") StatisticsService.Direction direction,
+      @Parameter(description = "페이지 번호 (0부터)", example = "0") @RequestParam(defaultValue = "0") int page,
+      @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size
+  ) {
+    return ResponseEntity.ok(statisticsService.getTransactionHistory(principal.getUsername(), direction, page, size));
+  }
 }
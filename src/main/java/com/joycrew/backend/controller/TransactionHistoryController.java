@@ -1,9 +1,11 @@
 package com.joycrew.backend.controller;
 
-import com.joycrew.backend.dto.TransactionHistoryResponse;
+import com.joycrew.backend.dto.TransactionHistoryPageResponse;
+import com.joycrew.backend.entity.enums.TransactionType;
 import com.joycrew.backend.security.UserPrincipal;
 import com.joycrew.backend.service.TransactionHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -23,11 +26,15 @@ public class TransactionHistoryController {
 
   private final TransactionHistoryService transactionHistoryService;
 
-  @Operation(summary = "Get point transaction history", security = @SecurityRequirement(name = "Authorization"))
+  @Operation(summary = "Get point transaction history", description = "Latest first. Pass the returned nextCursor to get the next page.", security = @SecurityRequirement(name = "Authorization"))
   @GetMapping
-  public ResponseEntity<List<TransactionHistoryResponse>> getMyTransactions(
-      @AuthenticationPrincipal UserPrincipal principal) {
-    List<TransactionHistoryResponse> history = transactionHistoryService.getTransactionHistory(principal.getUsername());
+  public ResponseEntity<TransactionHistoryPageResponse> getMyTransactions(
+      @AuthenticationPrincipal UserPrincipal principal,
+      @Parameter(description = "Transaction types to include (default AWARD_P2P)") @RequestParam(required = false) List<TransactionType> type,
+      @Parameter(description = "nextCursor from the previous page") @RequestParam(required = false) String cursor,
+      @Parameter(description = "Page size (max 100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+    TransactionHistoryPageResponse history =
+        transactionHistoryService.getTransactionHistory(principal.getUsername(), type, cursor, size);
     return ResponseEntity.ok(history);
   }
 }
\ No newline at end of file
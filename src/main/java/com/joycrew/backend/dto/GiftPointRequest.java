@@ -1,7 +1,9 @@
 package com.joycrew.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.joycrew.backend.entity.enums.Tag;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -27,5 +29,13 @@ public record GiftPointRequest(
   @Schema(description = "List of tags to send with the points (min 1, max 3)", example = "[\"TEAMWORK\"]")
   @NotNull(message = "Tags are required.")
   @Size(min = 1, max = 3, message = "Between 1 and 3 tags can be selected.")
-  List<Tag> tags
-) {}
\ No newline at end of file
+  List<@NotNull(message = "Tags cannot contain null.") Tag> tags
+) {
+
+  @JsonIgnore
+  @Schema(hidden = true)
+  @AssertTrue(message = "Tags cannot contain duplicates.")
+  public boolean isTagsDistinct() {
+    return tags == null || tags.stream().distinct().count() == tags.size();
+  }
+}
\ No newline at end of file
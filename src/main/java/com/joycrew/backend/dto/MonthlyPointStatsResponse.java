@@ -0,0 +1,15 @@
+package com.joycrew.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "월간 포인트 통계")
+public record MonthlyPointStatsResponse(
+  @Schema(description = "연월 (yyyy-MM)", example = "2026-10")
+  String month,
+
+  @Schema(description = "해당 월 받은 포인트 합계")
+  long received,
+
+  @Schema(description = "해당 월 보낸 포인트 합계")
+  long sent
+) {}
@@ -0,0 +1,34 @@
+package com.joycrew.backend.dto;
+
+import com.joycrew.backend.entity.PointDistributionJob;
+import com.joycrew.backend.entity.enums.DistributionJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "포인트 대량 지급 작업 진행 상황")
+@Builder
+public record PointDistributionJobResponse(
+        Long jobId,
+        DistributionJobStatus status,
+        int totalCount,
+        int processedCount,
+        String failMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+    public static PointDistributionJobResponse from(PointDistributionJob job) {
+        return PointDistributionJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .totalCount(job.getTotalCount())
+                .processedCount(job.getProcessedCount())
+                .failMessage(job.getFailMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
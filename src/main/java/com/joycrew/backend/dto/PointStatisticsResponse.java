@@ -14,9 +14,12 @@ public record PointStatisticsResponse(
   @Schema(description = "받은 태그 종류 및 횟수 (Enum 순서대로)")
   List<Long> tagCounts,
 
-  @Schema(description = "받은 포인트 거래 내역")
+  @Schema(description = "최근 월별 주고받은 포인트 (최신 월부터)")
+  List<MonthlyPointStatsResponse> monthlyStats,
+
+  @Schema(description = "받은 포인트 거래 내역 (첫 페이지, 전체는 /api/statistics/me/transactions)")
   List<TransactionHistoryResponse> receivedTransactions,
 
-  @Schema(description = "보낸 포인트 거래 내역")
+  @Schema(description = "보낸 포인트 거래 내역 (첫 페이지, 전체는 /api/statistics/me/transactions)")
   List<TransactionHistoryResponse> sentTransactions
-) {}
\ No newline at end of file
+) {}
@@ -0,0 +1,17 @@
+package com.joycrew.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Cursor-paginated transaction history")
+public record TransactionHistoryPageResponse(
+        @Schema(description = "Transactions, latest first")
+        List<TransactionHistoryResponse> content,
+
+        @Schema(description = "Cursor for the next page; null when there are no more transactions")
+        String nextCursor,
+
+        @Schema(description = "Whether more transactions exist after this page")
+        boolean hasNext
+) {}
@@ -0,0 +1,10 @@
+package com.joycrew.backend.dto.toss;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/** 토스 API 오류 응답 */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TossErrorResponse(
+        String code,
+        String message
+) {}
@@ -0,0 +1,17 @@
+package com.joycrew.backend.dto.toss;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.OffsetDateTime;
+
+/** 자동결제 승인 응답 (필요한 필드만 매핑, 나머지는 무시) */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TossPaymentResponse(
+        String paymentKey,
+        String orderId,
+        String status,
+        String method,
+        Long totalAmount,
+        OffsetDateTime requestedAt,
+        OffsetDateTime approvedAt
+) {}
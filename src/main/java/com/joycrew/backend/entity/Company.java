@@ -55,6 +55,10 @@ public class Company {
   @Column(name = "toss_customer_key")
   private String tossCustomerKey;
 
+  // 적립 포인트 유효기간(일). null이면 전역 기본값(points.expiry.default-validity-days)을 따른다.
+  @Column(name = "point_validity_days")
+  private Integer pointValidityDays;
+
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 
@@ -81,6 +85,16 @@ public class Company {
     return this.totalCompanyBalance == null ? 0.0 : this.totalCompanyBalance;
   }
 
+  // -----------------------
+  // Point Expiry Policy
+  // -----------------------
+
+  /** 포인트 유효기간 변경. null이면 전역 기본값, 0이면 이 회사는 만료하지 않음 */
+  public void changePointValidityDays(Integer days) {
+    if (days != null && days < 0) throw new IllegalArgumentException("Point validity days cannot be negative.");
+    this.pointValidityDays = days;
+  }
+
   // -----------------------
   // Subscription Logic
   // -----------------------
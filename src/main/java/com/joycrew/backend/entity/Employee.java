@@ -61,6 +61,11 @@ public class Employee {
   private String timezone;
 
   private LocalDateTime lastLoginAt;
+
+  // JWT 무효화용 버전. 비밀번호/권한/상태 변경 시 증가 → 이전 토큰은 거부됨
+  @Column(columnDefinition = "INT DEFAULT 0")
+  private Integer tokenVersion;
+
   @Column(nullable = false)
   private LocalDateTime createdAt;
   @Column(nullable = false)
@@ -98,6 +103,7 @@ public class Employee {
     this.createdAt = this.updatedAt = LocalDateTime.now();
     if (this.status == null) this.status = "ACTIVE";
     if (this.role == null) this.role = AdminLevel.EMPLOYEE;
+    if (this.tokenVersion == null) this.tokenVersion = 0;
     if (this.emailNotificationEnabled == null) this.emailNotificationEnabled = true;
     if (this.appNotificationEnabled == null) this.appNotificationEnabled = true;
   }
@@ -109,8 +115,18 @@ public class Employee {
     }
     this.updatedAt = LocalDateTime.now();
   }
+  public int getTokenVersion() {
+    return this.tokenVersion == null ? 0 : this.tokenVersion;
+  }
+
+  /** 발급된 모든 JWT를 무효화한다. */
+  public void revokeTokens() {
+    this.tokenVersion = getTokenVersion() + 1;
+  }
+
   public void changePassword(String rawPassword, PasswordEncoder encoder) {
     this.passwordHash = encoder.encode(rawPassword);
+    revokeTokens();
   }
 
   public void updateName(String newName) {
@@ -122,15 +138,18 @@ public class Employee {
   }
 
   public void updateRole(AdminLevel newRole) {
+    if (this.role != newRole) revokeTokens();
     this.role = newRole;
   }
 
   public void updateStatus(String newStatus) {
+    String previous = this.status;
     if (newStatus != null && Arrays.asList("ACTIVE", "INACTIVE", "PENDING").contains(newStatus)) {
       this.status = newStatus;
     } else {
       this.status = "ACTIVE";
     }
+    if (!this.status.equals(previous)) revokeTokens();
   }
 
   public void updateProfileImageUrl(String newUrl) {
@@ -0,0 +1,41 @@
+package com.joycrew.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 직원별 월간 포인트 통계. statMonth = yyyyMM (예: 202610)
+ */
+@Entity
+@Table(name = "employee_monthly_point_stats")
+@IdClass(EmployeeMonthlyPointStats.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class EmployeeMonthlyPointStats {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Id
+    @Column(name = "stat_month")
+    private Integer statMonth;
+
+    @Column(nullable = false)
+    private long received;
+
+    @Column(nullable = false)
+    private long sent;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long employeeId;
+        private Integer statMonth;
+    }
+}
@@ -0,0 +1,31 @@
+package com.joycrew.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직원별 누적 포인트 통계 (거래가 기록될 때 같은 트랜잭션에서 증분 갱신).
+ * 금액은 거래 pointAmount의 부호 있는 합계 (관리자 회수는 음수로 합산된다).
+ */
+@Entity
+@Table(name = "employee_point_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class EmployeePointStats {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private long totalReceived;
+
+    @Column(nullable = false)
+    private long totalSent;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
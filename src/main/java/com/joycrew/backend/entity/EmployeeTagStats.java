@@ -0,0 +1,40 @@
+package com.joycrew.backend.entity;
+
+import com.joycrew.backend.entity.enums.Tag;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 직원이 받은 태그 횟수 (구매 거래 제외).
+ */
+@Entity
+@Table(name = "employee_tag_stats")
+@IdClass(EmployeeTagStats.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class EmployeeTagStats {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tag", length = 30)
+    private Tag tag;
+
+    @Column(name = "tag_count", nullable = false)
+    private long tagCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long employeeId;
+        private Tag tag;
+    }
+}
@@ -0,0 +1,47 @@
+package com.joycrew.backend.entity;
+
+import com.joycrew.backend.entity.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 처리한 요청의 기록.
+ * 키는 (회사, 직원, 헤더 값)으로 범위를 나누고, 같은 키로 다른 요청 본문이 오면 거부하도록 요청 해시를 함께 저장한다.
+ * 처리가 끝나면 응답(상태, 본문, Location)을 저장해 재시도에 그대로 돌려준다. expiresAt 이 지나면 정리된다.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = @Index(name = "idx_idempotency_expires", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 200)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    private Integer responseStatus;
+
+    @Column(length = 100)
+    private String responseContentType;
+
+    @Column(length = 300)
+    private String responseLocation;
+
+    @Lob
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,111 @@
+package com.joycrew.backend.entity;
+
+import com.joycrew.backend.entity.enums.DistributionJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 포인트 대량 지급 작업.
+ * 요청 시점에 대상 목록(payload)과 예산 차감을 저장하고, 워커가 청크 단위로 커밋하며 processedCount를 전진시킨다.
+ * processedCount는 청크와 같은 트랜잭션에서 갱신되므로 워커가 중간에 죽어도 다음 청크부터 중복 없이 재개된다.
+ */
+@Entity
+@Table(name = "point_distribution_job",
+        indexes = {
+                @Index(name = "idx_point_distribution_job_company_id", columnList = "company_id"),
+                @Index(name = "idx_point_distribution_job_status", columnList = "status")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PointDistributionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    // 거래 내역의 sender
+    @Column(name = "admin_id", nullable = false)
+    private Long adminId;
+
+    @Lob
+    private String message;
+
+    // 대상 목록 JSON ([{"employeeId":1,"points":100}, ...])
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DistributionJobStatus status;
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    // 커밋된 대상 수 = 다음에 처리할 인덱스
+    @Column(nullable = false)
+    private int processedCount;
+
+    // 예산에 반영한 순변화량 (실패 시 미처리분을 되돌리는 기준)
+    @Column(nullable = false)
+    private int netPoints;
+
+    @Column(name = "fail_message", length = 500)
+    private String failMessage;
+
+    // 워커가 청크를 커밋할 때마다 갱신. 오래 멈춘 RUNNING 작업은 다른 워커가 이어받는다.
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static PointDistributionJob queued(Company company, Long adminId, String message, String payload,
+                                              int totalCount, int netPoints) {
+        return PointDistributionJob.builder()
+                .company(company)
+                .adminId(adminId)
+                .message(message)
+                .payload(payload)
+                .status(DistributionJobStatus.QUEUED)
+                .totalCount(totalCount)
+                .netPoints(netPoints)
+                .build();
+    }
+
+    public void markCompleted(LocalDateTime now) {
+        this.status = DistributionJobStatus.COMPLETED;
+        this.completedAt = now;
+    }
+
+    public void markFailed(String failMessage, LocalDateTime now) {
+        this.status = DistributionJobStatus.FAILED;
+        this.failMessage = failMessage;
+        this.completedAt = now;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = this.updatedAt = LocalDateTime.now();
+        if (this.status == null) this.status = DistributionJobStatus.QUEUED;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
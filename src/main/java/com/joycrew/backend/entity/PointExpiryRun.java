@@ -0,0 +1,84 @@
+package com.joycrew.backend.entity;
+
+import com.joycrew.backend.entity.enums.ExpiryRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 회사별 하루 한 번의 포인트 만료 실행과 재개 지점.
+ * 만료 작업은 walletId 순으로 청크를 처리하며, 청크와 같은 트랜잭션에서 lastWalletId를 전진시키므로
+ * 작업이 중간에 멈춰도 다음 실행이 같은 cutoff로 다음 지갑부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "point_expiry_run",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_expiry_run_company_date",
+                columnNames = {"company_id", "run_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PointExpiryRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    // 이 시각 이전에 적립된 포인트가 만료 대상 (재개해도 정책 변경과 무관하게 같은 값)
+    @Column(nullable = false)
+    private LocalDateTime cutoff;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ExpiryRunStatus status;
+
+    // 커밋된 마지막 walletId = 다음 청크의 키셋 시작점
+    @Column(name = "last_wallet_id", nullable = false)
+    private long lastWalletId;
+
+    @Column(nullable = false)
+    private int expiredWallets;
+
+    @Column(nullable = false)
+    private long expiredPoints;
+
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static PointExpiryRun start(Long companyId, LocalDate runDate, LocalDateTime cutoff) {
+        return PointExpiryRun.builder()
+                .companyId(companyId)
+                .runDate(runDate)
+                .cutoff(cutoff)
+                .status(ExpiryRunStatus.RUNNING)
+                .build();
+    }
+
+    public boolean isCompleted() {
+        return status == ExpiryRunStatus.COMPLETED;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = this.updatedAt = LocalDateTime.now();
+        if (this.status == null) this.status = ExpiryRunStatus.RUNNING;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,62 @@
+package com.joycrew.backend.entity;
+
+import com.joycrew.backend.entity.enums.LedgerAccount;
+import com.joycrew.backend.entity.enums.LedgerEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 (추가 전용, 복식 부기).
+ * 지갑 잔액을 움직이는 모든 변경은 WalletLedgerService가 같은 트랜잭션에서 분개 하나로 기록한다.
+ * - WALLET 계정 행은 지갑별로 1부터 빈틈없이 증가하는 seq(= Wallet.ledgerSeq)를 가진다
+ * - 시스템 계정(ISSUANCE/MERCHANT/CLEARING) 행은 walletId/seq가 없다
+ * 행은 JDBC 배치로만 INSERT 하고 수정/삭제하지 않는다.
+ */
+@Entity
+@Immutable
+@Table(name = "point_ledger_entry",
+    uniqueConstraints = @UniqueConstraint(name = "uk_ledger_wallet_seq", columnNames = {"wallet_id", "seq"}),
+    indexes = {
+        @Index(name = "idx_ledger_journal", columnList = "journal_id"),
+        @Index(name = "idx_ledger_wallet_created", columnList = "wallet_id, created_at")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long entryId;
+
+    @Column(name = "journal_id", nullable = false, length = 36)
+    private String journalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LedgerAccount account;
+
+    @Column(name = "wallet_id")
+    private Long walletId;
+
+    @Column(name = "seq")
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LedgerEntryType entryType;
+
+    @Column(nullable = false)
+    private long balanceDelta;
+
+    @Column(nullable = false)
+    private long giftableDelta;
+
+    @Column(length = 100)
+    private String reference;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,15 +1,22 @@
 package com.joycrew.backend.entity;
 
+import com.joycrew.backend.entity.converter.TagMaskConverter;
 import com.joycrew.backend.entity.enums.Tag;
 import com.joycrew.backend.entity.enums.TransactionType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "reward_point_transaction")
+@Table(name = "reward_point_transaction",
+    indexes = {
+        // 내 거래 내역 키셋 페이지네이션: (sender|receiver, transaction_date, transaction_id) 역순 범위 스캔
+        @Index(name = "idx_rpt_sender_date_id", columnList = "sender_id, transaction_date, transaction_id"),
+        @Index(name = "idx_rpt_receiver_date_id", columnList = "receiver_id, transaction_date, transaction_id")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -38,12 +45,11 @@ public class RewardPointTransaction {
   @Enumerated(EnumType.STRING)
   private TransactionType type;
 
-  // A collection of tags associated with the transaction.
-  @ElementCollection(targetClass = Tag.class, fetch = FetchType.EAGER)
-  @CollectionTable(name = "transaction_tags", joinColumns = @JoinColumn(name = "transaction_id"))
-  @Enumerated(EnumType.STRING)
-  @Column(name = "tag", nullable = false)
-  private List<Tag> tags;
+  // Tags associated with the transaction, stored as a bitmask in the same row (see Tag.bit()).
+  @Convert(converter = TagMaskConverter.class)
+  @Column(name = "tag_mask", nullable = false)
+  @ColumnDefault("0")
+  private Set<Tag> tags;
 
   @Column(nullable = false)
   private LocalDateTime transactionDate;
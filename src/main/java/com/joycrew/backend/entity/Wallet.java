@@ -3,6 +3,7 @@ package com.joycrew.backend.entity;
 import com.joycrew.backend.exception.InsufficientPointsException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -25,6 +26,10 @@ public class Wallet {
     @Column(nullable = false)
     private Integer giftablePoint;    // 의미: 총 잔액 중 선물 가능한 한도
 
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long ledgerSeq;           // 의미: 이 지갑의 마지막 원장 행 번호 (PointLedgerEntry.seq)
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -35,6 +40,7 @@ public class Wallet {
         this.employee = employee;
         this.balance = 0;
         this.giftablePoint = 0;
+        this.ledgerSeq = 0L;
     }
 
     /**
@@ -131,6 +137,7 @@ public class Wallet {
         this.createdAt = this.updatedAt = LocalDateTime.now();
         if (this.balance == null) this.balance = 0;
         if (this.giftablePoint == null) this.giftablePoint = 0;
+        if (this.ledgerSeq == null) this.ledgerSeq = 0L;
     }
 
     @PreUpdate
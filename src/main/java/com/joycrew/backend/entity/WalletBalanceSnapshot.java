@@ -0,0 +1,40 @@
+package com.joycrew.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지갑 잔액 스냅샷: seq 까지의 원장 합계.
+ * 원장 잔액 = 최신 스냅샷 + 그 이후(seq 초과) 원장 행의 합이므로 전체 이력을 훑지 않는다.
+ * seq 0 스냅샷은 원장 도입 시점의 기존 잔액(기준선)이다.
+ */
+@Entity
+@Immutable
+@Table(name = "wallet_balance_snapshot",
+    uniqueConstraints = @UniqueConstraint(name = "uk_snapshot_wallet_seq", columnNames = {"wallet_id", "seq"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long snapshotId;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Column(name = "seq", nullable = false)
+    private long seq;
+
+    @Column(nullable = false)
+    private long balance;
+
+    @Column(nullable = false)
+    private long giftablePoint;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,22 @@
+package com.joycrew.backend.entity.converter;
+
+import com.joycrew.backend.entity.enums.Tag;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Set;
+
+/** 태그 집합 ↔ 정수 비트마스크 (비트 위치 = Tag.ordinal) */
+@Converter
+public class TagMaskConverter implements AttributeConverter<Set<Tag>, Integer> {
+
+  @Override
+  public Integer convertToDatabaseColumn(Set<Tag> tags) {
+    return Tag.toMask(tags);
+  }
+
+  @Override
+  public Set<Tag> convertToEntityAttribute(Integer mask) {
+    return Tag.fromMask(mask == null ? 0 : mask);
+  }
+}
@@ -0,0 +1,8 @@
+package com.joycrew.backend.entity.enums;
+
+public enum DistributionJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
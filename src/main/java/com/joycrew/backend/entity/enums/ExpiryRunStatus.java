@@ -0,0 +1,6 @@
+package com.joycrew.backend.entity.enums;
+
+public enum ExpiryRunStatus {
+    RUNNING,
+    COMPLETED
+}
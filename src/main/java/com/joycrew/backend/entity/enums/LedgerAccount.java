@@ -0,0 +1,12 @@
+package com.joycrew.backend.entity.enums;
+
+/**
+ * 포인트 원장 계정. 한 분개(journal)의 balance_delta 합은 항상 0이다.
+ * WALLET 이외의 계정은 회사 밖에서 들어오고 나가는 포인트의 상대 계정이다.
+ */
+public enum LedgerAccount {
+  WALLET,     // 직원 지갑
+  ISSUANCE,   // 관리자 지급/회수의 상대 계정
+  MERCHANT,   // 구매/환불의 상대 계정
+  CLEARING    // 한쪽 지갑만 움직이는 선물 (받기/보내기 단건) 의 상대 계정
+}
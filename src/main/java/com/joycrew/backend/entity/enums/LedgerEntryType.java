@@ -0,0 +1,10 @@
+package com.joycrew.backend.entity.enums;
+
+public enum LedgerEntryType {
+  GIFT,
+  ADMIN_GRANT,
+  ADMIN_REVOKE,
+  PURCHASE,
+  REFUND,
+  EXPIRE
+}
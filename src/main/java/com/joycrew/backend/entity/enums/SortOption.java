@@ -1,5 +1,6 @@
 package com.joycrew.backend.entity.enums;
 
 public enum SortOption {
-    POPULAR, PRICE_ASC, PRICE_DESC, NEW
+    POPULAR, PRICE_ASC, PRICE_DESC, NEW,
+    RELEVANCE   // 검색어 관련도 (검색어가 없으면 POPULAR와 같다)
 }
\ No newline at end of file
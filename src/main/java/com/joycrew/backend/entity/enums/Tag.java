@@ -1,5 +1,14 @@
 package com.joycrew.backend.entity.enums;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * 거래 태그. reward_point_transaction.tag_mask 에 비트로 저장되며 비트 위치 = ordinal 이다.
+ * 새 태그는 맨 뒤에만 추가한다 (순서를 바꾸거나 중간에 끼우면 저장된 마스크의 의미가 바뀐다).
+ */
 public enum Tag {
   CUSTOMERS,
   FLEXIBILITY,
@@ -8,5 +17,43 @@ public enum Tag {
   TEAMWORK,
   INNOVATION,
   SIMPLICITY,
-  DELIVER_RESULTS
-}
\ No newline at end of file
+  DELIVER_RESULTS;
+
+  public int bit() {
+    return 1 << ordinal();
+  }
+
+  public static int toMask(Collection<Tag> tags) {
+    int mask = 0;
+    if (tags != null) {
+      for (Tag tag : tags) {
+        mask |= tag.bit();
+      }
+    }
+    return mask;
+  }
+
+  public static EnumSet<Tag> fromMask(int mask) {
+    EnumSet<Tag> tags = EnumSet.noneOf(Tag.class);
+    for (Tag tag : values()) {
+      if ((mask & tag.bit()) != 0) {
+        tags.add(tag);
+      }
+    }
+    return tags;
+  }
+
+  /**
+   * 이 태그 비트가 켜진 모든 마스크 값. DB마다 비트 연산자가 달라(MySQL '&', H2 BITAND)
+   * 태그 필터/집계는 {@code tag_mask in (:masks)} 로 쓴다.
+   */
+  public List<Integer> masksContaining() {
+    List<Integer> masks = new ArrayList<>(1 << (values().length - 1));
+    for (int mask = 0; mask < (1 << values().length); mask++) {
+      if ((mask & bit()) != 0) {
+        masks.add(mask);
+      }
+    }
+    return masks;
+  }
+}
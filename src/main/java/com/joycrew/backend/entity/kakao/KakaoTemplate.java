@@ -37,6 +37,13 @@ public class KakaoTemplate {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /** 주문(Order.productId)에 저장하는 상품 ID: templateId의 FNV-1a 해시 */
+    public static long productIdOf(String templateId) {
+        long h = 1469598103934665603L;
+        for (byte b : templateId.getBytes()) { h ^= b; h *= 1099511628211L; }
+        return h & Long.MAX_VALUE;
+    }
+
     @PrePersist
     public void prePersist() {
         if (updatedAt == null) updatedAt = LocalDateTime.now();
@@ -0,0 +1,44 @@
+package com.joycrew.backend.entity.kakao;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 인기도 (PLACED 주문 수의 시간 감쇠 합).
+ * 주문 하나의 가중치 = 2^((주문 시각 - scoreEpoch) / 반감기) 로 저장하므로
+ * 모든 점수가 같은 비율로 감쇠한다고 보면 점수 비교만으로 인기순이 되고, 갱신은 단순 덧셈이다.
+ * scoreEpoch는 가중치가 double 범위를 넘지 않도록 주기적으로 앞으로 옮기며, 그때 점수도 같은 비율로 줄인다.
+ * (TemplatePopularityTracker 참고)
+ */
+@Entity
+@Table(name = "template_popularity")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TemplatePopularity {
+
+    @Id
+    @Column(length = 64)
+    private String templateId;
+
+    @Column(nullable = false)
+    private double score;
+
+    // 점수의 기준 시각 (기준 시각을 옮기기 전에 쌓인 행은 최초 기준 시각)
+    @Column(nullable = false)
+    @ColumnDefault("'2024-01-01 00:00:00'")
+    private LocalDateTime scoreEpoch;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** 다른 기준 시각으로 환산한 점수 (기준 시각이 다른 행끼리 비교할 때) */
+    public double scoreAt(LocalDateTime epoch, double halfLifeHours) {
+        double hours = Duration.between(epoch, scoreEpoch).toSeconds() / 3600.0;
+        return score * Math.pow(2, hours / halfLifeHours);
+    }
+}
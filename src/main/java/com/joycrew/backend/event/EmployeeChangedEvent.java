@@ -0,0 +1,20 @@
+package com.joycrew.backend.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 직원의 인증 관련 정보(역할, 상태, 비밀번호, 프로필)가 변경되었음을 알리는 이벤트.
+ * 커밋 이후 캐시된 인증 주체(principal)를 무효화하는 데 사용된다.
+ */
+@Getter
+public class EmployeeChangedEvent extends ApplicationEvent {
+  private final Long employeeId;
+  private final String email;
+
+  public EmployeeChangedEvent(Object source, Long employeeId, String email) {
+    super(source);
+    this.employeeId = employeeId;
+    this.email = email;
+  }
+}
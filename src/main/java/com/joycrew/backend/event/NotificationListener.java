@@ -6,6 +6,7 @@ import com.joycrew.backend.entity.Notification;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.service.NotificationService;
 import com.joycrew.backend.service.NotificationSseService;
+import com.joycrew.backend.tenant.Tenant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -21,15 +22,19 @@ public class NotificationListener {
   private final NotificationSseService sseService;
   private final EmployeeRepository employeeRepository;
 
-  @Async
+  @Async("notificationExecutor")
   @EventListener
   public void handleRecognitionEvent(RecognitionEvent event) {
     try {
       Long senderId = event.getSenderId();
       Long receiverId = event.getReceiverId();
+      // 테넌트는 AsyncConfig의 TaskDecorator가 발행 스레드에서 전파
+      Long companyId = Tenant.id();
 
-      Employee sender = (senderId != null) ? employeeRepository.findById(senderId).orElse(null) : null;
-      Employee receiver = (receiverId != null) ? employeeRepository.findById(receiverId).orElse(null) : null;
+      Employee sender = (senderId != null)
+              ? employeeRepository.findByCompanyCompanyIdAndEmployeeId(companyId, senderId).orElse(null) : null;
+      Employee receiver = (receiverId != null)
+              ? employeeRepository.findByCompanyCompanyIdAndEmployeeId(companyId, receiverId).orElse(null) : null;
       if (receiver == null) {
         log.warn("RecognitionEvent: receiver not found (receiverId={})", receiverId);
         return;
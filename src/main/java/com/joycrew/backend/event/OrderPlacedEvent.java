@@ -0,0 +1,18 @@
+package com.joycrew.backend.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 기프티콘 주문이 PLACED로 확정되었음을 알리는 이벤트.
+ * 커밋 이후 상품 인기도 집계(TemplatePopularityTracker)에 사용된다.
+ */
+@Getter
+public class OrderPlacedEvent extends ApplicationEvent {
+  private final String templateId;
+
+  public OrderPlacedEvent(Object source, String templateId) {
+    super(source);
+    this.templateId = templateId;
+  }
+}
@@ -0,0 +1,18 @@
+package com.joycrew.backend.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 포인트 대량 지급 작업이 등록되었음을 알리는 이벤트.
+ * 커밋 이후 워커가 작업을 바로 시작하는 데 사용된다.
+ */
+@Getter
+public class PointDistributionQueuedEvent extends ApplicationEvent {
+  private final Long jobId;
+
+  public PointDistributionQueuedEvent(Object source, Long jobId) {
+    super(source);
+    this.jobId = jobId;
+  }
+}
@@ -3,6 +3,8 @@ package com.joycrew.backend.web;
 import com.joycrew.backend.dto.ErrorResponse;
 import com.joycrew.backend.exception.BillingRequiredException;
 import com.joycrew.backend.exception.InsufficientPointsException;
+import com.joycrew.backend.exception.InvalidCursorException;
+import com.joycrew.backend.exception.SelfGiftNotAllowedException;
 import com.joycrew.backend.exception.UserNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
 
 @Slf4j
 @RestControllerAdvice
@@ -37,6 +40,18 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(
+            InvalidCursorException e,
+            HttpServletRequest req
+    ) {
+        return ResponseEntity.badRequest().body(error(
+                "INVALID_CURSOR",
+                e.getMessage(),
+                req
+        ));
+    }
+
     // -------------------------
     // 401 - Auth
     // -------------------------
@@ -82,6 +97,18 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(
+            NoSuchElementException e,
+            HttpServletRequest req
+    ) {
+        return ResponseEntity.status(404).body(error(
+                "NOT_FOUND",
+                e.getMessage(),
+                req
+        ));
+    }
+
     // -------------------------
     // 409 / 400 - Business rule
     // -------------------------
@@ -99,6 +126,18 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    @ExceptionHandler(SelfGiftNotAllowedException.class)
+    public ResponseEntity<ErrorResponse> handleSelfGift(
+            SelfGiftNotAllowedException e,
+            HttpServletRequest req
+    ) {
+        return ResponseEntity.badRequest().body(error(
+                "SELF_GIFT_NOT_ALLOWED",
+                e.getMessage(),
+                req
+        ));
+    }
+
     // -------------------------
     // 500 - Fallback
     // -------------------------
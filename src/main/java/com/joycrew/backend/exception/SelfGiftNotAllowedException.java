@@ -0,0 +1,7 @@
+package com.joycrew.backend.exception;
+
+public class SelfGiftNotAllowedException extends RuntimeException {
+  public SelfGiftNotAllowedException(String message) {
+    super(message);
+  }
+}
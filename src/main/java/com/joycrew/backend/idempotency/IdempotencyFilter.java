@@ -0,0 +1,289 @@
+package com.joycrew.backend.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joycrew.backend.dto.ErrorResponse;
+import com.joycrew.backend.idempotency.IdempotencyStore.Outcome;
+import com.joycrew.backend.idempotency.IdempotencyStore.StoredResponse;
+import com.joycrew.backend.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청을 한 번만 실행한다 (FilterConfig에 등록된 경로만).
+ * - 키 범위: (회사, 직원, 헤더 값). 요청 해시 = SHA-256(메서드 + 경로 + 본문)
+ * - 같은 파드로 동시에 들어온 같은 키 요청은 첫 요청의 결과를 기다렸다가 그대로 돌려받는다
+ * - 끝난 요청의 재시도는 저장된 응답(상태, 본문, Location)을 Idempotent-Replayed 헤더와 함께 돌려준다
+ * - 같은 키에 다른 본문이면 422, 다른 파드에서 처리 중이면 409 (Retry-After)
+ * - 5xx로 끝난 요청은 기록을 지워 재시도가 다시 실행되게 한다
+ * 메트릭: idempotency.requests{result=executed|replayed|coalesced|mismatch|in_progress}
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private record InFlight(String requestHash, CompletableFuture<StoredResponse> result) { }
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+    private final Counter mismatched;
+    private final Counter inProgress;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, Duration waitTimeout,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+        this.executed = requestCounter(meterRegistry, "executed");
+        this.replayed = requestCounter(meterRegistry, "replayed");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.mismatched = requestCounter(meterRegistry, "mismatch");
+        this.inProgress = requestCounter(meterRegistry, "in_progress");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpServletResponse.SC_BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserPrincipal principal)) {
+            // 인증되지 않은 요청은 보안 필터 체인이 이미 거절했거나 거절할 것이다
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = hash(request.getMethod(), request.getRequestURI(), cachedRequest.body);
+        String scopedKey = principal.getCompanyId() + ":" + principal.getEmployeeId() + ":" + key;
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight leader = inFlight.putIfAbsent(scopedKey, mine);
+        if (leader != null) {
+            awaitLeader(leader, requestHash, request, response);
+            return;
+        }
+
+        try {
+            mine.result().complete(handle(scopedKey, requestHash, cachedRequest, response, chain));
+        } catch (IOException | ServletException | RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, mine);
+        }
+    }
+
+    private StoredResponse handle(String scopedKey, String requestHash, CachedBodyRequest request,
+                                  HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Outcome outcome = store.begin(scopedKey, requestHash);
+        switch (outcome.decision()) {
+            case REPLAY -> {
+                replayed.increment();
+                write(response, outcome.response(), true);
+                return outcome.response();
+            }
+            case MISMATCH -> {
+                mismatched.increment();
+                return writeMismatch(request, response);
+            }
+            case IN_PROGRESS -> {
+                inProgress.increment();
+                return writeInProgress(request, response);
+            }
+            default -> {
+                executed.increment();
+                return execute(scopedKey, requestHash, request, response, chain);
+            }
+        }
+    }
+
+    private StoredResponse execute(String scopedKey, String requestHash, CachedBodyRequest request,
+                                   HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            store.release(scopedKey, requestHash);
+            throw e;
+        }
+
+        StoredResponse result = new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+                wrapper.getHeader(HttpHeaders.LOCATION),
+                new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+        if (result.status() >= 500) {
+            store.release(scopedKey, requestHash);
+        } else {
+            store.complete(scopedKey, requestHash, result);
+        }
+        wrapper.copyBodyToResponse();
+        return result;
+    }
+
+    // 같은 파드에서 먼저 들어온 같은 키 요청의 결과를 기다린다 (트랜잭션 경로를 다시 타지 않음)
+    private void awaitLeader(InFlight leader, String requestHash, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        if (!leader.requestHash().equals(requestHash)) {
+            mismatched.increment();
+            writeMismatch(request, response);
+            return;
+        }
+        try {
+            StoredResponse result = leader.result().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            coalesced.increment();
+            write(response, result, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeInProgress(request, response);
+        } catch (ExecutionException | TimeoutException e) {
+            inProgress.increment();
+            writeInProgress(request, response);
+        }
+    }
+
+    private StoredResponse writeMismatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return writeError(request, response, 422, "IDEMPOTENCY_KEY_REUSED",
+                "Idempotency-Key was already used with a different request.");
+    }
+
+    private StoredResponse writeInProgress(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return writeError(request, response, HttpServletResponse.SC_CONFLICT, "IDEMPOTENCY_REQUEST_IN_PROGRESS",
+                "A request with this Idempotency-Key is still being processed.");
+    }
+
+    private StoredResponse writeError(HttpServletRequest request, HttpServletResponse response,
+                                      int status, String code, String message) throws IOException {
+        String body = objectMapper.writeValueAsString(
+                new ErrorResponse(code, message, LocalDateTime.now(), request.getRequestURI()));
+        StoredResponse error = new StoredResponse(status, MediaType.APPLICATION_JSON_VALUE, null, body);
+        write(response, error, false);
+        return error;
+    }
+
+    private void write(HttpServletResponse response, StoredResponse stored, boolean replay) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) response.setContentType(stored.contentType());
+        if (stored.location() != null) response.setHeader(HttpHeaders.LOCATION, stored.location());
+        if (replay) response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.body() == null ? new byte[0] : stored.body().getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    private static String hash(String method, String path, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + " " + path + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 해시 계산을 위해 본문을 먼저 읽어 두고, 컨트롤러에는 같은 바이트를 다시 제공한다. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override public int read() { return in.read(); }
+                @Override public int read(byte[] b, int off, int len) { return in.read(b, off, len); }
+                @Override public boolean isFinished() { return in.available() == 0; }
+                @Override public boolean isReady() { return true; }
+                // 본문은 이미 메모리에 있으므로 비동기 읽기도 호출 즉시 끝난다 (isReady()가 항상 true)
+                @Override public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
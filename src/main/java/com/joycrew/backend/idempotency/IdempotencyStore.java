@@ -0,0 +1,125 @@
+package com.joycrew.backend.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joycrew.backend.entity.IdempotencyRecord;
+import com.joycrew.backend.entity.enums.IdempotencyStatus;
+import com.joycrew.backend.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 기록 저장소 (DB 테이블 + 완료 응답 메모리 캐시).
+ * - begin(): 키를 선점하거나, 이미 끝난 요청이면 저장된 응답을 돌려준다
+ * - 완료된 응답은 캐시에도 넣어 같은 파드로 오는 재시도는 DB 조회 없이 응답한다
+ * - 모든 쓰기는 요청 처리 트랜잭션과 별개로 즉시 커밋한다 (다른 파드가 바로 볼 수 있도록)
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+  public enum Decision { ACQUIRED, REPLAY, MISMATCH, IN_PROGRESS }
+
+  public record StoredResponse(int status, String contentType, String location, String body) { }
+
+  public record Outcome(Decision decision, StoredResponse response) {
+    static Outcome of(Decision decision) {
+      return new Outcome(decision, null);
+    }
+  }
+
+  private record Completed(String requestHash, StoredResponse response) { }
+
+  private final IdempotencyRecordRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final Cache<String, Completed> completed;
+  private final Duration ttl;
+  private final Duration staleAfter;
+
+  public IdempotencyStore(IdempotencyRecordRepository repository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                          @Value("${idempotency.stale-after-seconds:300}") long staleAfterSeconds,
+                          @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize,
+                          MeterRegistry meterRegistry) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ttl = Duration.ofHours(ttlHours);
+    this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+    this.completed = Caffeine.newBuilder()
+        .maximumSize(cacheMaxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency.responses");
+  }
+
+  public Outcome begin(String key, String requestHash) {
+    Completed cached = completed.getIfPresent(key);
+    if (cached != null) {
+      return cached.requestHash().equals(requestHash)
+          ? new Outcome(Decision.REPLAY, cached.response())
+          : Outcome.of(Decision.MISMATCH);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    if (tryInsert(key, requestHash, now)) return Outcome.of(Decision.ACQUIRED);
+
+    // 이미 있는 키: 만료됐거나 같은 요청이 멈춰 있으면 넘겨받고, 아니면 저장된 상태로 판단
+    Integer taken = transactionTemplate.execute(status ->
+        repository.takeOver(key, requestHash, now, now.minus(staleAfter), now.plus(ttl)));
+    if (taken != null && taken == 1) return Outcome.of(Decision.ACQUIRED);
+
+    IdempotencyRecord record = repository.findById(key).orElse(null);
+    if (record == null) {
+      // 그 사이 만료 정리로 지워졌다
+      return tryInsert(key, requestHash, now) ? Outcome.of(Decision.ACQUIRED) : Outcome.of(Decision.IN_PROGRESS);
+    }
+    if (!record.getRequestHash().equals(requestHash)) return Outcome.of(Decision.MISMATCH);
+    if (record.getStatus() != IdempotencyStatus.COMPLETED) return Outcome.of(Decision.IN_PROGRESS);
+
+    StoredResponse response = new StoredResponse(record.getResponseStatus(), record.getResponseContentType(),
+        record.getResponseLocation(), record.getResponseBody());
+    completed.put(key, new Completed(requestHash, response));
+    return new Outcome(Decision.REPLAY, response);
+  }
+
+  public void complete(String key, String requestHash, StoredResponse response) {
+    transactionTemplate.executeWithoutResult(status -> repository.complete(key, requestHash,
+        response.status(), response.contentType(), response.location(), response.body()));
+    completed.put(key, new Completed(requestHash, response));
+  }
+
+  public void release(String key, String requestHash) {
+    transactionTemplate.executeWithoutResult(status -> repository.release(key, requestHash));
+  }
+
+  @Scheduled(fixedDelayString = "${idempotency.purge-ms:3600000}",
+      initialDelayString = "${idempotency.purge-ms:3600000}")
+  public void purgeExpired() {
+    Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+    if (deleted != null && deleted > 0) {
+      log.info("Purged {} expired idempotency record(s)", deleted);
+    }
+  }
+
+  private boolean tryInsert(String key, String requestHash, LocalDateTime now) {
+    try {
+      transactionTemplate.executeWithoutResult(status ->
+          repository.insertInProgress(key, requestHash, now, now.plus(ttl)));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+}
@@ -9,20 +9,17 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.*;
 
-import java.net.URI;
-
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @Component
 public class KakaoGiftBizClient {
 
-    private final RestTemplate rt;
+    static final String TEMPLATE_ORDER_PATH = "/v1/template/order";
 
-    @Value("${kakao.giftbiz.base-url}")
-    private String baseUrl;
+    // base-url은 RestTemplate의 rootUri로 설정됨 (KakaoGiftBizClientConfig)
+    private final RestTemplate rt;
 
     @Value("${kakao.giftbiz.api-key}")
     private String apiKey;
@@ -37,7 +34,6 @@ public class KakaoGiftBizClient {
         h.setAccept(java.util.List.of(MediaType.APPLICATION_JSON));
         // Kakao Developers 인증: "KakaoAK <키>"
         h.set("Authorization", "KakaoAK " + apiKey);
-        h.set("User-Agent", "JoyCrewBackend/1.0");
         return h;
     }
 
@@ -47,15 +43,10 @@ public class KakaoGiftBizClient {
      * 4xx는 BAD_REQUEST로, I/O는 BAD_GATEWAY로 매핑하여 상위로 던진다.
      */
     public String sendTemplateOrder(KakaoTemplateOrderRequest req) {
-        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                .path("/v1/template/order")
-                .build(true)
-                .toUri();
-
         try {
-            log.debug("[KAKAO] ORDER -> {} body={}", uri, req);
+            log.debug("[KAKAO] ORDER -> {} body={}", TEMPLATE_ORDER_PATH, req);
             ResponseEntity<String> res = rt.exchange(
-                    uri, HttpMethod.POST, new HttpEntity<>(req, authHeaders()), String.class);
+                    TEMPLATE_ORDER_PATH, HttpMethod.POST, new HttpEntity<>(req, authHeaders()), String.class);
 
             log.info("[KAKAO] ORDER <- status={} hasBody={}", res.getStatusCodeValue(), res.hasBody());
             if (res.hasBody()) {
@@ -1,6 +1,8 @@
 // src/main/java/com/joycrew/backend/repository/CompanyDomainRepository.java
 package com.joycrew.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import com.joycrew.backend.entity.CompanyDomain;
@@ -16,4 +18,24 @@ public interface CompanyDomainRepository extends JpaRepository<com.joycrew.backe
   """)
     Optional<Long> findCompanyIdByDomain(@Param("domain") String domain);
     Optional<CompanyDomain> findFirstByCompanyCompanyIdAndPrimaryDomainTrueOrderByIdDesc(Long companyId);
+
+    /** 도메인 → 회사 ID 매핑 (TenantDomainCache 적재용) */
+    interface DomainMapping {
+        String getDomain();
+        Long getCompanyId();
+        LocalDateTime getUpdatedAt();
+    }
+
+    @Query("""
+    select cd.domain as domain, cd.company.companyId as companyId, cd.updatedAt as updatedAt
+    from CompanyDomain cd
+  """)
+    List<DomainMapping> findAllMappings();
+
+    @Query("""
+    select cd.domain as domain, cd.company.companyId as companyId, cd.updatedAt as updatedAt
+    from CompanyDomain cd
+    where cd.updatedAt >= :since
+  """)
+    List<DomainMapping> findMappingsUpdatedSince(@Param("since") LocalDateTime since);
 }
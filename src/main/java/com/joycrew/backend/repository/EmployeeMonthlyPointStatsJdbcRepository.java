@@ -0,0 +1,8 @@
+package com.joycrew.backend.repository;
+
+/** 월간 통계 최초 행 INSERT (EmployeePointStatsJdbcRepository와 같은 규칙) */
+public interface EmployeeMonthlyPointStatsJdbcRepository {
+
+  /** 행이 이미 있으면(다른 트랜잭션이 먼저 넣었으면) false */
+  boolean insertIfAbsent(Long employeeId, int month, long received, long sent);
+}
@@ -0,0 +1,26 @@
+package com.joycrew.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class EmployeeMonthlyPointStatsJdbcRepositoryImpl implements EmployeeMonthlyPointStatsJdbcRepository {
+
+  private static final String INSERT_SQL = """
+      insert into employee_monthly_point_stats (employee_id, stat_month, received, sent)
+      values (?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean insertIfAbsent(Long employeeId, int month, long received, long sent) {
+    try {
+      jdbcTemplate.update(INSERT_SQL, employeeId, month, received, sent);
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+}
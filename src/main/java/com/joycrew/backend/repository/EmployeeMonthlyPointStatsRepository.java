@@ -0,0 +1,59 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.EmployeeMonthlyPointStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeeMonthlyPointStatsRepository
+        extends JpaRepository<EmployeeMonthlyPointStats, EmployeeMonthlyPointStats.Key>, EmployeeMonthlyPointStatsJdbcRepository {
+
+    List<EmployeeMonthlyPointStats> findByEmployeeIdOrderByStatMonthDesc(Long employeeId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update EmployeeMonthlyPointStats s
+           set s.received = s.received + :amount
+         where s.employeeId in :employeeIds and s.statMonth = :month
+    """)
+    int addReceived(@Param("employeeIds") Collection<Long> employeeIds, @Param("month") int month,
+                    @Param("amount") long amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update EmployeeMonthlyPointStats s
+           set s.sent = s.sent + :amount
+         where s.employeeId in :employeeIds and s.statMonth = :month
+    """)
+    int addSent(@Param("employeeIds") Collection<Long> employeeIds, @Param("month") int month,
+                @Param("amount") long amount);
+
+    @Query("select s.employeeId from EmployeeMonthlyPointStats s where s.employeeId in :employeeIds and s.statMonth = :month")
+    List<Long> findExistingIds(@Param("employeeIds") Collection<Long> employeeIds, @Param("month") int month);
+
+    // ===== 백필 =====
+
+    @Modifying
+    @Query(value = "delete from employee_monthly_point_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+        insert into employee_monthly_point_stats (employee_id, stat_month, received, sent)
+        select t.employee_id, t.stat_month, sum(t.received), sum(t.sent)
+          from (select receiver_id as employee_id,
+                       year(transaction_date) * 100 + month(transaction_date) as stat_month,
+                       point_amount as received, 0 as sent
+                  from reward_point_transaction where receiver_id is not null
+                union all
+                select sender_id, year(transaction_date) * 100 + month(transaction_date), 0, point_amount
+                  from reward_point_transaction where sender_id is not null) t
+         group by t.employee_id, t.stat_month
+    """, nativeQuery = true)
+    int backfill();
+}
@@ -0,0 +1,10 @@
+package com.joycrew.backend.repository;
+
+import java.time.LocalDateTime;
+
+/** 통계 최초 행 INSERT (동시 최초 INSERT 경합을 호출 측이 처리할 수 있도록 중복 키를 예외 대신 false로 돌려준다) */
+public interface EmployeePointStatsJdbcRepository {
+
+  /** 행이 이미 있으면(다른 트랜잭션이 먼저 넣었으면) false */
+  boolean insertIfAbsent(Long employeeId, long received, long sent, LocalDateTime at);
+}
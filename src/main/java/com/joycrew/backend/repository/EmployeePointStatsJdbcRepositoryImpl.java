@@ -0,0 +1,30 @@
+package com.joycrew.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// JPA persist + flush는 중복 키에서 트랜잭션을 롤백 전용으로 만들므로, 실패해도 트랜잭션이 이어지는 JDBC 문장으로 넣는다
+@RequiredArgsConstructor
+class EmployeePointStatsJdbcRepositoryImpl implements EmployeePointStatsJdbcRepository {
+
+  private static final String INSERT_SQL = """
+      insert into employee_point_stats (employee_id, total_received, total_sent, updated_at)
+      values (?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean insertIfAbsent(Long employeeId, long received, long sent, LocalDateTime at) {
+    try {
+      jdbcTemplate.update(INSERT_SQL, employeeId, received, sent, Timestamp.valueOf(at));
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.EmployeePointStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeePointStatsRepository extends JpaRepository<EmployeePointStats, Long>, EmployeePointStatsJdbcRepository {
+
+    // 증분 갱신: 반환값 = 갱신된 행 수 (행이 없는 직원은 호출 측에서 새로 만든다)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update EmployeePointStats s
+           set s.totalReceived = s.totalReceived + :amount, s.updatedAt = :now
+         where s.employeeId in :employeeIds
+    """)
+    int addReceived(@Param("employeeIds") Collection<Long> employeeIds, @Param("amount") long amount,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update EmployeePointStats s
+           set s.totalSent = s.totalSent + :amount, s.updatedAt = :now
+         where s.employeeId in :employeeIds
+    """)
+    int addSent(@Param("employeeIds") Collection<Long> employeeIds, @Param("amount") long amount,
+                @Param("now") LocalDateTime now);
+
+    @Query("select s.employeeId from EmployeePointStats s where s.employeeId in :employeeIds")
+    List<Long> findExistingIds(@Param("employeeIds") Collection<Long> employeeIds);
+
+    // ===== 백필 (거래 내역에서 전체 재계산) =====
+
+    @Modifying
+    @Query(value = "delete from employee_point_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+        insert into employee_point_stats (employee_id, total_received, total_sent, updated_at)
+        select t.employee_id, sum(t.received), sum(t.sent), current_timestamp
+          from (select receiver_id as employee_id, point_amount as received, 0 as sent
+                  from reward_point_transaction where receiver_id is not null
+                union all
+                select sender_id, 0, point_amount
+                  from reward_point_transaction where sender_id is not null) t
+         group by t.employee_id
+    """, nativeQuery = true)
+    int backfill();
+}
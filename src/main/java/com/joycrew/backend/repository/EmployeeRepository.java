@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,13 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
   Optional<Employee> findByEmail(String email);
 
+  // 직원 엔티티(와 즉시 로딩되는 지갑)를 영속성 컨텍스트에 올리지 않고 ID만 조회
+  @Query("SELECT e.employeeId FROM Employee e WHERE e.email = :email")
+  Optional<Long> findIdByEmail(@Param("email") String email);
+
+  @Query("SELECT COALESCE(e.tokenVersion, 0) FROM Employee e WHERE e.employeeId = :employeeId")
+  Optional<Integer> findTokenVersionByEmployeeId(@Param("employeeId") Long employeeId);
+
   @Query("""
       SELECT e 
       FROM Employee e 
@@ -42,6 +50,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
   List<Employee> findAllByCompanyCompanyIdAndEmployeeIdIn(Long companyId, List<Long> employeeIds);
 
+  // 엔티티를 적재하지 않고 회사 소속 여부만 확인 (대량 지급용)
+  @Query("SELECT e.employeeId FROM Employee e WHERE e.company.companyId = :companyId AND e.employeeId IN :employeeIds")
+  List<Long> findIdsByCompanyIdAndEmployeeIdIn(@Param("companyId") Long companyId, @Param("employeeIds") Collection<Long> employeeIds);
+
   List<Employee> findAllByCompanyCompanyId(Long companyId);
 
   List<Employee> findByPhoneNumber(String phoneNumber);
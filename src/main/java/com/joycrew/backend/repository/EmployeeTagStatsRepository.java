@@ -0,0 +1,42 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.EmployeeTagStats;
+import com.joycrew.backend.entity.enums.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeeTagStatsRepository extends JpaRepository<EmployeeTagStats, EmployeeTagStats.Key> {
+
+    List<EmployeeTagStats> findByEmployeeId(Long employeeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update EmployeeTagStats s
+           set s.tagCount = s.tagCount + :count
+         where s.employeeId = :employeeId and s.tag = :tag
+    """)
+    int increment(@Param("employeeId") Long employeeId, @Param("tag") Tag tag, @Param("count") long count);
+
+    // ===== 백필 (받은 거래의 태그, 구매 거래 제외) =====
+    // 태그는 거래 행의 tag_mask 비트이므로 태그마다 한 문장씩, 해당 비트가 켜진 마스크 값들로 집계한다 (Tag.masksContaining)
+
+    @Modifying
+    @Query(value = "delete from employee_tag_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+        insert into employee_tag_stats (employee_id, tag, tag_count)
+        select t.receiver_id, :tag, count(*)
+          from reward_point_transaction t
+         where t.receiver_id is not null and t.type <> 'REDEEM_ITEM'
+           and t.tag_mask in (:masks)
+         group by t.receiver_id
+    """, nativeQuery = true)
+    int backfill(@Param("tag") String tag, @Param("masks") Collection<Integer> masks);
+}
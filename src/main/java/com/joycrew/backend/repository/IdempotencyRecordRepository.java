@@ -0,0 +1,64 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /** 키 선점. 이미 있으면 PK 중복으로 실패한다 (save()는 merge가 되므로 쓰지 않는다). */
+    @Modifying
+    @Query(value = """
+        insert into idempotency_record (idempotency_key, request_hash, status, locked_at, expires_at)
+        values (:key, :hash, 'IN_PROGRESS', :now, :expiresAt)
+    """, nativeQuery = true)
+    int insertInProgress(@Param("key") String key, @Param("hash") String hash,
+                         @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /** 만료된 기록, 또는 같은 요청이 처리 중에 멈춘(staleBefore 이전에 잠근) 기록을 새 요청이 넘겨받는다. */
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+           set r.requestHash = :hash,
+               r.status = com.joycrew.backend.entity.enums.IdempotencyStatus.IN_PROGRESS,
+               r.responseStatus = null, r.responseContentType = null,
+               r.responseLocation = null, r.responseBody = null,
+               r.lockedAt = :now, r.expiresAt = :expiresAt
+         where r.idempotencyKey = :key
+           and (r.expiresAt < :now
+                or (r.status = com.joycrew.backend.entity.enums.IdempotencyStatus.IN_PROGRESS
+                    and r.lockedAt < :staleBefore and r.requestHash = :hash))
+    """)
+    int takeOver(@Param("key") String key, @Param("hash") String hash, @Param("now") LocalDateTime now,
+                 @Param("staleBefore") LocalDateTime staleBefore, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+           set r.status = com.joycrew.backend.entity.enums.IdempotencyStatus.COMPLETED,
+               r.responseStatus = :status, r.responseContentType = :contentType,
+               r.responseLocation = :location, r.responseBody = :body
+         where r.idempotencyKey = :key and r.requestHash = :hash
+           and r.status = com.joycrew.backend.entity.enums.IdempotencyStatus.IN_PROGRESS
+    """)
+    int complete(@Param("key") String key, @Param("hash") String hash, @Param("status") int status,
+                 @Param("contentType") String contentType, @Param("location") String location,
+                 @Param("body") String body);
+
+    /** 서버 오류로 끝난 요청은 기록을 지워 재시도가 다시 실행되게 한다. */
+    @Modifying
+    @Query("""
+        delete from IdempotencyRecord r
+         where r.idempotencyKey = :key and r.requestHash = :hash
+           and r.status = com.joycrew.backend.entity.enums.IdempotencyStatus.IN_PROGRESS
+    """)
+    int release(@Param("key") String key, @Param("hash") String hash);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -5,26 +5,20 @@ import com.joycrew.backend.entity.kakao.KakaoTemplate;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import java.util.List;
+
+import java.time.LocalDateTime;
 
 public interface KakaoTemplateRepository extends JpaRepository<KakaoTemplate, String> {
 
     // Existing method
     Page<KakaoTemplate> findByJoyCategory(GiftCategory category, Pageable pageable);
 
-    // Existing method
-    Page<KakaoTemplate> findByJoyCategoryAndNameContainingIgnoreCase(GiftCategory category, String name, Pageable pageable);
-
-    /**
-     * [NEW] 카테고리 없이 이름으로만 전체 검색
-     */
-    Page<KakaoTemplate> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    /** 카탈로그 변경 감지용 (CatalogSnapshotStore): 마지막 수정 시각과 전체 개수 */
+    interface CatalogStamp {
+        LocalDateTime getLastUpdatedAt();
+        long getTotal();
+    }
 
-    /**
-     * [NEW] 추천 상품용: 랜덤 N개 조회
-     */
-    @Query(value = "SELECT * FROM kakao_template ORDER BY RAND() LIMIT :limit",
-            nativeQuery = true)
-    List<KakaoTemplate> findRandomProducts(@Param("limit") int limit);
-}
\ No newline at end of file
+    @Query("select max(t.updatedAt) as lastUpdatedAt, count(t) as total from KakaoTemplate t")
+    CatalogStamp findCatalogStamp();
+}
@@ -4,7 +4,11 @@ import com.joycrew.backend.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -12,4 +16,18 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
   Page<Order> findByEmployee_EmployeeId(Long employeeId, Pageable pageable);
 
   Optional<Order> findByIdAndEmployee_EmployeeId(Long orderId, Long employeeId);
+
+  /** 인기도 초기 적재용: 기간 내 PLACED 주문의 상품/주문 시각 */
+  interface PlacedOrder {
+    Long getProductId();
+    LocalDateTime getOrderedAt();
+  }
+
+  @Query("""
+      select o.productId as productId, o.orderedAt as orderedAt
+        from Order o
+       where o.status = com.joycrew.backend.entity.enums.OrderStatus.PLACED
+         and o.orderedAt >= :since
+  """)
+  List<PlacedOrder> findPlacedSince(@Param("since") LocalDateTime since);
 }
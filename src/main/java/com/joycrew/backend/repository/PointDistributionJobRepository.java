@@ -0,0 +1,53 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.PointDistributionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointDistributionJobRepository extends JpaRepository<PointDistributionJob, Long> {
+
+    Optional<PointDistributionJob> findByIdAndCompanyCompanyId(Long id, Long companyId);
+
+    /** 대기 중이거나 하트비트가 끊긴 실행 중 작업 (워커 재시작/장애 후 재개 대상) */
+    @Query("""
+        select j.id from PointDistributionJob j
+         where j.status = com.joycrew.backend.entity.enums.DistributionJobStatus.QUEUED
+            or (j.status = com.joycrew.backend.entity.enums.DistributionJobStatus.RUNNING and j.heartbeatAt < :staleBefore)
+         order by j.id
+    """)
+    List<Long> findResumableIds(@Param("staleBefore") LocalDateTime staleBefore);
+
+    /** 작업 점유: 한 워커만 1을 받는다 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update PointDistributionJob j
+           set j.status = com.joycrew.backend.entity.enums.DistributionJobStatus.RUNNING,
+               j.heartbeatAt = :now,
+               j.startedAt = coalesce(j.startedAt, :now),
+               j.updatedAt = :now
+         where j.id = :id
+           and (j.status = com.joycrew.backend.entity.enums.DistributionJobStatus.QUEUED
+                or (j.status = com.joycrew.backend.entity.enums.DistributionJobStatus.RUNNING and j.heartbeatAt < :staleBefore))
+    """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /** 청크 커밋 지점 전진: 다른 워커가 이미 같은 청크를 처리했으면 0 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update PointDistributionJob j
+           set j.processedCount = :next,
+               j.heartbeatAt = :now,
+               j.updatedAt = :now
+         where j.id = :id
+           and j.processedCount = :expected
+           and j.status = com.joycrew.backend.entity.enums.DistributionJobStatus.RUNNING
+    """)
+    int advance(@Param("id") Long id, @Param("expected") int expected, @Param("next") int next,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,48 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.PointExpiryRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PointExpiryRunRepository extends JpaRepository<PointExpiryRun, Long> {
+
+    Optional<PointExpiryRun> findByCompanyIdAndRunDate(Long companyId, LocalDate runDate);
+
+    /** 청크 커밋 지점 전진: 다른 파드가 이미 같은 청크를 처리했으면 0 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update PointExpiryRun r
+           set r.lastWalletId = :next,
+               r.updatedAt = :now
+         where r.id = :id
+           and r.lastWalletId = :expected
+           and r.status = com.joycrew.backend.entity.enums.ExpiryRunStatus.RUNNING
+    """)
+    int advance(@Param("id") Long id, @Param("expected") long expected, @Param("next") long next,
+                @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update PointExpiryRun r
+           set r.expiredWallets = r.expiredWallets + :wallets,
+               r.expiredPoints = r.expiredPoints + :points
+         where r.id = :id
+    """)
+    int addExpired(@Param("id") Long id, @Param("wallets") int wallets, @Param("points") long points);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update PointExpiryRun r
+           set r.status = com.joycrew.backend.entity.enums.ExpiryRunStatus.COMPLETED,
+               r.completedAt = :now,
+               r.updatedAt = :now
+         where r.id = :id
+    """)
+    int complete(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,11 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.PointLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PointLedgerEntryRepository extends JpaRepository<PointLedgerEntry, Long>, PointLedgerJdbcRepository {
+
+  List<PointLedgerEntry> findByWalletIdOrderBySeq(Long walletId);
+}
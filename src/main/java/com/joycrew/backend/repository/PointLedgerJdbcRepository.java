@@ -0,0 +1,71 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.enums.LedgerAccount;
+import com.joycrew.backend.entity.enums.LedgerEntryType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 포인트 원장 JDBC 접근 (배치 INSERT, 지갑 위치 조회, 스냅샷 + 꼬리 합산).
+ * 원장과 스냅샷은 IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 직접 넣는다.
+ */
+public interface PointLedgerJdbcRepository {
+
+  /** 분개의 한 줄. 지갑 행은 walletId/seq 필수, 시스템 계정 행은 둘 다 null */
+  record Leg(LedgerAccount account, Long walletId, Long seq, long balanceDelta, long giftableDelta) {
+
+    public static Leg wallet(Long walletId, long seq, long balanceDelta, long giftableDelta) {
+      return new Leg(LedgerAccount.WALLET, walletId, seq, balanceDelta, giftableDelta);
+    }
+
+    public static Leg system(LedgerAccount account, long balanceDelta) {
+      return new Leg(account, null, null, balanceDelta, 0);
+    }
+  }
+
+  /** 지갑의 현재 원장 번호와 잔액 */
+  record WalletPosition(Long walletId, Long employeeId, long seq, long balance, long giftablePoint) { }
+
+  /**
+   * 한 지갑의 저장된 잔액과 원장 잔액(최신 스냅샷 + 꼬리 합)을 같은 SQL 한 문장에서 읽은 결과.
+   * ledger 값은 walletSeq 까지의 원장 행만 합산한다.
+   */
+  record WalletLedgerState(Long walletId, Long employeeId, long walletSeq, long walletBalance, long walletGiftable,
+                           long snapshotSeq, long ledgerBalance, long ledgerGiftable) {
+
+    public boolean matches() {
+      return walletBalance == ledgerBalance && walletGiftable == ledgerGiftable;
+    }
+  }
+
+  /** 분개 한 건을 기록한다. 지갑 행이 없는 분개나 합이 0이 아닌 분개는 호출 측에서 만들지 않는다. */
+  void appendJournal(LedgerEntryType type, String reference, List<Leg> legs, LocalDateTime at);
+
+  /** forUpdate=true 이면 walletId 순서로 행 락을 잡는다 (변경 전 값을 알아야 하는 회수용). */
+  List<WalletPosition> findPositions(Collection<Long> employeeIds, boolean forUpdate);
+
+  /** walletId 순 키셋 페이지 (정합성 점검/스냅샷 작업이 고정 메모리로 전체를 훑는다) */
+  List<WalletLedgerState> findLedgerStates(long afterWalletId, int limit);
+
+  Optional<WalletLedgerState> findLedgerStateByEmployeeId(Long employeeId);
+
+  /** 회사 소속이면서 잔액이 남은 지갑의 walletId 순 키셋 페이지 (잠그지 않음, 포인트 만료 작업용) */
+  List<WalletPosition> findWalletsWithBalance(Long companyId, long afterWalletId, int limit);
+
+  /**
+   * 선입선출 기준 만료 대상 포인트: 현재 잔액 - cutoff 이후 적립분(양수 원장, 환불 제외).
+   * 먼저 적립된 포인트부터 쓴 것으로 보므로 남은 값이 cutoff 이전 적립분(기준선 포함) 중 아직 쓰지 않은 양이다.
+   * cutoff 이후 원장 행만 읽으며, 지갑을 잠근 트랜잭션 안에서 호출해야 한다. 반환: walletId → 포인트
+   */
+  Map<Long, Long> findExpirable(Collection<Long> walletIds, LocalDateTime cutoff);
+
+  /** 각 상태의 원장 잔액을 walletSeq 시점 스냅샷으로 저장한다. */
+  void insertSnapshots(List<WalletLedgerState> states, LocalDateTime at);
+
+  /** 스냅샷이 없는 모든 지갑에 seq 0 기준선 = 저장된 잔액 - 지금까지의 원장 합 을 남긴다. */
+  int insertBaselineSnapshots(LocalDateTime at);
+}
@@ -0,0 +1,183 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.enums.LedgerEntryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class PointLedgerJdbcRepositoryImpl implements PointLedgerJdbcRepository {
+
+  private static final String INSERT_ENTRY_SQL = """
+      insert into point_ledger_entry
+        (journal_id, account, wallet_id, seq, entry_type, balance_delta, giftable_delta, reference, created_at)
+      values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_SNAPSHOT_SQL = """
+      insert into wallet_balance_snapshot (wallet_id, seq, balance, giftable_point, created_at)
+      values (?, ?, ?, ?, ?)
+      """;
+
+  private static final String POSITIONS_SQL = """
+      select w.wallet_id, w.employee_id, w.ledger_seq, w.balance, w.giftable_point
+        from wallet w
+       where w.employee_id in (:employeeIds)
+       order by w.wallet_id
+      """;
+
+  // 최신 스냅샷 + (스냅샷 seq, 지갑 seq] 구간 원장 합. (wallet_id, seq) 유니크 인덱스로 꼬리만 읽는다.
+  private static final String LEDGER_STATE_SQL = """
+      select w.wallet_id, w.employee_id, w.ledger_seq, w.balance, w.giftable_point,
+             coalesce(s.seq, 0) as snapshot_seq,
+             coalesce(s.balance, 0) + coalesce(sum(e.balance_delta), 0) as ledger_balance,
+             coalesce(s.giftable_point, 0) + coalesce(sum(e.giftable_delta), 0) as ledger_giftable
+        from wallet w
+        left join wallet_balance_snapshot s
+               on s.wallet_id = w.wallet_id
+              and s.seq = (select max(s2.seq) from wallet_balance_snapshot s2 where s2.wallet_id = w.wallet_id)
+        left join point_ledger_entry e
+               on e.wallet_id = w.wallet_id
+              and e.seq > coalesce(s.seq, 0)
+              and e.seq <= w.ledger_seq
+       where %s
+       group by w.wallet_id, w.employee_id, w.ledger_seq, w.balance, w.giftable_point,
+                s.seq, s.balance, s.giftable_point
+       order by w.wallet_id
+      """;
+
+  private static final String BASELINE_SQL = """
+      insert into wallet_balance_snapshot (wallet_id, seq, balance, giftable_point, created_at)
+      select w.wallet_id, 0,
+             w.balance - coalesce(sum(e.balance_delta), 0),
+             w.giftable_point - coalesce(sum(e.giftable_delta), 0),
+             :at
+        from wallet w
+        left join point_ledger_entry e on e.wallet_id = w.wallet_id and e.seq <= w.ledger_seq
+       where not exists (select 1 from wallet_balance_snapshot s where s.wallet_id = w.wallet_id)
+       group by w.wallet_id, w.balance, w.giftable_point
+      """;
+
+  private static final String WALLETS_WITH_BALANCE_SQL = """
+      select w.wallet_id, w.employee_id, w.ledger_seq, w.balance, w.giftable_point
+        from wallet w
+        join employee e on e.employee_id = w.employee_id
+       where e.company_id = :companyId
+         and w.wallet_id > :after
+         and w.balance > 0
+       order by w.wallet_id
+       limit :limit
+      """;
+
+  // 선입선출이면 남은 잔액 중 cutoff 이후 적립분을 뺀 나머지가 cutoff 이전 적립분이다 (환불은 적립이 아니라 사용의 취소).
+  // cutoff 이후 행만 (wallet_id, created_at) 인덱스로 읽는다. 지갑은 호출 측이 잠근 상태라 잔액과 원장이 맞물린다.
+  private static final String EXPIRABLE_SQL = """
+      select w.wallet_id,
+             w.balance - coalesce(sum(e.balance_delta), 0) as expirable
+        from wallet w
+        left join point_ledger_entry e
+               on e.wallet_id = w.wallet_id
+              and e.created_at >= :cutoff
+              and e.balance_delta > 0
+              and e.entry_type <> 'REFUND'
+       where w.wallet_id in (:walletIds)
+       group by w.wallet_id, w.balance
+      """;
+
+  private static final RowMapper<WalletPosition> POSITION_MAPPER = (rs, i) -> new WalletPosition(
+      rs.getLong("wallet_id"), rs.getLong("employee_id"), rs.getLong("ledger_seq"),
+      rs.getLong("balance"), rs.getLong("giftable_point"));
+
+  private static final RowMapper<WalletLedgerState> STATE_MAPPER = (rs, i) -> new WalletLedgerState(
+      rs.getLong("wallet_id"), rs.getLong("employee_id"), rs.getLong("ledger_seq"),
+      rs.getLong("balance"), rs.getLong("giftable_point"), rs.getLong("snapshot_seq"),
+      rs.getLong("ledger_balance"), rs.getLong("ledger_giftable"));
+
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  @Override
+  public void appendJournal(LedgerEntryType type, String reference, List<Leg> legs, LocalDateTime at) {
+    String journalId = UUID.randomUUID().toString();
+    Timestamp timestamp = Timestamp.valueOf(at);
+
+    namedJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_ENTRY_SQL, legs, legs.size(), (ps, leg) -> {
+      ps.setString(1, journalId);
+      ps.setString(2, leg.account().name());
+      ps.setObject(3, leg.walletId(), Types.BIGINT);
+      ps.setObject(4, leg.seq(), Types.BIGINT);
+      ps.setString(5, type.name());
+      ps.setLong(6, leg.balanceDelta());
+      ps.setLong(7, leg.giftableDelta());
+      ps.setString(8, reference);
+      ps.setTimestamp(9, timestamp);
+    });
+  }
+
+  @Override
+  public List<WalletPosition> findPositions(Collection<Long> employeeIds, boolean forUpdate) {
+    return namedJdbcTemplate.query(forUpdate ? POSITIONS_SQL + " for update" : POSITIONS_SQL,
+        Map.of("employeeIds", employeeIds), POSITION_MAPPER);
+  }
+
+  @Override
+  public List<WalletPosition> findWalletsWithBalance(Long companyId, long afterWalletId, int limit) {
+    return namedJdbcTemplate.query(WALLETS_WITH_BALANCE_SQL,
+        new MapSqlParameterSource("companyId", companyId).addValue("after", afterWalletId).addValue("limit", limit),
+        POSITION_MAPPER);
+  }
+
+  @Override
+  public Map<Long, Long> findExpirable(Collection<Long> walletIds, LocalDateTime cutoff) {
+    Map<Long, Long> expirable = new HashMap<>();
+    if (walletIds.isEmpty()) return expirable;
+    namedJdbcTemplate.query(EXPIRABLE_SQL,
+        new MapSqlParameterSource("walletIds", walletIds).addValue("cutoff", Timestamp.valueOf(cutoff)),
+        rs -> {
+          long remaining = rs.getLong("expirable");
+          if (remaining > 0) expirable.put(rs.getLong("wallet_id"), remaining);
+        });
+    return expirable;
+  }
+
+  @Override
+  public List<WalletLedgerState> findLedgerStates(long afterWalletId, int limit) {
+    return namedJdbcTemplate.query(LEDGER_STATE_SQL.formatted("w.wallet_id > :after") + " limit :limit",
+        new MapSqlParameterSource("after", afterWalletId).addValue("limit", limit), STATE_MAPPER);
+  }
+
+  @Override
+  public Optional<WalletLedgerState> findLedgerStateByEmployeeId(Long employeeId) {
+    return namedJdbcTemplate.query(LEDGER_STATE_SQL.formatted("w.employee_id = :employeeId"),
+        Map.of("employeeId", employeeId), STATE_MAPPER).stream().findFirst();
+  }
+
+  @Override
+  public void insertSnapshots(List<WalletLedgerState> states, LocalDateTime at) {
+    if (states.isEmpty()) return;
+    Timestamp timestamp = Timestamp.valueOf(at);
+
+    namedJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SNAPSHOT_SQL, states, states.size(), (ps, state) -> {
+      ps.setLong(1, state.walletId());
+      ps.setLong(2, state.walletSeq());
+      ps.setLong(3, state.ledgerBalance());
+      ps.setLong(4, state.ledgerGiftable());
+      ps.setTimestamp(5, timestamp);
+    });
+  }
+
+  @Override
+  public int insertBaselineSnapshots(LocalDateTime at) {
+    return namedJdbcTemplate.update(BASELINE_SQL, Map.of("at", Timestamp.valueOf(at)));
+  }
+}
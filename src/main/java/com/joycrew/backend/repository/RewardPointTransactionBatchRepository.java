@@ -0,0 +1,18 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.enums.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 내역 대량 INSERT.
+ * RewardPointTransaction은 IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 직접 넣는다.
+ */
+public interface RewardPointTransactionBatchRepository {
+
+  record TransactionRow(Long senderId, Long receiverId, int pointAmount) { }
+
+  /** 같은 메시지/유형/시각의 거래를 JDBC 배치로 INSERT 한다. 태그는 저장하지 않는다. */
+  void insertAll(List<TransactionRow> rows, String message, TransactionType type, LocalDateTime at);
+}
@@ -0,0 +1,38 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+class RewardPointTransactionBatchRepositoryImpl implements RewardPointTransactionBatchRepository {
+
+  private static final String INSERT_SQL = """
+      insert into reward_point_transaction
+        (sender_id, receiver_id, point_amount, message, type, transaction_date, created_at)
+      values (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void insertAll(List<TransactionRow> rows, String message, TransactionType type, LocalDateTime at) {
+    if (rows.isEmpty()) return;
+    Timestamp timestamp = Timestamp.valueOf(at);
+
+    // MySQL은 URL에 rewriteBatchedStatements=true 를 주면 다중 VALUES INSERT 한 문장으로 전송된다
+    jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+      ps.setObject(1, row.senderId());
+      ps.setObject(2, row.receiverId());
+      ps.setInt(3, row.pointAmount());
+      ps.setString(4, message);
+      ps.setString(5, type.name());
+      ps.setTimestamp(6, timestamp);
+      ps.setTimestamp(7, timestamp);
+    });
+  }
+}
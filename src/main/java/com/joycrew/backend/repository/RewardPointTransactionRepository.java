@@ -2,6 +2,8 @@ package com.joycrew.backend.repository;
 
 import com.joycrew.backend.entity.Employee;
 import com.joycrew.backend.entity.RewardPointTransaction;
+import com.joycrew.backend.entity.enums.TransactionType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -9,19 +11,67 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface RewardPointTransactionRepository extends JpaRepository<RewardPointTransaction, Long> {
+public interface RewardPointTransactionRepository extends JpaRepository<RewardPointTransaction, Long>,
+    RewardPointTransactionBatchRepository {
   @EntityGraph(attributePaths = {"sender", "receiver"})
   List<RewardPointTransaction> findBySenderOrReceiverOrderByTransactionDateDesc(Employee sender, Employee receiver);
 
   List<RewardPointTransaction> findAllByOrderByTransactionDateDesc();
 
+  // 통계 화면 거래 내역 (페이지 단위)
+  @EntityGraph(attributePaths = {"sender", "sender.department"})
+  Page<RewardPointTransaction> findByReceiverEmployeeIdAndTypeNot(Long receiverId, TransactionType type, Pageable pageable);
+
+  @EntityGraph(attributePaths = {"receiver", "receiver.department"})
+  Page<RewardPointTransaction> findBySenderEmployeeIdAndTypeNot(Long senderId, TransactionType type, Pageable pageable);
+
   @EntityGraph(attributePaths = {"sender", "receiver"})
   List<RewardPointTransaction> findBySenderOrReceiver(Employee sender, Employee receiver);
 
   Page<RewardPointTransaction> findBySenderCompanyCompanyIdOrReceiverCompanyCompanyId(Long companyId1, Long companyId2, Pageable pageable);
 
+  // ===== 내 거래 내역 키셋 페이지네이션 =====
+  // (transactionDate, transactionId) 가 커서보다 작은 행을 최신순으로 limit 만큼.
+  // 보낸/받은 쪽을 각각 인덱스로 조회한 뒤 서비스에서 병합한다 (OR 조건은 인덱스를 타지 못함).
+
+  @Query("""
+    select tx
+    from RewardPointTransaction tx
+      left join fetch tx.sender
+      left join fetch tx.receiver
+    where tx.sender.employeeId = :employeeId
+      and tx.type in :types
+      and (tx.transactionDate < :beforeDate
+           or (tx.transactionDate = :beforeDate and tx.transactionId < :beforeId))
+    order by tx.transactionDate desc, tx.transactionId desc
+  """)
+  List<RewardPointTransaction> findSentBefore(@Param("employeeId") Long employeeId,
+                                              @Param("types") Collection<TransactionType> types,
+                                              @Param("beforeDate") LocalDateTime beforeDate,
+                                              @Param("beforeId") Long beforeId,
+                                              Limit limit);
+
+  @Query("""
+    select tx
+    from RewardPointTransaction tx
+      left join fetch tx.sender
+      left join fetch tx.receiver
+    where tx.receiver.employeeId = :employeeId
+      and tx.type in :types
+      and (tx.transactionDate < :beforeDate
+           or (tx.transactionDate = :beforeDate and tx.transactionId < :beforeId))
+    order by tx.transactionDate desc, tx.transactionId desc
+  """)
+  List<RewardPointTransaction> findReceivedBefore(@Param("employeeId") Long employeeId,
+                                                  @Param("types") Collection<TransactionType> types,
+                                                  @Param("beforeDate") LocalDateTime beforeDate,
+                                                  @Param("beforeId") Long beforeId,
+                                                  Limit limit);
+
   @Query("""
     select tx
     from RewardPointTransaction tx
@@ -0,0 +1,46 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.kakao.TemplatePopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TemplatePopularityRepository extends JpaRepository<TemplatePopularity, String> {
+
+    /** 가중치 덧셈. weight는 epoch 기준 값이며 같은 기준 시각의 행에만 더한다 (0이면 호출 측이 INSERT) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TemplatePopularity p
+           set p.score = p.score + :weight,
+               p.updatedAt = :now
+         where p.templateId = :templateId
+           and p.scoreEpoch = :epoch
+    """)
+    int addScore(@Param("templateId") String templateId, @Param("weight") double weight,
+                 @Param("epoch") LocalDateTime epoch, @Param("now") LocalDateTime now);
+
+    /** 기준 시각 이동: from 기준 점수에 factor(= 2^((from - to) / 반감기))를 곱해 to 기준으로 바꾼다 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TemplatePopularity p
+           set p.score = p.score * :factor,
+               p.scoreEpoch = :to,
+               p.updatedAt = :now
+         where p.scoreEpoch = :from
+    """)
+    int rebase(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, @Param("factor") double factor,
+               @Param("now") LocalDateTime now);
+
+    @Query("select distinct p.scoreEpoch from TemplatePopularity p where p.scoreEpoch < :epoch")
+    List<LocalDateTime> findEpochsBefore(@Param("epoch") LocalDateTime epoch);
+
+    @Query("select max(p.scoreEpoch) from TemplatePopularity p")
+    LocalDateTime findLatestEpoch();
+
+    @Query("select max(p.updatedAt) from TemplatePopularity p")
+    LocalDateTime findLastUpdatedAt();
+}
@@ -0,0 +1,7 @@
+package com.joycrew.backend.repository;
+
+import com.joycrew.backend.entity.WalletBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WalletBalanceSnapshotRepository extends JpaRepository<WalletBalanceSnapshot, Long> {
+}
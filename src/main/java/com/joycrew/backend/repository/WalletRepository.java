@@ -4,8 +4,13 @@ import com.joycrew.backend.entity.Wallet;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface WalletRepository extends JpaRepository<Wallet, Long> {
@@ -19,4 +24,116 @@ public interface WalletRepository extends JpaRepository<Wallet, Long> {
     Optional<Wallet> findByEmployee_EmployeeId(Long employeeId);
 
     Optional<Wallet> findByEmployeeCompanyCompanyIdAndEmployeeEmployeeId(Long companyId, Long employeeId);
+
+    // ===== 원자적 조건부 갱신 (WalletLedgerService 전용) =====
+    // 단일 UPDATE 문으로 잔액을 검사하고 변경한다. 반환값 = 변경된 행 수 (0이면 지갑 없음 또는 잔액 부족)
+    // 영속성 컨텍스트의 Wallet 엔티티는 갱신되지 않으므로 같은 트랜잭션에서 엔티티로 다시 수정하지 않는다.
+    // 모든 갱신은 ledgerSeq를 1 올리고, 호출 측이 그 번호로 원장 행을 남긴다.
+
+    /** 관리자 지급: 총 잔액 + 선물 한도 증가 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.balance = w.balance + :amount,
+               w.giftablePoint = w.giftablePoint + :amount,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId = :employeeId
+    """)
+    int addPoints(@Param("employeeId") Long employeeId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    /** 선물 받기 / 환불: 총 잔액만 증가 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.balance = w.balance + :amount,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId = :employeeId
+    """)
+    int addBalance(@Param("employeeId") Long employeeId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    /** 선물 하기: 선물 한도와 총 잔액이 모두 충분할 때만 둘 다 차감 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.balance = w.balance - :amount,
+               w.giftablePoint = w.giftablePoint - :amount,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId = :employeeId
+           and w.giftablePoint >= :amount
+           and w.balance >= :amount
+    """)
+    int spendGiftablePoints(@Param("employeeId") Long employeeId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    /** 구매: 총 잔액이 충분할 때만 총 잔액 차감 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.balance = w.balance - :amount,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId = :employeeId
+           and w.balance >= :amount
+    """)
+    int spendBalance(@Param("employeeId") Long employeeId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    /** 관리자 회수: 총 잔액 차감, 선물 한도는 0 미만으로 내려가지 않음 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.balance = w.balance - :amount,
+               w.giftablePoint = case when w.giftablePoint > :amount then w.giftablePoint - :amount else 0 end,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId = :employeeId
+           and w.balance >= :amount
+    """)
+    int revokePoints(@Param("employeeId") Long employeeId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    /**
+     * 유효기간 만료: 총 잔액 차감, 선물 한도는 남은 잔액을 넘지 않게 줄인다.
+     * MySQL은 SET 절을 왼쪽부터 평가하므로 변경 전 balance를 읽는 giftablePoint를 먼저 둔다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.giftablePoint = case when w.giftablePoint > w.balance - :amount then w.balance - :amount else w.giftablePoint end,
+               w.balance = w.balance - :amount,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId = :employeeId
+           and w.balance >= :amount
+    """)
+    int expirePoints(@Param("employeeId") Long employeeId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    boolean existsByEmployee_EmployeeId(Long employeeId);
+
+    // ===== 대량 지급/회수 (같은 금액을 받는 직원들을 UPDATE 한 문장으로 처리) =====
+
+    /** 관리자 일괄 지급: 총 잔액 + 선물 한도 증가 */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.balance = w.balance + :amount,
+               w.giftablePoint = w.giftablePoint + :amount,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId in :employeeIds
+    """)
+    int addPointsToAll(@Param("employeeIds") Collection<Long> employeeIds, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    /** 관리자 일괄 회수: 잔액이 충분한 지갑만 차감 (반환 행 수 < 대상 수면 일부 부족) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.balance = w.balance - :amount,
+               w.giftablePoint = case when w.giftablePoint > :amount then w.giftablePoint - :amount else 0 end,
+               w.ledgerSeq = w.ledgerSeq + 1,
+               w.updatedAt = :now
+         where w.employee.employeeId in :employeeIds
+           and w.balance >= :amount
+    """)
+    int revokePointsFromAll(@Param("employeeIds") Collection<Long> employeeIds, @Param("amount") int amount, @Param("now") LocalDateTime now);
 }
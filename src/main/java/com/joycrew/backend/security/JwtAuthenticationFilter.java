@@ -1,50 +1,62 @@
 package com.joycrew.backend.security;
 
 import com.joycrew.backend.tenant.TenantContext;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
-    // JWT 토큰 검사를 건너뛸 경로 목록 (SecurityConfig와 일치하도록 유지)
-    private static final List<String> EXCLUDE_URLS = Arrays.asList(
-            "/",
-            "/error",
-            "/actuator/health",
-            "/actuator/prometheus",
-            "/h2-console/**",
-            "/api/auth/**",
-            "/api/kyc/phone/**",
-            "/accounts/emails/by-phone",
-            "/api/catalog/**",
-            "/v3/api-docs/**",
-            "/swagger-ui/**",
-            "/swagger-ui.html"
-    );
+    private final PrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    // JWT 토큰 검사를 건너뛸 경로 (SecurityConfig의 permitAll과 같은 목록)
+    private final PublicRouteRegistry publicRoutes;
+
+    private final Counter bypassedRequests;
+    private final Counter authenticatedRequests;
+    private final Counter anonymousRequests;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache,
+                                   TokenVersionRegistry tokenVersionRegistry,
+                                   PublicRouteRegistry publicRoutes,
+                                   MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.publicRoutes = publicRoutes;
+        this.bypassedRequests = requestCounter(meterRegistry, "bypassed");
+        this.authenticatedRequests = requestCounter(meterRegistry, "authenticated");
+        this.anonymousRequests = requestCounter(meterRegistry, "anonymous");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.filter.requests")
+                .description("Requests seen by the JWT filter, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
     /**
      * Authorization 헤더 또는 JC_AUTH 쿠키에서 토큰을 추출한다.
@@ -72,11 +84,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private boolean isExcluded(String path) {
-        return EXCLUDE_URLS.stream()
-                .anyMatch(excludeUrl -> pathMatcher.match(excludeUrl, path));
-    }
-
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -84,15 +91,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String path = request.getServletPath();
+        String method = request.getMethod();
 
         // CORS Preflight 요청(OPTIONS)은 항상 통과
-        if (request.getMethod().equalsIgnoreCase("OPTIONS")) {
+        if (method.equalsIgnoreCase("OPTIONS")) {
+            bypassedRequests.increment();
             filterChain.doFilter(request, response);
             return;
         }
 
         // 화이트리스트 경로는 JWT 검사 스킵
-        if (isExcluded(path)) {
+        if (publicRoutes.isPublic(method, path)) {
+            bypassedRequests.increment();
             log.debug("JWT Filter bypassed for path: {}", path);
             filterChain.doFilter(request, response);
             return;
@@ -104,44 +114,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
         if (token == null || token.isBlank()) {
             log.warn("No JWT token found for protected path: {}", path);
+            anonymousRequests.increment();
             filterChain.doFilter(request, response);
             return;
         }
 
-        String email = null;
+        Claims claims = null;
         boolean tenantSetByJwt = false;
+        boolean authenticated = false;
 
         try {
             try {
-                email = jwtUtil.getEmailFromToken(token);
+                claims = jwtUtil.parseClaims(token);
             } catch (ExpiredJwtException e) {
                 log.warn("JWT token has expired: {}", e.getMessage());
             } catch (JwtException e) {
                 log.warn("Invalid JWT token: {}", e.getMessage());
             }
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(email);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("User '{}' authenticated successfully.", email);
-
-                // 🔁 도메인 필터가 테넌트를 못 설정한 경우, JWT에서 유저 회사 기준으로 fallback 설정
-                if (TenantContext.get() == null && userDetails instanceof UserPrincipal principal) {
-                    Long userCompanyId = principal.getEmployee().getCompany().getCompanyId();
-                    TenantContext.set(userCompanyId);
-                    tenantSetByJwt = true;
-                    log.debug("Tenant fallback: Set to Company ID {} from JWT UserPrincipal", userCompanyId);
+            if (claims != null && claims.getSubject() != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = resolvePrincipal(claims);
+
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails,
+                                    null,
+                                    userDetails.getAuthorities()
+                            );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    authenticated = true;
+                    log.info("User '{}' authenticated successfully.", userDetails.getUsername());
+
+                    // 🔁 도메인 필터가 테넌트를 못 설정한 경우, JWT에서 유저 회사 기준으로 fallback 설정
+                    if (TenantContext.get() == null && userDetails instanceof UserPrincipal principal
+                            && principal.getCompanyId() != null) {
+                        Long userCompanyId = principal.getCompanyId();
+                        TenantContext.set(userCompanyId);
+                        tenantSetByJwt = true;
+                        log.debug("Tenant fallback: Set to Company ID {} from JWT UserPrincipal", userCompanyId);
+                    }
                 }
             }
 
+            (authenticated ? authenticatedRequests : anonymousRequests).increment();
             filterChain.doFilter(request, response);
 
         } finally {
@@ -151,4 +169,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
     }
+
+    /**
+     * 클레임 기반 토큰은 DB 조회 없이 주체를 구성하고 토큰 버전만 확인한다.
+     * 이전 형식(subject만 있는) 토큰은 캐시를 거쳐 DB에서 로드한다.
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        UserPrincipal fromClaims = jwtUtil.toPrincipal(claims);
+        if (fromClaims != null) {
+            if (!tokenVersionRegistry.isCurrent(fromClaims.getEmployeeId(), fromClaims.getTokenVersion())) {
+                log.warn("Revoked JWT token for employeeId={}", fromClaims.getEmployeeId());
+                return null;
+            }
+            return fromClaims;
+        }
+
+        long issuedAt = (claims.getIssuedAt() != null) ? claims.getIssuedAt().getTime() : 0L;
+        // 캐시 미스일 때만 DB 조회 (email + 토큰 발급 시각 기준)
+        return principalCache.get(claims.getSubject(), issuedAt, userDetailsService::loadUserByUsername);
+    }
 }
@@ -1,5 +1,11 @@
 package com.joycrew.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.enums.AdminLevel;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -7,21 +13,60 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.nio.charset.StandardCharsets;
 
 @Component
 public class JwtUtil {
 
-  @Value("${jwt.secret}")
-  private String secretKey;
+  static final String CLAIM_EMPLOYEE_ID = "eid";
+  static final String CLAIM_COMPANY_ID = "cid";
+  static final String CLAIM_ROLE = "role";
+  static final String CLAIM_TOKEN_VERSION = "ver";
 
-  @Value("${jwt.expiration-ms}")
-  private long expirationTime;
+  private final long expirationTime;
 
-  private SecretKey getSigningKey() {
-    byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-    return Keys.hmacShaKeyFor(keyBytes);
+  // 키와 파서는 불변/스레드 안전하므로 한 번만 만들어 재사용
+  private final SecretKey signingKey;
+  private final JwtParser parser;
+
+  // 최근 검증된 토큰 → 클레임. 같은 SPA 세션의 반복 요청은 HMAC 검증을 생략한다.
+  // 키는 토큰 문자열 자체(완전 일치 비교)이므로 위조 토큰이 캐시에 적중할 수 없다.
+  private final Cache<String, Claims> verifiedTokens;
+
+  public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                 @Value("${jwt.expiration-ms}") long expirationTime,
+                 @Value("${jwt.verified-token-cache.max-size:1024}") long verifiedTokenCacheSize) {
+    this.expirationTime = expirationTime;
+    this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    this.verifiedTokens = verifiedTokenCacheSize > 0
+        ? Caffeine.newBuilder()
+            .maximumSize(verifiedTokenCacheSize)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build()
+        : null;
+  }
+
+  /**
+   * 액세스 토큰 발급. 인증에 필요한 정보(직원/회사 ID, 역할, 토큰 버전)를 클레임에 담아
+   * 요청마다 DB를 조회하지 않아도 되도록 한다.
+   */
+  public String generateToken(Employee employee) {
+    Date now = new Date();
+    Date expiryDate = new Date(now.getTime() + expirationTime);
+
+    return Jwts.builder()
+        .setSubject(employee.getEmail())
+        .claim(CLAIM_EMPLOYEE_ID, employee.getEmployeeId())
+        .claim(CLAIM_COMPANY_ID, employee.getCompany().getCompanyId())
+        .claim(CLAIM_ROLE, employee.getRole().name())
+        .claim(CLAIM_TOKEN_VERSION, employee.getTokenVersion())
+        .setIssuedAt(now)
+        .setExpiration(expiryDate)
+        .signWith(signingKey, SignatureAlgorithm.HS256)
+        .compact();
   }
 
   public String generateToken(String email) {
@@ -36,16 +81,45 @@ public class JwtUtil {
         .setSubject(email)
         .setIssuedAt(now)
         .setExpiration(expiryDate)
-        .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+        .signWith(signingKey, SignatureAlgorithm.HS256)
         .compact();
   }
 
   public String getEmailFromToken(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(getSigningKey())
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getSubject();
+    return parseClaims(token).getSubject();
+  }
+
+  public Claims parseClaims(String token) {
+    if (verifiedTokens == null) {
+      return parser.parseClaimsJws(token).getBody();
+    }
+
+    Claims cached = verifiedTokens.getIfPresent(token);
+    if (cached != null) {
+      Date expiration = cached.getExpiration();
+      if (expiration == null || expiration.after(new Date())) {
+        return cached;
+      }
+      // 만료된 토큰은 파서가 ExpiredJwtException을 던지도록 다시 검증
+      verifiedTokens.invalidate(token);
+    }
+
+    Claims claims = parser.parseClaimsJws(token).getBody();
+    verifiedTokens.put(token, claims);
+    return claims;
+  }
+
+  /**
+   * 클레임만으로 인증 주체를 구성한다. 이전 형식(subject만 있는) 토큰이면 null.
+   */
+  public UserPrincipal toPrincipal(Claims claims) {
+    Long employeeId = claims.get(CLAIM_EMPLOYEE_ID, Long.class);
+    Long companyId = claims.get(CLAIM_COMPANY_ID, Long.class);
+    String role = claims.get(CLAIM_ROLE, String.class);
+    Integer version = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+    if (employeeId == null || companyId == null || role == null || version == null) {
+      return null;
+    }
+    return UserPrincipal.fromClaims(employeeId, companyId, claims.getSubject(), AdminLevel.valueOf(role), version);
   }
-}
\ No newline at end of file
+}
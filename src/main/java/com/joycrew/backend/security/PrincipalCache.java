@@ -0,0 +1,64 @@
+package com.joycrew.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joycrew.backend.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 시 매 요청마다 DB에서 직원을 다시 읽지 않도록 인증 주체를 캐싱한다.
+ * - 키: (email, 토큰 발급 시각) → 재로그인으로 새 토큰이 발급되면 자연스럽게 새 엔트리가 생성됨
+ * - TTL + 최대 크기 기반 제거, hit/miss 지표는 Micrometer(cache.gets 등)로 노출
+ * - 직원 정보 변경 시 커밋 이후 해당 email의 엔트리를 모두 제거
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+  private final Cache<Key, UserDetails> cache;
+
+  public PrincipalCache(@Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                        @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                        MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.principal");
+  }
+
+  public UserDetails get(String email, long issuedAtMillis, Function<String, UserDetails> loader) {
+    // cache.get(key, loader)는 ConcurrentHashMap.compute(synchronized) 안에서 DB를 조회하므로
+    // 가상 스레드가 캐리어에 고정(pinning)된다. 조회는 락 밖에서 하고 결과만 넣는다.
+    Key key = new Key(email, issuedAtMillis);
+    UserDetails cached = cache.getIfPresent(key);
+    if (cached != null) return cached;
+
+    UserDetails loaded = loader.apply(email);
+    if (loaded != null) cache.put(key, loaded);
+    return loaded;
+  }
+
+  public void invalidate(String email) {
+    if (email == null) return;
+    cache.asMap().keySet().removeIf(k -> k.email().equals(email));
+    log.debug("Principal cache invalidated for {}", email);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEmployeeChanged(EmployeeChangedEvent event) {
+    invalidate(event.getEmail());
+  }
+
+  private record Key(String email, long issuedAtMillis) {}
+}
@@ -0,0 +1,101 @@
+package com.joycrew.backend.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록 (SecurityConfig의 permitAll과 JWT 필터 제외 목록의 단일 출처).
+ * 기동 시 문자 단위 트라이로 컴파일되어, 요청마다 경로 길이에 비례하는 비용으로 할당 없이 검사한다.
+ * 지원 패턴: 완전 일치("/a/b") 또는 하위 경로 전체("/a/**").
+ */
+@Component
+public class PublicRouteRegistry {
+
+  /** method == null 이면 모든 HTTP 메서드에 적용 */
+  public record PublicRoute(HttpMethod method, String pattern) {}
+
+  private static final List<PublicRoute> ROUTES = List.of(
+      new PublicRoute(null, "/"),
+      new PublicRoute(null, "/error"),
+      new PublicRoute(null, "/actuator/health"),
+      new PublicRoute(null, "/h2-console/**"),
+      new PublicRoute(null, "/api/auth/login"),
+      new PublicRoute(null, "/api/auth/logout"),
+      new PublicRoute(null, "/api/auth/password-reset/request"),
+      new PublicRoute(null, "/api/auth/password-reset/confirm"),
+      new PublicRoute(null, "/v3/api-docs/**"),
+      new PublicRoute(null, "/swagger-ui/**"),
+      new PublicRoute(null, "/swagger-ui.html"),
+      new PublicRoute(null, "/api/kyc/phone/**"),
+      new PublicRoute(null, "/accounts/emails/by-phone"),
+      new PublicRoute(HttpMethod.GET, "/api/catalog/**")
+  );
+
+  private final Node anyMethod = new Node();
+  private final Map<String, Node> byMethod = new HashMap<>();
+
+  public PublicRouteRegistry() {
+    for (PublicRoute route : ROUTES) {
+      Node root = (route.method() == null)
+          ? anyMethod
+          : byMethod.computeIfAbsent(route.method().name(), m -> new Node());
+      insert(root, route.pattern());
+    }
+  }
+
+  public List<PublicRoute> routes() {
+    return ROUTES;
+  }
+
+  public boolean isPublic(String method, String path) {
+    if (path == null) return false;
+    if (matches(anyMethod, path)) return true;
+    Node methodRoot = (method != null) ? byMethod.get(method) : null;
+    return methodRoot != null && matches(methodRoot, path);
+  }
+
+  private static void insert(Node root, String pattern) {
+    boolean subtree = pattern.endsWith("/**");
+    String literal = subtree ? pattern.substring(0, pattern.length() - 3) : pattern;
+    if (literal.indexOf('*') >= 0 || literal.indexOf('?') >= 0 || literal.indexOf('{') >= 0) {
+      throw new IllegalArgumentException("Unsupported public route pattern: " + pattern);
+    }
+
+    Node node = root;
+    for (int i = 0; i < literal.length(); i++) {
+      char c = literal.charAt(i);
+      if (c >= Node.WIDTH) {
+        throw new IllegalArgumentException("Non-ASCII public route pattern: " + pattern);
+      }
+      if (node.children[c] == null) node.children[c] = new Node();
+      node = node.children[c];
+    }
+    if (subtree) node.subtree = true;
+    else node.exact = true;
+  }
+
+  private static boolean matches(Node root, String path) {
+    Node node = root;
+    int length = path.length();
+    for (int i = 0; i < length; i++) {
+      // "/a/**" 는 "/a" 와 "/a/..." 모두 허용 (AntPathMatcher와 동일)
+      if (node.subtree && path.charAt(i) == '/') return true;
+      char c = path.charAt(i);
+      if (c >= Node.WIDTH) return false;
+      node = node.children[c];
+      if (node == null) return false;
+    }
+    return node.exact || node.subtree;
+  }
+
+  private static final class Node {
+    static final int WIDTH = 128;
+    final Node[] children = new Node[WIDTH];
+    boolean exact;
+    boolean subtree;
+  }
+}
@@ -0,0 +1,78 @@
+package com.joycrew.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joycrew.backend.event.EmployeeChangedEvent;
+import com.joycrew.backend.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 직원별 현재 토큰 버전을 메모리에 보관하여, 클레임 기반 인증에서 무효화된 토큰을 걸러낸다.
+ * - 토큰 버전이 캐시 값과 같으면 DB 조회 없이 통과
+ * - 토큰 버전이 더 높으면(다른 파드에서 갱신되어 캐시가 오래된 경우) DB에서 한 번 다시 확인
+ * - 토큰 버전이 더 낮거나 비활성 직원이면 거부
+ * 다른 파드에서 발생한 무효화는 최대 TTL만큼 늦게 반영된다.
+ */
+@Component
+public class TokenVersionRegistry {
+
+  private static final int INACTIVE = -1;
+
+  private final EmployeeRepository employeeRepository;
+  private final Cache<Long, Integer> versions;
+  private final Counter rejected;
+
+  public TokenVersionRegistry(EmployeeRepository employeeRepository,
+                              @Value("${jwt.token-version.max-size:10000}") long maxSize,
+                              @Value("${jwt.token-version.ttl-seconds:60}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+    this.employeeRepository = employeeRepository;
+    this.versions = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    this.rejected = Counter.builder("jwt.token.revoked")
+        .description("Tokens rejected because their version is no longer current")
+        .register(meterRegistry);
+    CaffeineCacheMetrics.monitor(meterRegistry, versions, "jwt.token-version");
+  }
+
+  public boolean isCurrent(Long employeeId, int tokenVersion) {
+    int known = cachedOrLoad(employeeId);
+    if (known == tokenVersion) return true;
+
+    if (known != INACTIVE && tokenVersion > known) {
+      versions.invalidate(employeeId);
+      known = cachedOrLoad(employeeId);
+      if (known == tokenVersion) return true;
+    }
+
+    rejected.increment();
+    return false;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEmployeeChanged(EmployeeChangedEvent event) {
+    if (event.getEmployeeId() != null) {
+      versions.invalidate(event.getEmployeeId());
+    }
+  }
+
+  // 가상 스레드 pinning 방지: DB 조회를 캐시 내부 락(compute) 밖에서 수행
+  private int cachedOrLoad(Long employeeId) {
+    Integer cached = versions.getIfPresent(employeeId);
+    if (cached != null) return cached;
+
+    int loaded = employeeRepository.findTokenVersionByEmployeeId(employeeId).orElse(INACTIVE);
+    versions.put(employeeId, loaded);
+    return loaded;
+  }
+}
@@ -1,6 +1,7 @@
 package com.joycrew.backend.security;
 
 import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.enums.AdminLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -9,33 +10,68 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 인증 주체.
+ * - 로그인(비밀번호 검증) 시에는 DB에서 읽은 Employee로 생성
+ * - API 요청 시에는 JWT 클레임만으로 생성 (employee == null, DB 조회 없음)
+ */
 @Getter
 public class UserPrincipal implements UserDetails {
 
   private final Employee employee;
+  private final Long employeeId;
+  private final Long companyId;
+  private final String email;
+  private final AdminLevel role;
+  private final int tokenVersion;
+  private final String passwordHash;
+  private final boolean active;
 
   public UserPrincipal(Employee employee) {
     this.employee = employee;
+    this.employeeId = employee.getEmployeeId();
+    this.companyId = employee.getCompany() != null ? employee.getCompany().getCompanyId() : null;
+    this.email = employee.getEmail();
+    this.role = employee.getRole();
+    this.tokenVersion = employee.getTokenVersion();
+    this.passwordHash = employee.getPasswordHash();
+    this.active = employee.isActive();
+  }
+
+  private UserPrincipal(Long employeeId, Long companyId, String email, AdminLevel role, int tokenVersion) {
+    this.employee = null;
+    this.employeeId = employeeId;
+    this.companyId = companyId;
+    this.email = email;
+    this.role = role;
+    this.tokenVersion = tokenVersion;
+    this.passwordHash = null;
+    this.active = true;
+  }
+
+  /** JWT 클레임으로부터 생성 (비활성/무효화 여부는 TokenVersionRegistry가 검증) */
+  public static UserPrincipal fromClaims(Long employeeId, Long companyId, String email, AdminLevel role, int tokenVersion) {
+    return new UserPrincipal(employeeId, companyId, email, role, tokenVersion);
   }
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return Collections.singletonList(new SimpleGrantedAuthority(employee.getRole().name()));
+    return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
   }
 
   @Override
   public String getPassword() {
-    return employee.getPasswordHash();
+    return passwordHash;
   }
 
   @Override
   public String getUsername() {
-    return employee.getEmail();
+    return email;
   }
 
   @Override
   public boolean isEnabled() {
-    return employee.isActive();
+    return active;
   }
 
   @Override
@@ -52,4 +88,4 @@ public class UserPrincipal implements UserDetails {
   public boolean isCredentialsNonExpired() {
     return true;
   }
-}
\ No newline at end of file
+}
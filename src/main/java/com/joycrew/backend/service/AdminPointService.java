@@ -1,26 +1,28 @@
 package com.joycrew.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.joycrew.backend.dto.AdminPointDistributionRequest;
 import com.joycrew.backend.dto.PointDistributionDetail;
+import com.joycrew.backend.dto.PointDistributionJobResponse;
 import com.joycrew.backend.entity.Company;
 import com.joycrew.backend.entity.Employee;
-import com.joycrew.backend.entity.RewardPointTransaction;
-import com.joycrew.backend.entity.Wallet;
-import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.entity.PointDistributionJob;
+import com.joycrew.backend.event.PointDistributionQueuedEvent;
 import com.joycrew.backend.exception.BillingRequiredException;
 import com.joycrew.backend.exception.UserNotFoundException;
 import com.joycrew.backend.repository.CompanyRepository;
 import com.joycrew.backend.repository.EmployeeRepository;
-import com.joycrew.backend.repository.RewardPointTransactionRepository;
-import com.joycrew.backend.repository.WalletRepository;
+import com.joycrew.backend.repository.PointDistributionJobRepository;
 import com.joycrew.backend.tenant.Tenant;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
@@ -28,16 +30,45 @@ import java.util.stream.Collectors;
 public class AdminPointService {
 
   private final EmployeeRepository employeeRepository;
-  private final WalletRepository walletRepository;
-  private final RewardPointTransactionRepository transactionRepository;
   private final CompanyRepository companyRepository;
+  private final BulkPointDistributor bulkPointDistributor;
+  private final PointDistributionJobRepository jobRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 작업 등록: 검증과 예산 차감만 요청 트랜잭션에서 끝내고, 지갑 반영은 워커가 청크 단위로 커밋한다.
+   * 요청 스레드가 DB 커넥션과 지갑 행 락을 오래 잡지 않는다.
+   */
+  public PointDistributionJobResponse enqueueDistribution(AdminPointDistributionRequest request, Long adminId) {
+    Employee managedAdmin = validateAndReserveBudget(request, adminId);
+
+    PointDistributionJob job = jobRepository.save(PointDistributionJob.queued(
+            managedAdmin.getCompany(),
+            managedAdmin.getEmployeeId(),
+            request.message(),
+            writePayload(request.distributions()),
+            request.distributions().size(),
+            netPointsChange(request)));
+
+    // 커밋 후 워커 시작 (PointDistributionJobWorker)
+    eventPublisher.publishEvent(new PointDistributionQueuedEvent(this, job.getId()));
+    return PointDistributionJobResponse.from(job);
+  }
+
+  @Transactional(readOnly = true)
+  public PointDistributionJobResponse getDistributionJob(Long jobId) {
+    return jobRepository.findByIdAndCompanyCompanyId(jobId, Tenant.id())
+            .map(PointDistributionJobResponse::from)
+            .orElseThrow(() -> new NoSuchElementException("Distribution job not found: " + jobId));
+  }
 
-  public void distributePoints(AdminPointDistributionRequest request, Employee admin) {
+  private Employee validateAndReserveBudget(AdminPointDistributionRequest request, Long adminId) {
 
     Long companyId = Tenant.id();
 
     // ✅ Admin 다시 조회 (tenant + company join fetch)
-    Employee managedAdmin = employeeRepository.findByIdWithCompanyAndCompanyId(admin.getEmployeeId(), companyId)
+    Employee managedAdmin = employeeRepository.findByIdWithCompanyAndCompanyId(adminId, companyId)
             .orElseThrow(() -> new UserNotFoundException("Admin not found"));
 
     Company company = managedAdmin.getCompany();
@@ -48,9 +79,7 @@ public class AdminPointService {
     }
 
     // 총 변화량 계산
-    int netPointsChange = request.distributions().stream()
-            .mapToInt(PointDistributionDetail::points)
-            .sum();
+    int netPointsChange = netPointsChange(request);
 
     // 회사 예산 반영 (Double 기반)
     if (netPointsChange > 0) {
@@ -66,40 +95,35 @@ public class AdminPointService {
             .map(PointDistributionDetail::employeeId)
             .toList();
 
-    // ✅ tenant(회사) 범위에서만 직원 조회
-    Map<Long, Employee> employeeMap = employeeRepository
-            .findAllByCompanyCompanyIdAndEmployeeIdIn(companyId, employeeIds)
-            .stream()
-            .collect(Collectors.toMap(Employee::getEmployeeId, Function.identity()));
-
-    if (employeeMap.size() != employeeIds.size()) {
+    // ✅ tenant(회사) 범위에서만 직원 확인 (엔티티 적재 없이 ID만, 청크 단위 IN 조회)
+    boolean hasDuplicates = new HashSet<>(employeeIds).size() != employeeIds.size();
+    if (hasDuplicates || countEmployeesInCompany(companyId, employeeIds) != employeeIds.size()) {
       throw new UserNotFoundException("Could not find some of the requested employees. Please verify the IDs.");
     }
+    return managedAdmin;
+  }
+
+  private static int netPointsChange(AdminPointDistributionRequest request) {
+    return request.distributions().stream()
+            .mapToInt(PointDistributionDetail::points)
+            .sum();
+  }
+
+  private String writePayload(List<PointDistributionDetail> distributions) {
+    try {
+      return objectMapper.writeValueAsString(distributions);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize distribution payload", e);
+    }
+  }
 
-    for (PointDistributionDetail detail : request.distributions()) {
-      Employee employee = employeeMap.get(detail.employeeId());
-
-      Wallet wallet = walletRepository.findByEmployee_EmployeeId(employee.getEmployeeId())
-              .orElseThrow(() -> new IllegalStateException("Wallet not found for employee: " + employee.getEmployeeName()));
-
-      int pointsToProcess = detail.points();
-
-      if (pointsToProcess > 0) {
-        wallet.addPoints(pointsToProcess);
-      } else if (pointsToProcess < 0) {
-        wallet.revokePoints(Math.abs(pointsToProcess));
-      }
-
-      if (pointsToProcess != 0) {
-        RewardPointTransaction transaction = RewardPointTransaction.builder()
-                .sender(managedAdmin)
-                .receiver(employee)
-                .pointAmount(pointsToProcess)
-                .message(request.message())
-                .type(TransactionType.AWARD_MANAGER_SPOT)
-                .build();
-        transactionRepository.save(transaction);
-      }
+  private long countEmployeesInCompany(Long companyId, List<Long> employeeIds) {
+    long found = 0;
+    int chunkSize = bulkPointDistributor.chunkSize();
+    for (int from = 0; from < employeeIds.size(); from += chunkSize) {
+      List<Long> slice = employeeIds.subList(from, Math.min(from + chunkSize, employeeIds.size()));
+      found += employeeRepository.findIdsByCompanyIdAndEmployeeIdIn(companyId, slice).size();
     }
+    return found;
   }
 }
@@ -5,6 +5,7 @@ import com.joycrew.backend.dto.LoginResponse;
 import com.joycrew.backend.entity.Employee;
 import com.joycrew.backend.entity.Wallet;
 import com.joycrew.backend.entity.enums.AdminLevel;
+import com.joycrew.backend.event.EmployeeChangedEvent;
 import com.joycrew.backend.exception.UserNotFoundException;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.repository.WalletRepository;
@@ -17,6 +18,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -43,6 +45,7 @@ public class AuthService {
   private final CompanyDomainRepository companyDomainRepository;
   private final PasswordEncoder passwordEncoder;
   private final EmailService emailService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 로그인: 인증 성공 시 JWT와 사용자 정보 + subdomain(예: alko.joycrew.co.kr)을 반환
@@ -69,7 +72,7 @@ public class AuthService {
       employee.updateLastLogin();
 
       // 4. 토큰 생성
-      String accessToken = jwtUtil.generateToken(employee.getEmail());
+      String accessToken = jwtUtil.generateToken(employee);
 
       Long userCompanyId = employee.getCompany().getCompanyId();
 
@@ -162,6 +165,7 @@ public class AuthService {
     }
 
     employee.changePassword(newPassword, passwordEncoder);
+    eventPublisher.publishEvent(new EmployeeChangedEvent(this, employee.getEmployeeId(), employee.getEmail()));
     log.info("Password has been reset for: {} (Search mode: {})",
             email, (tenantId != null ? "Tenant " + tenantId : "Global"));
   }
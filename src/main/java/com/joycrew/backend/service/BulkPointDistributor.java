@@ -0,0 +1,89 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.dto.PointDistributionDetail;
+import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.repository.RewardPointTransactionBatchRepository.TransactionRow;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 포인트 대량 지급/회수.
+ * 직원마다 지갑 조회 + UPDATE + INSERT를 반복하는 대신 청크 단위로
+ * - 같은 금액을 받는 직원끼리 묶어 UPDATE ... WHERE employee_id IN (...) 한 문장
+ * - 거래 내역은 JDBC 배치 INSERT, 직원 통계도 금액별 일괄 갱신
+ * 로 처리해 5천 명 지급도 수십 번의 왕복으로 끝난다.
+ * 예산 차감과 직원 검증은 작업 등록(AdminPointService)에서 먼저 끝내고,
+ * 청크 분할과 청크별 커밋은 PointDistributionJobWorker가 맡는다.
+ */
+@Component
+public class BulkPointDistributor {
+
+  private final WalletLedgerService walletLedgerService;
+  private final RewardPointTransactionRepository transactionRepository;
+  private final PointStatisticsRecorder statisticsRecorder;
+  private final int chunkSize;
+  private final Timer chunkTimer;
+
+  public BulkPointDistributor(WalletLedgerService walletLedgerService,
+                              RewardPointTransactionRepository transactionRepository,
+                              PointStatisticsRecorder statisticsRecorder,
+                              @Value("${points.distribution.chunk-size:1000}") int chunkSize,
+                              MeterRegistry meterRegistry) {
+    this.walletLedgerService = walletLedgerService;
+    this.transactionRepository = transactionRepository;
+    this.statisticsRecorder = statisticsRecorder;
+    this.chunkSize = chunkSize;
+    this.chunkTimer = Timer.builder("points.distribution.chunk")
+        .description("Time to apply one chunk of a bulk point distribution")
+        .register(meterRegistry);
+  }
+
+  public int chunkSize() {
+    return chunkSize;
+  }
+
+  /** 한 청크 적용: 금액별 일괄 UPDATE → 거래 내역 배치 INSERT */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyChunk(Long adminId, List<PointDistributionDetail> slice, String message) {
+    chunkTimer.record(() -> apply(adminId, slice, message));
+  }
+
+  private void apply(Long adminId, List<PointDistributionDetail> slice, String message) {
+    Map<Integer, List<Long>> grants = new LinkedHashMap<>();
+    Map<Integer, List<Long>> revokes = new LinkedHashMap<>();
+    Map<Integer, List<Long>> byAmount = new LinkedHashMap<>();
+    List<TransactionRow> rows = new ArrayList<>(slice.size());
+
+    for (PointDistributionDetail detail : slice) {
+      int points = detail.points();
+      if (points > 0) {
+        grants.computeIfAbsent(points, k -> new ArrayList<>()).add(detail.employeeId());
+      } else if (points < 0) {
+        revokes.computeIfAbsent(-points, k -> new ArrayList<>()).add(detail.employeeId());
+      }
+      if (points != 0) {
+        byAmount.computeIfAbsent(points, k -> new ArrayList<>()).add(detail.employeeId());
+        rows.add(new TransactionRow(adminId, detail.employeeId(), points));
+      }
+    }
+
+    // 지갑이 없거나 회수할 잔액이 부족하면 예외 → 전체 롤백
+    grants.forEach((amount, ids) -> walletLedgerService.addPointsToAll(ids, amount));
+    revokes.forEach((amount, ids) -> walletLedgerService.revokePointsFromAll(ids, amount));
+
+    LocalDateTime now = LocalDateTime.now();
+    transactionRepository.insertAll(rows, message, TransactionType.AWARD_MANAGER_SPOT, now);
+    statisticsRecorder.recordDistribution(adminId, byAmount, now);
+  }
+}
@@ -19,7 +19,7 @@ public class EmailService {
   @Value("${app.frontend-url}")
   private String frontendUrlBase;
 
-  @Async("taskExecutor")
+  @Async("mailExecutor")
   public void sendPasswordResetEmail(String toEmail, String token) {
     String resetUrl = frontendUrlBase + "/reset-password?token=" + token;
 
@@ -6,6 +6,7 @@ import com.joycrew.backend.dto.AdminPagedEmployeeResponse;
 import com.joycrew.backend.entity.Company;
 import com.joycrew.backend.entity.Department;
 import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.event.EmployeeChangedEvent;
 import com.joycrew.backend.exception.BillingRequiredException;
 import com.joycrew.backend.exception.UserNotFoundException;
 import com.joycrew.backend.repository.CompanyRepository;
@@ -17,6 +18,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,7 @@ public class EmployeeManagementService {
   private final DepartmentRepository departmentRepository;
   private final CompanyRepository companyRepository;
   private final EmployeeMapper employeeMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @PersistenceContext
   private final EntityManager em;
@@ -133,6 +136,7 @@ public class EmployeeManagementService {
       employee.updateStatus(request.status());
     }
 
+    eventPublisher.publishEvent(new EmployeeChangedEvent(this, employee.getEmployeeId(), employee.getEmail()));
     return employee; // dirty checking
   }
 
@@ -145,6 +149,7 @@ public class EmployeeManagementService {
             .orElseThrow(() -> new UserNotFoundException("Employee not found with ID: " + employeeId));
 
     employee.updateStatus("INACTIVE");
+    eventPublisher.publishEvent(new EmployeeChangedEvent(this, employee.getEmployeeId(), employee.getEmail()));
   }
 
   @Transactional(readOnly = true)
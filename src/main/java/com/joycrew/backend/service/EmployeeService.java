@@ -6,12 +6,14 @@ import com.joycrew.backend.dto.UserProfileResponse;
 import com.joycrew.backend.dto.UserProfileUpdateRequest;
 import com.joycrew.backend.entity.Employee;
 import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.event.EmployeeChangedEvent;
 import com.joycrew.backend.exception.UserNotFoundException;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.repository.WalletRepository;
 import com.joycrew.backend.service.mapper.EmployeeMapper;
 import com.joycrew.backend.tenant.Tenant;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -28,6 +30,7 @@ public class EmployeeService {
   private final PasswordEncoder passwordEncoder;
   private final EmployeeMapper employeeMapper;
   private final S3FileStorageService s3FileStorageService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional(readOnly = true)
   public UserProfileResponse getUserProfile(String userEmail) {
@@ -49,6 +52,7 @@ public class EmployeeService {
             .findByCompanyCompanyIdAndEmail(tenant, userEmail)
             .orElseThrow(() -> new UserNotFoundException("Authenticated user not found."));
     employee.changePassword(request.newPassword(), passwordEncoder);
+    eventPublisher.publishEvent(new EmployeeChangedEvent(this, employee.getEmployeeId(), employee.getEmail()));
   }
 
   public void verifyCurrentPassword(String userEmail, PasswordVerifyRequest request) {
@@ -78,5 +82,7 @@ public class EmployeeService {
     if (request.phoneNumber() != null)   employee.updatePhoneNumber(request.phoneNumber());
     if (request.birthday() != null)      employee.updateBirthday(request.birthday());
     if (request.address() != null)       employee.updateAddress(request.address());
+
+    eventPublisher.publishEvent(new EmployeeChangedEvent(this, employee.getEmployeeId(), employee.getEmail()));
   }
 }
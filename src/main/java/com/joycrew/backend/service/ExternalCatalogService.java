@@ -1,128 +1,75 @@
 package com.joycrew.backend.service;
 
+import com.joycrew.backend.catalog.CatalogItem;
+import com.joycrew.backend.catalog.CatalogSnapshotStore;
+import com.joycrew.backend.catalog.FeaturedProductRotation;
 import com.joycrew.backend.dto.kakao.ExternalProductDetailResponse;
 import com.joycrew.backend.dto.kakao.ExternalProductResponse;
 import com.joycrew.backend.dto.kakao.PagedCatalogResponse;
 import com.joycrew.backend.entity.enums.GiftCategory;
 import com.joycrew.backend.entity.enums.SortOption;
-import com.joycrew.backend.entity.kakao.KakaoTemplate;
-import com.joycrew.backend.repository.KakaoTemplateRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ExternalCatalogService {
 
-    private final KakaoTemplateRepository templateRepo;
+    private static final int FEATURED_LIMIT = 10;
 
-    @Value("${joycrew.points.krw_per_point:40}")
-    private int krwPerPoint;
+    private final CatalogSnapshotStore snapshotStore;
+    private final FeaturedProductRotation featuredRotation;
 
     /**
-     * 추천 상품 (랜덤) - 이건 페이지 정보가 필요 없으므로 List 유지
+     * 추천 상품 (미리 섞어 둔 순환 목록에서 10개) - 이건 페이지 정보가 필요 없으므로 List 유지
      */
     public List<ExternalProductResponse> getFeaturedProducts() {
-        List<KakaoTemplate> templates = templateRepo.findRandomProducts(10);
-        return templates.stream()
-                .map(this::convertToExternalProductResponse)
-                .collect(Collectors.toList());
+        return featuredRotation.next(FEATURED_LIMIT).stream()
+                .map(CatalogItem::summary)
+                .toList();
     }
 
     /**
-     * 카테고리 없이 이름으로만 전체 상품 검색
+     * 카테고리 없이 상품명/브랜드로 전체 상품 검색 (초성 검색 포함, 검색 색인 사용)
      */
     public PagedCatalogResponse searchProductsByName(String searchName, int page, int size, SortOption sort) {
-        Sort s = switch (sort) {
-            case PRICE_ASC -> Sort.by(Sort.Direction.ASC, "basePriceKrw");
-            case PRICE_DESC -> Sort.by(Sort.Direction.DESC, "basePriceKrw");
-            case POPULAR, NEW -> Sort.by(Sort.Direction.DESC, "updatedAt");
-        };
-
-        Pageable pageRequest = PageRequest.of(page, size, s);
-        Page<KakaoTemplate> p = templateRepo.findByNameContainingIgnoreCase(searchName, pageRequest);
-        Page<ExternalProductResponse> dtoPage = p.map(this::convertToExternalProductResponse);
-
-        return new PagedCatalogResponse(
-                dtoPage.getContent(),
-                dtoPage.getNumber(),
-                dtoPage.getTotalPages(),
-                dtoPage.getTotalElements(),
-                dtoPage.isLast()
-        );
+        return toPage(snapshotStore.current().search(searchName, null, sort), PageRequest.of(page, size));
     }
 
     /**
-     * [CONFLICT FIXED] 카테고리별 상품 조회 (검색 기능 포함)
-     * - main 브랜치의 List 반환 대신, PagedCatalogResponse 반환 로직을 채택
+     * 카테고리별 상품 조회 (검색 기능 포함)
+     * - 스냅샷에 정렬 옵션별로 미리 정렬된 목록을 잘라서 반환 (DB 조회 없음)
      */
     public PagedCatalogResponse listByCategory(GiftCategory category, int page, int size, SortOption sort, String searchName) {
-        Sort s = switch (sort) {
-            case PRICE_ASC -> Sort.by(Sort.Direction.ASC, "basePriceKrw");
-            case PRICE_DESC -> Sort.by(Sort.Direction.DESC, "basePriceKrw");
-            case POPULAR, NEW -> Sort.by(Sort.Direction.DESC, "updatedAt");
-        };
-
-        Pageable pageRequest = PageRequest.of(page, size, s);
-        Page<KakaoTemplate> p;
-
-        if (StringUtils.hasText(searchName)) {
-            p = templateRepo.findByJoyCategoryAndNameContainingIgnoreCase(category, searchName, pageRequest);
-        } else {
-            p = templateRepo.findByJoyCategory(category, pageRequest);
-        }
-
-        // p.map()을 사용해 DTO로 변환
-        Page<ExternalProductResponse> dtoPage = p.map(this::convertToExternalProductResponse);
-
-        // PagedCatalogResponse DTO로 감싸서 반환
-        return new PagedCatalogResponse(
-                dtoPage.getContent(),
-                dtoPage.getNumber(),
-                dtoPage.getTotalPages(),
-                dtoPage.getTotalElements(),
-                dtoPage.isLast()
-        );
+        List<CatalogItem> items = StringUtils.hasText(searchName)
+                ? snapshotStore.current().search(searchName, category, sort)
+                : snapshotStore.current().list(category, sort);
+        return toPage(items, PageRequest.of(page, size));
     }
 
     /**
-     * [FIXED] 상품 상세 정보 (brand 필드 추가)
+     * 상품 상세 정보 (스냅샷에서 조회)
      */
     public ExternalProductDetailResponse getDetailWithPoints(String templateId) {
-        var t = templateRepo.findById(templateId).orElse(null);
-        if (t == null) return null;
-
-        int basePoint = (int) Math.ceil(t.getBasePriceKrw() / (double) krwPerPoint);
-
-        return new ExternalProductDetailResponse(
-                t.getTemplateId(),
-                t.getName(),
-                t.getBrand(),
-                basePoint,
-                t.getBasePriceKrw(),
-                t.getThumbnailUrl()
-        );
+        CatalogItem item = snapshotStore.current().find(templateId);
+        return item == null ? null : item.detail();
     }
 
-    /**
-     * [FIXED] DTO 변환 헬퍼 (brand 필드 추가)
-     */
-    private ExternalProductResponse convertToExternalProductResponse(KakaoTemplate t) {
-        int point = (int) Math.ceil(t.getBasePriceKrw() / (double) krwPerPoint);
+    private static PagedCatalogResponse toPage(List<CatalogItem> items, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        int totalPages = (items.size() + pageable.getPageSize() - 1) / pageable.getPageSize();
 
-        return new ExternalProductResponse(
-                t.getTemplateId(),
-                t.getName(),
-                t.getBrand(), // brand 필드 추가
-                point,
-                t.getBasePriceKrw(),
-                t.getThumbnailUrl()
+        return new PagedCatalogResponse(
+                items.subList(from, to).stream().map(CatalogItem::summary).toList(),
+                pageable.getPageNumber(),
+                totalPages,
+                items.size(),
+                pageable.getPageNumber() + 1 >= totalPages
         );
     }
-}
\ No newline at end of file
+}
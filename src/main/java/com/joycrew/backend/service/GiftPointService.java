@@ -3,46 +3,60 @@ package com.joycrew.backend.service;
 import com.joycrew.backend.dto.GiftPointRequest;
 import com.joycrew.backend.entity.Employee;
 import com.joycrew.backend.entity.RewardPointTransaction;
-import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.entity.enums.Tag;
 import com.joycrew.backend.entity.enums.TransactionType;
 import com.joycrew.backend.event.RecognitionEvent;
+import com.joycrew.backend.exception.SelfGiftNotAllowedException;
 import com.joycrew.backend.exception.UserNotFoundException;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.repository.RewardPointTransactionRepository;
-import com.joycrew.backend.repository.WalletRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class GiftPointService {
 
   private final EmployeeRepository employeeRepository;
-  private final WalletRepository walletRepository;
+  private final WalletLedgerService walletLedgerService;
   private final RewardPointTransactionRepository transactionRepository;
   private final ApplicationEventPublisher eventPublisher;
+  private final WalletLockRetry walletLockRetry;
+  private final PointStatisticsRecorder statisticsRecorder;
 
-  @Transactional
+  /**
+   * 잠금 대기 초과/교착 희생 시 트랜잭션 전체를 재시도하므로 메서드에 @Transactional을 두지 않는다.
+   * 알림 이벤트는 커밋이 끝난 뒤 한 번만 발행한다.
+   */
   public void giftPointsToColleague(String senderEmail, GiftPointRequest request) {
-    Employee sender = employeeRepository.findByEmail(senderEmail)
-            .orElseThrow(() -> new UserNotFoundException("Sender not found."));
-    Employee receiver = employeeRepository.findById(request.receiverId())
-            .orElseThrow(() -> new UserNotFoundException("Receiver not found."));
+    RecognitionEvent event = walletLockRetry.execute(() -> transfer(senderEmail, request));
 
-    Wallet senderWallet = walletRepository.findByEmployee_EmployeeId(sender.getEmployeeId())
-            .orElseThrow(() -> new IllegalStateException("Sender's wallet does not exist."));
-    Wallet receiverWallet = walletRepository.findByEmployee_EmployeeId(receiver.getEmployeeId())
-            .orElseThrow(() -> new IllegalStateException("Receiver's wallet does not exist."));
+    // Publish an event for notifications or other async tasks
+    eventPublisher.publishEvent(event);
+  }
 
-    // Transfer points
-    // 1. 보내는 사람: '총 잔액(balance)'과 '선물 한도(giftablePoint)' 둘 다 차감
-    senderWallet.spendGiftablePoints(request.points());
+  private RecognitionEvent transfer(String senderEmail, GiftPointRequest request) {
+    // 직원은 ID로만 확인한다. Employee를 로드하면 Employee.wallet(즉시 로딩)이 잠금 전 값으로 함께 올라온다.
+    Long senderId = employeeRepository.findIdByEmail(senderEmail)
+            .orElseThrow(() -> new UserNotFoundException("Sender not found."));
+    if (senderId.equals(request.receiverId())) {
+      throw new SelfGiftNotAllowedException("Cannot gift points to yourself.");
+    }
+    if (!employeeRepository.existsById(request.receiverId())) {
+      throw new UserNotFoundException("Receiver not found.");
+    }
 
-    // 2. 받는 사람: '총 잔액(balance)'만 증가시킴 (선물로 받은 포인트)
-    receiverWallet.receiveGiftPoints(request.points());
-    // 기존: receiverWallet.addPoints(request.points());
+    // Transfer points (두 지갑을 walletId 순서로 한 번에 잠가 A→B, B→A 동시 선물에도 교착 없음)
+    // 보내는 사람: '총 잔액(balance)'과 '선물 한도(giftablePoint)' 둘 다 차감 (부족하면 예외)
+    // 받는 사람: '총 잔액(balance)'만 증가시킴 (선물로 받은 포인트)
+    walletLedgerService.transferGiftPoints(senderId, request.receiverId(), request.points());
+    Employee sender = employeeRepository.getReferenceById(senderId);
+    Employee receiver = employeeRepository.getReferenceById(request.receiverId());
 
     // Record the transaction
     RewardPointTransaction transaction = RewardPointTransaction.builder()
@@ -51,13 +65,20 @@ public class GiftPointService {
             .pointAmount(request.points())
             .message(request.message())
             .type(TransactionType.AWARD_P2P)
-            .tags(request.tags())
+            .tags(tagsOf(request))
             .build();
     transactionRepository.save(transaction);
+    statisticsRecorder.recordTransaction(senderId, request.receiverId(), request.points(),
+            TransactionType.AWARD_P2P, transaction.getTags(), transaction.getTransactionDate());
 
-    // Publish an event for notifications or other async tasks
-    eventPublisher.publishEvent(
-            new RecognitionEvent(this, sender.getEmployeeId(), receiver.getEmployeeId(), request.points(), request.message())
-    );
+    return new RecognitionEvent(this, senderId, request.receiverId(), request.points(), request.message());
+  }
+
+  // 컨트롤러 검증(@Valid)에서 null/중복 태그는 이미 400으로 거절된다. 검증을 거치지 않은 호출도 NPE 없이 null을 건너뛴다.
+  private static Set<Tag> tagsOf(GiftPointRequest request) {
+    Set<Tag> tags = EnumSet.noneOf(Tag.class);
+    if (request.tags() == null) return tags;
+    request.tags().stream().filter(Objects::nonNull).forEach(tags::add);
+    return tags;
   }
 }
@@ -7,25 +7,24 @@ import com.joycrew.backend.entity.Company;
 import com.joycrew.backend.entity.Employee;
 import com.joycrew.backend.entity.Order;
 import com.joycrew.backend.entity.RewardPointTransaction;
-import com.joycrew.backend.entity.Wallet;
 import com.joycrew.backend.entity.enums.OrderStatus;
 import com.joycrew.backend.entity.enums.TransactionType;
 import com.joycrew.backend.entity.kakao.KakaoTemplate;
+import com.joycrew.backend.event.OrderPlacedEvent;
 import com.joycrew.backend.exception.BillingRequiredException;
 import com.joycrew.backend.exception.UserNotFoundException;
 import com.joycrew.backend.kakao.KakaoGiftBizClient;
 import com.joycrew.backend.repository.KakaoTemplateRepository;
 import com.joycrew.backend.repository.OrderRepository;
 import com.joycrew.backend.repository.RewardPointTransactionRepository;
-import com.joycrew.backend.repository.WalletRepository;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.tenant.Tenant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -36,11 +35,14 @@ import java.util.*;
 public class GiftPurchaseService {
 
     private final KakaoGiftBizClient kakao;
-    private final WalletRepository walletRepository;
+    private final WalletLedgerService walletLedgerService;
     private final EmployeeRepository employeeRepository;
     private final OrderRepository orderRepository;
     private final RewardPointTransactionRepository transactionRepository;
+    private final PointStatisticsRecorder statisticsRecorder;
     private final KakaoTemplateRepository templateRepo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${joycrew.points.krw_per_point:40}")
     private int krwPerPoint;
@@ -58,10 +60,32 @@ public class GiftPurchaseService {
     /**
      * 주문은 PENDING으로 먼저 저장 -> Kakao 호출 성공 시 PLACED, 실패 시 FAILED
      * 포인트는 선차감하고, 실패 시 환불하여 일관성 유지
+     * [주문 저장 + 선차감] 트랜잭션을 Kakao 호출 전에 커밋해, 조건부 UPDATE가 잡은 지갑 행 락이
+     * 외부 HTTP 호출 동안 유지되지 않게 한다 (확정/환불은 호출 후 별도 트랜잭션).
      */
-    @Transactional
     public OrderResponse purchaseWithPoints(Long employeeId, CreateOrderRequest req) {
+        PendingPurchase pending = transactionTemplate.execute(status -> reserve(employeeId, req));
 
+        try {
+            if (!dryRun) {
+                String kakaoBody = kakao.sendTemplateOrder(pending.kakaoReq());
+                log.debug("[KAKAO] ORDER OK externalOrderId={} resBody={}", pending.order().getExternalOrderId(), kakaoBody);
+            } else {
+                log.warn("[DRY-RUN] Skipping Kakao call. Would send: {}", pending.kakaoReq());
+            }
+        } catch (RuntimeException ex) {
+            markFailedAndRefund(pending);
+            throw ex;
+        }
+
+        return transactionTemplate.execute(status -> confirm(pending));
+    }
+
+    private record PendingPurchase(Employee employee, KakaoTemplate template, Order order, int totalPoint,
+                                   KakaoTemplateOrderRequest kakaoReq) { }
+
+    // 검증 → PENDING 주문 저장 → 잔액 조건부 UPDATE로 선차감 (부족하면 InsufficientPointsException, 전체 롤백)
+    private PendingPurchase reserve(Long employeeId, CreateOrderRequest req) {
         Long companyId = Tenant.id();
 
         // ✅ tenant 범위에서 employee 로드 + 회사 join fetch 권장(없으면 repository 메서드로)
@@ -75,12 +99,17 @@ public class GiftPurchaseService {
             throw new BillingRequiredException();
         }
 
-        Wallet wallet = walletRepository.findByEmployee_EmployeeId(employeeId)
-                .orElseThrow(() -> new IllegalStateException("Wallet not found"));
-
         KakaoTemplate template = templateRepo.findById(req.externalProductId())
                 .orElseThrow(() -> new IllegalArgumentException("Template not found: " + req.externalProductId()));
 
+        String receiverPhone = Optional.ofNullable(employee.getPhoneNumber())
+                .map(this::normalizePhone)
+                .filter(s -> s != null && !s.isBlank())
+                .orElseThrow(() -> new IllegalStateException("Employee has no phone number"));
+        if (receiverPhone.length() < 8) {
+            throw new IllegalStateException("Invalid receiver phone format: " + receiverPhone);
+        }
+
         int qty = (req.quantity() == null || req.quantity() <= 0) ? 1 : req.quantity();
         int unitKrw = template.getBasePriceKrw();
         long totalKrw = (long) unitKrw * qty;
@@ -90,7 +119,7 @@ public class GiftPurchaseService {
 
         Order order = Order.builder()
                 .employee(employee)
-                .productId(stableHashToLong(template.getTemplateId()))
+                .productId(KakaoTemplate.productIdOf(template.getTemplateId()))
                 .productName(template.getName())
                 .productUnitPrice((int) Math.ceil(unitKrw / (double) krwPerPoint))
                 .quantity(qty)
@@ -101,15 +130,7 @@ public class GiftPurchaseService {
                 .build();
         order = orderRepository.save(order);
 
-        wallet.purchaseWithPoints(totalPoint);
-
-        String receiverPhone = Optional.ofNullable(employee.getPhoneNumber())
-                .map(this::normalizePhone)
-                .filter(s -> s != null && !s.isBlank())
-                .orElseThrow(() -> new IllegalStateException("Employee has no phone number"));
-        if (receiverPhone.length() < 8) {
-            throw new IllegalStateException("Invalid receiver phone format: " + receiverPhone);
-        }
+        walletLedgerService.purchaseWithPoints(employeeId, totalPoint, externalOrderId);
 
         Map<String, Object> receiverObj = new HashMap<>();
         receiverObj.put("receiver_id", receiverPhone);
@@ -124,46 +145,52 @@ public class GiftPurchaseService {
                 template.getName(),
                 externalOrderId
         );
+        return new PendingPurchase(employee, template, order, totalPoint, kakaoReq);
+    }
 
-        try {
-            if (!dryRun) {
-                String kakaoBody = kakao.sendTemplateOrder(kakaoReq);
-                log.debug("[KAKAO] ORDER OK externalOrderId={} resBody={}", externalOrderId, kakaoBody);
-            } else {
-                log.warn("[DRY-RUN] Skipping Kakao call. Would send: {}", kakaoReq);
-            }
-
-            RewardPointTransaction tx = RewardPointTransaction.builder()
-                    .sender(employee)
-                    .receiver(null)
-                    .pointAmount(totalPoint)
-                    .message("KAKAO_SELF_PURCHASE:" + template.getTemplateId())
-                    .type(TransactionType.REDEEM_ITEM)
-                    .build();
-            transactionRepository.save(tx);
-
-            order.setStatus(OrderStatus.PLACED);
-            order = orderRepository.save(order);
+    private OrderResponse confirm(PendingPurchase pending) {
+        Employee employee = pending.employee();
+        KakaoTemplate template = pending.template();
+        int totalPoint = pending.totalPoint();
+
+        RewardPointTransaction tx = RewardPointTransaction.builder()
+                .sender(employee)
+                .receiver(null)
+                .pointAmount(totalPoint)
+                .message("KAKAO_SELF_PURCHASE:" + template.getTemplateId())
+                .type(TransactionType.REDEEM_ITEM)
+                .build();
+        transactionRepository.save(tx);
+        statisticsRecorder.recordTransaction(employee.getEmployeeId(), null, totalPoint,
+                TransactionType.REDEEM_ITEM, null, tx.getTransactionDate());
 
-            return OrderResponse.from(order, template.getThumbnailUrl());
+        Order order = pending.order();
+        order.setStatus(OrderStatus.PLACED);
+        order = orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderPlacedEvent(this, template.getTemplateId()));
 
-        } catch (ResponseStatusException ex) {
-            refundWalletSilently(wallet, totalPoint);
-            order.setStatus(OrderStatus.FAILED);
-            orderRepository.save(order);
-            throw ex;
+        return OrderResponse.from(order, template.getThumbnailUrl());
+    }
 
-        } catch (RuntimeException ex) {
-            refundWalletSilently(wallet, totalPoint);
-            order.setStatus(OrderStatus.FAILED);
-            orderRepository.save(order);
-            throw ex;
+    // 주문 상태와 환불을 각자의 트랜잭션으로: 환불이 실패해도 FAILED 표시는 남는다
+    private void markFailedAndRefund(PendingPurchase pending) {
+        Order order = pending.order();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                order.setStatus(OrderStatus.FAILED);
+                orderRepository.save(order);
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to mark order {} as FAILED: {}", order.getExternalOrderId(), e.getMessage(), e);
         }
+        refundWalletSilently(order.getEmployee().getEmployeeId(), pending.totalPoint(), order.getExternalOrderId());
     }
 
-    private void refundWalletSilently(Wallet wallet, int totalPoint) {
+    // 환불도 주문 번호와 함께 원장에 REFUND 분개로 남는다
+    private void refundWalletSilently(Long employeeId, int totalPoint, String externalOrderId) {
         try {
-            wallet.refundPoints(totalPoint);
+            transactionTemplate.executeWithoutResult(status ->
+                    walletLedgerService.refundPoints(employeeId, totalPoint, externalOrderId));
         } catch (Exception e) {
             log.error("Failed to refund points on error (amount={}): {}", totalPoint, e.getMessage(), e);
         }
@@ -182,10 +209,4 @@ public class GiftPurchaseService {
         String rand = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
         return "JC-" + employeeId + "-" + rand;
     }
-
-    private long stableHashToLong(String s) {
-        long h = 1469598103934665603L;
-        for (byte b : s.getBytes()) { h ^= b; h *= 1099511628211L; }
-        return h & Long.MAX_VALUE;
-    }
 }
@@ -0,0 +1,179 @@
+package com.joycrew.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joycrew.backend.dto.PointDistributionDetail;
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.PointDistributionJob;
+import com.joycrew.backend.entity.enums.DistributionJobStatus;
+import com.joycrew.backend.event.PointDistributionQueuedEvent;
+import com.joycrew.backend.repository.PointDistributionJobRepository;
+import com.joycrew.backend.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 대량 지급 작업 실행기.
+ * - 등록 커밋 직후 비동기로 시작하고, 주기적으로 대기/중단된 작업을 찾아 재개한다.
+ * - 청크마다 [커밋 지점 전진 + 지갑 UPDATE + 거래 INSERT]를 한 트랜잭션으로 커밋 → 재시작해도 중복 지급 없음
+ * - 청크가 실패하면 작업을 FAILED로 두고 처리하지 못한 대상의 예산을 회사에 되돌린다.
+ * 메트릭: points.distribution.jobs{result=completed|failed}
+ */
+@Slf4j
+@Component
+public class PointDistributionJobWorker {
+
+  private static final TypeReference<List<PointDistributionDetail>> PAYLOAD_TYPE = new TypeReference<>() { };
+
+  private final PointDistributionJobRepository jobRepository;
+  private final BulkPointDistributor bulkPointDistributor;
+  private final WalletLockRetry walletLockRetry;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration staleAfter;
+
+  private final Counter completed;
+  private final Counter failed;
+
+  public PointDistributionJobWorker(PointDistributionJobRepository jobRepository,
+                                    BulkPointDistributor bulkPointDistributor,
+                                    WalletLockRetry walletLockRetry,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${points.distribution.job.stale-after-seconds:120}") long staleAfterSeconds,
+                                    MeterRegistry meterRegistry) {
+    this.jobRepository = jobRepository;
+    this.bulkPointDistributor = bulkPointDistributor;
+    this.walletLockRetry = walletLockRetry;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+
+    this.completed = jobCounter(meterRegistry, "completed");
+    this.failed = jobCounter(meterRegistry, "failed");
+  }
+
+  private static Counter jobCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("points.distribution.jobs")
+        .description("Finished point distribution jobs, by outcome")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  @Async("taskExecutor")
+  @TransactionalEventListener
+  public void onQueued(PointDistributionQueuedEvent event) {
+    run(event.getJobId());
+  }
+
+  /** 등록 직후 시작하지 못했거나(재기동) 워커가 멈춘 작업을 이어서 처리 */
+  @Scheduled(fixedDelayString = "${points.distribution.job.sweep-ms:60000}",
+      initialDelayString = "${points.distribution.job.sweep-ms:60000}")
+  public void resumePending() {
+    for (Long jobId : jobRepository.findResumableIds(LocalDateTime.now().minus(staleAfter))) {
+      run(jobId);
+    }
+  }
+
+  /** 작업을 점유했으면 끝까지 처리한다. 다른 워커가 점유 중이면 아무것도 하지 않는다. */
+  public void run(Long jobId) {
+    Boolean claimed = transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      return jobRepository.claim(jobId, now, now.minus(staleAfter)) == 1;
+    });
+    if (!Boolean.TRUE.equals(claimed)) return;
+
+    PointDistributionJob job = jobRepository.findById(jobId).orElseThrow();
+    TenantContext.runAs(job.getCompany().getCompanyId(), () -> process(job));
+  }
+
+  private void process(PointDistributionJob job) {
+    Long jobId = job.getId();
+    try {
+      List<PointDistributionDetail> items = readPayload(job.getPayload());
+      int chunkSize = bulkPointDistributor.chunkSize();
+
+      for (int from = job.getProcessedCount(); from < items.size(); from += chunkSize) {
+        int start = from;
+        int end = Math.min(from + chunkSize, items.size());
+        List<PointDistributionDetail> slice = items.subList(start, end);
+
+        boolean advanced = walletLockRetry.execute(() -> {
+          // 커밋 지점을 먼저 전진 (같은 청크를 다른 워커가 처리했다면 0 → 이 청크는 건너뛰고 종료)
+          if (jobRepository.advance(jobId, start, end, LocalDateTime.now()) == 0) return false;
+          bulkPointDistributor.applyChunk(job.getAdminId(), slice, job.getMessage());
+          return true;
+        });
+        if (!advanced) {
+          log.info("Point distribution job {} was taken over at {}/{}", jobId, start, items.size());
+          return;
+        }
+        log.debug("Point distribution job {}: {}/{}", jobId, end, items.size());
+      }
+
+      transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+          .ifPresent(j -> j.markCompleted(LocalDateTime.now())));
+      completed.increment();
+      log.info("Point distribution job {} completed ({} recipients)", jobId, items.size());
+    } catch (RuntimeException e) {
+      log.warn("Point distribution job {} failed: {}", jobId, e.getMessage());
+      fail(jobId, e.getMessage());
+    }
+  }
+
+  /** 실패 처리: 처리하지 못한 대상만큼 등록 시 반영한 예산을 되돌린다. */
+  private void fail(Long jobId, String message) {
+    transactionTemplate.executeWithoutResult(status -> {
+      PointDistributionJob job = jobRepository.findById(jobId).orElseThrow();
+      if (job.getStatus() != DistributionJobStatus.RUNNING) return;
+
+      int remainingNet = remainingNetPoints(job);
+      Company company = job.getCompany();
+      if (remainingNet > 0) {
+        company.addBudget(remainingNet);
+      } else if (remainingNet < 0) {
+        company.spendBudget(Math.abs(remainingNet));
+      }
+      job.markFailed(truncate(message), LocalDateTime.now());
+    });
+    failed.increment();
+  }
+
+  private int remainingNetPoints(PointDistributionJob job) {
+    try {
+      List<PointDistributionDetail> items = readPayload(job.getPayload());
+      return items.subList(job.getProcessedCount(), items.size()).stream()
+          .mapToInt(PointDistributionDetail::points)
+          .sum();
+    } catch (IllegalStateException e) {
+      // 대상 목록을 읽을 수 없으면 아무것도 처리되지 않았으므로 전체를 되돌린다
+      return job.getProcessedCount() == 0 ? job.getNetPoints() : 0;
+    }
+  }
+
+  private List<PointDistributionDetail> readPayload(String payload) {
+    try {
+      return objectMapper.readValue(payload, PAYLOAD_TYPE);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Invalid distribution payload", e);
+    }
+  }
+
+  private static String truncate(String message) {
+    if (message == null) return null;
+    return message.length() <= 500 ? message : message.substring(0, 500);
+  }
+}
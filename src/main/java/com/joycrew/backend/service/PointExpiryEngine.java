@@ -0,0 +1,168 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.PointExpiryRun;
+import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.PointExpiryRunRepository;
+import com.joycrew.backend.repository.PointLedgerEntryRepository;
+import com.joycrew.backend.repository.PointLedgerJdbcRepository.WalletPosition;
+import com.joycrew.backend.repository.RewardPointTransactionBatchRepository.TransactionRow;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 포인트 유효기간 만료 작업.
+ * - 회사별 유효기간(Company.pointValidityDays, 없으면 전역 기본값)보다 오래된 적립분을 선입선출로 만료시킨다.
+ * - 회사마다 walletId 순 청크로 [커밋 지점 전진 + 지갑 UPDATE + 원장 분개 + EXPIRE_POINTS 거래 INSERT]를 한 트랜잭션으로 커밋
+ *   → 행 락은 청크 동안만 잡히고, 중간에 멈춰도 같은 날 다음 실행이 다음 지갑부터 재개한다.
+ * - 만료량은 잠근 뒤 원장에서 다시 계산하므로 같은 청크를 두 번 처리해도 두 번 만료되지 않는다.
+ * 메트릭: points.expiry.points, points.expiry.wallets
+ */
+@Slf4j
+@Component
+public class PointExpiryEngine {
+
+  private final CompanyRepository companyRepository;
+  private final PointExpiryRunRepository runRepository;
+  private final PointLedgerEntryRepository ledgerRepository;
+  private final RewardPointTransactionRepository transactionRepository;
+  private final WalletLedgerService walletLedgerService;
+  private final PointStatisticsRecorder statisticsRecorder;
+  private final WalletLockRetry walletLockRetry;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int defaultValidityDays;
+
+  private final Counter expiredPoints;
+  private final Counter expiredWallets;
+
+  public PointExpiryEngine(CompanyRepository companyRepository,
+                           PointExpiryRunRepository runRepository,
+                           PointLedgerEntryRepository ledgerRepository,
+                           RewardPointTransactionRepository transactionRepository,
+                           WalletLedgerService walletLedgerService,
+                           PointStatisticsRecorder statisticsRecorder,
+                           WalletLockRetry walletLockRetry,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${points.expiry.batch-size:500}") int batchSize,
+                           @Value("${points.expiry.default-validity-days:0}") int defaultValidityDays,
+                           MeterRegistry meterRegistry) {
+    this.companyRepository = companyRepository;
+    this.runRepository = runRepository;
+    this.ledgerRepository = ledgerRepository;
+    this.transactionRepository = transactionRepository;
+    this.walletLedgerService = walletLedgerService;
+    this.statisticsRecorder = statisticsRecorder;
+    this.walletLockRetry = walletLockRetry;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.defaultValidityDays = defaultValidityDays;
+
+    this.expiredPoints = Counter.builder("points.expiry.points")
+        .description("Points expired by the nightly expiry job")
+        .register(meterRegistry);
+    this.expiredWallets = Counter.builder("points.expiry.wallets")
+        .description("Wallet expiries applied by the nightly expiry job")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(cron = "${points.expiry.cron:0 0 2 * * *}")
+  public void expireAll() {
+    LocalDate runDate = LocalDate.now();
+    for (Company company : companyRepository.findAll()) {
+      int validityDays = company.getPointValidityDays() != null ? company.getPointValidityDays() : defaultValidityDays;
+      if (validityDays <= 0) continue;
+      try {
+        TenantContext.runAs(company.getCompanyId(), () -> expireCompany(company.getCompanyId(), runDate, validityDays));
+      } catch (RuntimeException e) {
+        // 한 회사의 실패가 다른 회사의 만료를 막지 않는다. 커밋된 청크는 다음 실행이 이어받는다.
+        log.warn("Point expiry for company {} stopped: {}", company.getCompanyId(), e.getMessage());
+      }
+    }
+  }
+
+  /** 회사 하나의 오늘 실행을 끝까지 처리한다. 이미 끝났으면 아무것도 하지 않는다. */
+  public void expireCompany(Long companyId, LocalDate runDate, int validityDays) {
+    PointExpiryRun run = openRun(companyId, runDate, runDate.minusDays(validityDays).atStartOfDay());
+    if (run.isCompleted()) return;
+
+    Long runId = run.getId();
+    LocalDateTime cutoff = run.getCutoff();
+    String reference = "EXPIRY:" + cutoff.toLocalDate();
+    String message = "Points earned before " + cutoff.toLocalDate() + " expired";
+
+    long after = run.getLastWalletId();
+    while (true) {
+      List<WalletPosition> chunk = ledgerRepository.findWalletsWithBalance(companyId, after, batchSize);
+      if (chunk.isEmpty()) break;
+      long from = after;
+      long to = chunk.get(chunk.size() - 1).walletId();
+      List<Long> employeeIds = chunk.stream().map(WalletPosition::employeeId).toList();
+
+      boolean advanced = walletLockRetry.execute(() -> {
+        LocalDateTime now = LocalDateTime.now();
+        // 커밋 지점을 먼저 전진 (같은 청크를 다른 파드가 처리했다면 0 → 이 실행은 손을 뗀다)
+        if (runRepository.advance(runId, from, to, now) == 0) return false;
+        applyChunk(runId, employeeIds, cutoff, reference, message, now);
+        return true;
+      });
+      if (!advanced) {
+        log.info("Point expiry run {} was taken over after wallet {}", runId, from);
+        return;
+      }
+      after = to;
+    }
+
+    transactionTemplate.executeWithoutResult(status -> runRepository.complete(runId, LocalDateTime.now()));
+    log.info("Point expiry run {} completed for company {} (cutoff {})", runId, companyId, cutoff);
+  }
+
+  private void applyChunk(Long runId, List<Long> employeeIds, LocalDateTime cutoff, String reference,
+                          String message, LocalDateTime now) {
+    Map<Long, Integer> expired = walletLedgerService.expirePoints(employeeIds, cutoff, reference);
+    if (expired.isEmpty()) return;
+
+    List<TransactionRow> rows = new ArrayList<>(expired.size());
+    Map<Integer, List<Long>> employeesByAmount = new TreeMap<>();
+    long points = 0;
+    for (Map.Entry<Long, Integer> e : expired.entrySet()) {
+      rows.add(new TransactionRow(e.getKey(), null, e.getValue()));
+      employeesByAmount.computeIfAbsent(e.getValue(), k -> new ArrayList<>()).add(e.getKey());
+      points += e.getValue();
+    }
+    transactionRepository.insertAll(rows, message, TransactionType.EXPIRE_POINTS, now);
+    statisticsRecorder.recordExpiry(employeesByAmount, now);
+    runRepository.addExpired(runId, expired.size(), points);
+
+    expiredPoints.increment(points);
+    expiredWallets.increment(expired.size());
+  }
+
+  // 같은 날 두 파드가 동시에 열면 유니크 제약에 걸린 쪽이 먼저 만든 실행을 이어받는다
+  private PointExpiryRun openRun(Long companyId, LocalDate runDate, LocalDateTime cutoff) {
+    return runRepository.findByCompanyIdAndRunDate(companyId, runDate).orElseGet(() -> {
+      try {
+        return transactionTemplate.execute(status -> runRepository.save(PointExpiryRun.start(companyId, runDate, cutoff)));
+      } catch (DataIntegrityViolationException e) {
+        return runRepository.findByCompanyIdAndRunDate(companyId, runDate).orElseThrow(() -> e);
+      }
+    });
+  }
+}
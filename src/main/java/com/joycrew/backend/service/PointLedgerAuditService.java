@@ -0,0 +1,133 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.repository.PointLedgerEntryRepository;
+import com.joycrew.backend.repository.PointLedgerJdbcRepository.WalletLedgerState;
+import com.joycrew.backend.repository.WalletBalanceSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 원장 기준의 잔액 조회, 스냅샷, 정합성 점검.
+ * - 원장 잔액 = 최신 스냅샷 + 이후 원장 행 합 (전체 이력을 훑지 않음)
+ * - 스냅샷: 마지막 스냅샷 이후 원장 행이 min-entries 이상 쌓인 지갑만 새로 찍는다
+ * - 점검: 지갑 테이블의 잔액과 원장 잔액을 walletId 순 페이지로 비교한다 (고정 메모리).
+ *   두 값은 페이지마다 SQL 한 문장에서 읽으므로 점검 중 진행되는 거래와 섞이지 않는다.
+ * - 원장 도입 전 잔액은 최초 기동 시 seq 0 기준선 스냅샷으로 남긴다 (스냅샷 테이블이 비어 있을 때만).
+ * 메트릭: ledger.reconciliation.wallets{result=match|mismatch}, ledger.snapshots.created
+ */
+@Slf4j
+@Component
+public class PointLedgerAuditService {
+
+  public record ReconciliationResult(long checked, long mismatched) { }
+
+  private static final int MAX_LOGGED_MISMATCHES = 20;
+
+  private final PointLedgerEntryRepository ledgerRepository;
+  private final WalletBalanceSnapshotRepository snapshotRepository;
+  private final boolean baselineOnStartup;
+  private final int pageSize;
+  private final long snapshotMinEntries;
+
+  private final Counter matched;
+  private final Counter mismatched;
+  private final Counter snapshots;
+
+  public PointLedgerAuditService(PointLedgerEntryRepository ledgerRepository,
+                                 WalletBalanceSnapshotRepository snapshotRepository,
+                                 @Value("${ledger.baseline-on-startup:true}") boolean baselineOnStartup,
+                                 @Value("${ledger.page-size:1000}") int pageSize,
+                                 @Value("${ledger.snapshot.min-entries:100}") long snapshotMinEntries,
+                                 MeterRegistry meterRegistry) {
+    this.ledgerRepository = ledgerRepository;
+    this.snapshotRepository = snapshotRepository;
+    this.baselineOnStartup = baselineOnStartup;
+    this.pageSize = pageSize;
+    this.snapshotMinEntries = snapshotMinEntries;
+
+    this.matched = reconciliationCounter(meterRegistry, "match");
+    this.mismatched = reconciliationCounter(meterRegistry, "mismatch");
+    this.snapshots = Counter.builder("ledger.snapshots.created")
+        .description("Wallet balance snapshots written from the point ledger")
+        .register(meterRegistry);
+  }
+
+  private static Counter reconciliationCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("ledger.reconciliation.wallets")
+        .description("Wallets compared against the point ledger, by outcome")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /** 원장 기준 잔액 (지갑 테이블과 별개로 스냅샷 + 꼬리 합으로 계산) */
+  public Optional<WalletLedgerState> ledgerStateOf(Long employeeId) {
+    return ledgerRepository.findLedgerStateByEmployeeId(employeeId);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void baselineIfEmpty() {
+    if (!baselineOnStartup || snapshotRepository.count() > 0) return;
+    int wallets = ledgerRepository.insertBaselineSnapshots(LocalDateTime.now());
+    log.info("Point ledger baseline recorded for {} wallet(s)", wallets);
+  }
+
+  // 기동 직후 기준선보다 먼저 돌지 않도록 첫 실행도 한 주기 뒤에 시작한다
+  @Scheduled(fixedDelayString = "${ledger.snapshot.interval-ms:600000}",
+      initialDelayString = "${ledger.snapshot.interval-ms:600000}")
+  public void takeSnapshots() {
+    long[] written = {0};
+    forEachPage(page -> {
+      List<WalletLedgerState> due = page.stream()
+          .filter(s -> s.walletSeq() - s.snapshotSeq() >= snapshotMinEntries)
+          .toList();
+      ledgerRepository.insertSnapshots(due, LocalDateTime.now());
+      written[0] += due.size();
+    });
+    snapshots.increment(written[0]);
+    if (written[0] > 0) {
+      log.info("Point ledger snapshots written for {} wallet(s)", written[0]);
+    }
+  }
+
+  @Scheduled(cron = "${ledger.reconciliation.cron:0 30 4 * * *}")
+  public ReconciliationResult reconcile() {
+    long[] counts = {0, 0};
+    forEachPage(page -> {
+      for (WalletLedgerState state : page) {
+        counts[0]++;
+        if (state.matches()) continue;
+        if (counts[1]++ < MAX_LOGGED_MISMATCHES) {
+          log.warn("[LEDGER] mismatch walletId={} employeeId={} wallet={}/{} ledger={}/{} seq={}",
+              state.walletId(), state.employeeId(), state.walletBalance(), state.walletGiftable(),
+              state.ledgerBalance(), state.ledgerGiftable(), state.walletSeq());
+        }
+      }
+    });
+    matched.increment(counts[0] - counts[1]);
+    mismatched.increment(counts[1]);
+    log.info("Point ledger reconciliation finished: {} wallet(s) checked, {} mismatch(es)", counts[0], counts[1]);
+    return new ReconciliationResult(counts[0], counts[1]);
+  }
+
+  private void forEachPage(Consumer<List<WalletLedgerState>> action) {
+    long after = 0;
+    List<WalletLedgerState> page;
+    do {
+      page = ledgerRepository.findLedgerStates(after, pageSize);
+      if (page.isEmpty()) return;
+      action.accept(page);
+      after = page.get(page.size() - 1).walletId();
+    } while (page.size() == pageSize);
+  }
+}
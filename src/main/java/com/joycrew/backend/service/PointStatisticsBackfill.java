@@ -0,0 +1,59 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.enums.Tag;
+import com.joycrew.backend.repository.EmployeeMonthlyPointStatsRepository;
+import com.joycrew.backend.repository.EmployeePointStatsRepository;
+import com.joycrew.backend.repository.EmployeeTagStatsRepository;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 직원 포인트 통계를 거래 내역에서 다시 계산한다 (누적/월간 집계 SQL 각 1문장 + 태그별 1문장).
+ * - 통계 테이블이 비어 있으면 기동 시 한 번 채운다 (statistics.backfill-on-startup)
+ * - 집계 규칙을 바꾼 뒤에는 rebuildAll()로 전체를 다시 만든다. 재계산 도중 기록된 거래가 빠지지 않도록
+ *   트래픽이 적은 시간에 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointStatisticsBackfill {
+
+  private final EmployeePointStatsRepository statsRepository;
+  private final EmployeeMonthlyPointStatsRepository monthlyRepository;
+  private final EmployeeTagStatsRepository tagRepository;
+  private final RewardPointTransactionRepository transactionRepository;
+
+  @Value("${statistics.backfill-on-startup:true}")
+  private boolean backfillOnStartup;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(TransactionTagMaskMigration.ORDER + 1)
+  @Transactional
+  public void backfillIfEmpty() {
+    if (!backfillOnStartup || statsRepository.count() > 0 || transactionRepository.count() == 0) return;
+    rebuildAll();
+  }
+
+  @Transactional
+  public void rebuildAll() {
+    statsRepository.deleteAllRows();
+    monthlyRepository.deleteAllRows();
+    tagRepository.deleteAllRows();
+
+    int employees = statsRepository.backfill();
+    int months = monthlyRepository.backfill();
+    int tags = 0;
+    for (Tag tag : Tag.values()) {
+      tags += tagRepository.backfill(tag.name(), tag.masksContaining());
+    }
+    log.info("Point statistics rebuilt: {} employee(s), {} monthly bucket(s), {} tag counter(s)",
+        employees, months, tags);
+  }
+}
@@ -0,0 +1,125 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.EmployeeTagStats;
+import com.joycrew.backend.entity.enums.Tag;
+import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.repository.EmployeeMonthlyPointStatsRepository;
+import com.joycrew.backend.repository.EmployeePointStatsRepository;
+import com.joycrew.backend.repository.EmployeeTagStatsRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 거래를 기록하는 트랜잭션 안에서 직원별 통계(누적/월간/태그)를 증분 갱신한다.
+ * 같은 금액을 받는 직원들은 UPDATE 한 문장으로 처리하고, 통계 행이 없는 직원만 새로 INSERT 한다.
+ * 관리자 지급의 보낸 쪽(관리자) 통계는 관리자 지갑을 잠그지 않고 갱신하므로, 같은 관리자의 동시 지급이
+ * 최초 행을 함께 INSERT 할 수 있다. INSERT가 중복 키로 실패하면 먼저 들어간 행에 UPDATE로 더한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class PointStatisticsRecorder {
+
+  private final EmployeePointStatsRepository statsRepository;
+  private final EmployeeMonthlyPointStatsRepository monthlyRepository;
+  private final EmployeeTagStatsRepository tagRepository;
+  private final EntityManager entityManager;
+
+  /** 단건 거래 (선물, 구매). receiverId가 null이면 보낸 쪽만 집계한다. */
+  public void recordTransaction(Long senderId, Long receiverId, int amount, TransactionType type,
+                                Collection<Tag> tags, LocalDateTime at) {
+    if (senderId != null) {
+      addSent(List.of(senderId), amount, at);
+    }
+    if (receiverId != null) {
+      addReceived(List.of(receiverId), amount, at);
+      if (tags != null && type != TransactionType.REDEEM_ITEM) {
+        addTags(receiverId, tags);
+      }
+    }
+  }
+
+  /** 관리자 대량 지급 한 청크: 금액(부호 포함)별 수신자 목록 */
+  public void recordDistribution(Long adminId, Map<Integer, List<Long>> receiversByAmount, LocalDateTime at) {
+    long sent = 0;
+    for (Map.Entry<Integer, List<Long>> e : receiversByAmount.entrySet()) {
+      addReceived(e.getValue(), e.getKey(), at);
+      sent += (long) e.getKey() * e.getValue().size();
+    }
+    if (sent != 0) {
+      addSent(List.of(adminId), sent, at);
+    }
+  }
+
+  /** 포인트 만료 한 청크: 금액별 직원 목록. 만료는 거래 내역의 보낸 쪽(sender)이므로 보낸 포인트로 집계한다. */
+  public void recordExpiry(Map<Integer, List<Long>> employeesByAmount, LocalDateTime at) {
+    employeesByAmount.forEach((amount, employeeIds) -> addSent(employeeIds, amount, at));
+  }
+
+  private void addReceived(List<Long> employeeIds, long amount, LocalDateTime at) {
+    int month = statMonth(at);
+    if (statsRepository.addReceived(employeeIds, amount, at) < employeeIds.size()) {
+      missing(employeeIds, statsRepository.findExistingIds(employeeIds))
+          .forEach(id -> insertTotals(id, amount, 0, at));
+    }
+    if (monthlyRepository.addReceived(employeeIds, month, amount) < employeeIds.size()) {
+      missing(employeeIds, monthlyRepository.findExistingIds(employeeIds, month))
+          .forEach(id -> insertMonthly(id, month, amount, 0));
+    }
+  }
+
+  private void addSent(List<Long> employeeIds, long amount, LocalDateTime at) {
+    int month = statMonth(at);
+    if (statsRepository.addSent(employeeIds, amount, at) < employeeIds.size()) {
+      missing(employeeIds, statsRepository.findExistingIds(employeeIds))
+          .forEach(id -> insertTotals(id, 0, amount, at));
+    }
+    if (monthlyRepository.addSent(employeeIds, month, amount) < employeeIds.size()) {
+      missing(employeeIds, monthlyRepository.findExistingIds(employeeIds, month))
+          .forEach(id -> insertMonthly(id, month, 0, amount));
+    }
+  }
+
+  // 확인과 INSERT 사이에 다른 트랜잭션이 행을 넣었으면 그 행에 더한다
+  private void insertTotals(Long employeeId, long received, long sent, LocalDateTime at) {
+    if (statsRepository.insertIfAbsent(employeeId, received, sent, at)) return;
+    if (received != 0) statsRepository.addReceived(List.of(employeeId), received, at);
+    if (sent != 0) statsRepository.addSent(List.of(employeeId), sent, at);
+  }
+
+  private void insertMonthly(Long employeeId, int month, long received, long sent) {
+    if (monthlyRepository.insertIfAbsent(employeeId, month, received, sent)) return;
+    if (received != 0) monthlyRepository.addReceived(List.of(employeeId), month, received);
+    if (sent != 0) monthlyRepository.addSent(List.of(employeeId), month, sent);
+  }
+
+  private void addTags(Long receiverId, Collection<Tag> tags) {
+    Map<Tag, Long> counts = tags.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    counts.forEach((tag, count) -> {
+      if (tagRepository.increment(receiverId, tag, count) == 0) {
+        entityManager.persist(new EmployeeTagStats(receiverId, tag, count));
+      }
+    });
+  }
+
+  private static List<Long> missing(List<Long> employeeIds, List<Long> existing) {
+    Set<Long> present = new HashSet<>(existing);
+    return employeeIds.stream().filter(id -> !present.contains(id)).toList();
+  }
+
+  static int statMonth(LocalDateTime at) {
+    return at.getYear() * 100 + at.getMonthValue();
+  }
+}
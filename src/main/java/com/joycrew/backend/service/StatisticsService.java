@@ -1,92 +1,132 @@
 package com.joycrew.backend.service;
 
+import com.joycrew.backend.dto.MonthlyPointStatsResponse;
+import com.joycrew.backend.dto.PagedResponse;
 import com.joycrew.backend.dto.PointStatisticsResponse;
 import com.joycrew.backend.dto.TransactionHistoryResponse;
+import com.joycrew.backend.entity.EmployeeMonthlyPointStats;
+import com.joycrew.backend.entity.EmployeePointStats;
+import com.joycrew.backend.entity.EmployeeTagStats;
 import com.joycrew.backend.entity.Employee;
 import com.joycrew.backend.entity.RewardPointTransaction;
 import com.joycrew.backend.entity.enums.Tag;
 import com.joycrew.backend.entity.enums.TransactionType;
 import com.joycrew.backend.exception.UserNotFoundException;
+import com.joycrew.backend.repository.EmployeeMonthlyPointStatsRepository;
+import com.joycrew.backend.repository.EmployeePointStatsRepository;
 import com.joycrew.backend.repository.EmployeeRepository;
+import com.joycrew.backend.repository.EmployeeTagStatsRepository;
 import com.joycrew.backend.repository.RewardPointTransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 포인트 통계 조회.
+ * 합계/태그/월별 값은 거래 기록 시 갱신되는 통계 테이블(PointStatisticsRecorder)에서 읽고,
+ * 거래 내역은 페이지 단위로만 조회한다. 근속 기간이 길어져도 응답 비용이 늘지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StatisticsService {
 
+  public enum Direction { RECEIVED, SENT }
+
+  private static final int MONTHS = 12;
+  public static final int MAX_PAGE_SIZE = 100;
+  private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "transactionDate");
+
   private final EmployeeRepository employeeRepository;
   private final RewardPointTransactionRepository transactionRepository;
+  private final EmployeePointStatsRepository statsRepository;
+  private final EmployeeMonthlyPointStatsRepository monthlyRepository;
+  private final EmployeeTagStatsRepository tagRepository;
 
-  public PointStatisticsResponse getPointStatistics(String userEmail) {
-    Employee user = employeeRepository.findByEmail(userEmail)
-            .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+  public PointStatisticsResponse getPointStatistics(String userEmail, int historySize) {
+    Employee user = findUser(userEmail);
+    Long employeeId = user.getEmployeeId();
 
-    // Fetch all transactions involving the user (sender or receiver)
-    List<RewardPointTransaction> allTransactions = transactionRepository.findBySenderOrReceiverOrderByTransactionDateDesc(user, user);
-
-    List<TransactionHistoryResponse> receivedHistory = new ArrayList<>();
-    List<TransactionHistoryResponse> sentHistory = new ArrayList<>();
-
-    // Process transactions, excluding REDEEM_ITEM for history
-    for (RewardPointTransaction tx : allTransactions) {
-      if (user.equals(tx.getReceiver()) && tx.getType() != TransactionType.REDEEM_ITEM) {
-        Employee sender = tx.getSender();
-        receivedHistory.add(TransactionHistoryResponse.builder()
-                .transactionId(tx.getTransactionId())
-                .type(tx.getType())
-                .amount(tx.getPointAmount())
-                .counterparty(sender != null ? sender.getEmployeeName() : "System")
-                .message(tx.getMessage())
-                .transactionDate(tx.getTransactionDate())
-                .counterpartyProfileImageUrl(sender != null ? sender.getProfileImageUrl() : null)
-                .counterpartyDepartmentName(sender != null && sender.getDepartment() != null ? sender.getDepartment().getName() : null)
-                .build());
-      } else if (user.equals(tx.getSender()) && tx.getType() != TransactionType.REDEEM_ITEM) {
-        Employee receiver = tx.getReceiver();
-        sentHistory.add(TransactionHistoryResponse.builder()
-                .transactionId(tx.getTransactionId())
-                .type(tx.getType())
-                .amount(-tx.getPointAmount()) // Sent points are negative
-                .counterparty(receiver != null ? receiver.getEmployeeName() : "System")
-                .message(tx.getMessage())
-                .transactionDate(tx.getTransactionDate())
-                .counterpartyProfileImageUrl(receiver != null ? receiver.getProfileImageUrl() : null)
-                .counterpartyDepartmentName(receiver != null && receiver.getDepartment() != null ? receiver.getDepartment().getName() : null)
-                .build());
-      }
-    }
+    EmployeePointStats stats = statsRepository.findById(employeeId).orElse(null);
+    int totalReceived = stats != null ? (int) stats.getTotalReceived() : 0;
+    int totalSent = stats != null ? (int) stats.getTotalSent() : 0;
 
-    // Calculate total points including all transaction types
-    int totalReceived = allTransactions.stream()
-            .filter(tx -> user.equals(tx.getReceiver()))
-            .mapToInt(RewardPointTransaction::getPointAmount)
-            .sum();
+    // Tag statistics (received transactions, excluding REDEEM_ITEM) in enum order
+    Map<Tag, Long> tagStatsMap = tagRepository.findByEmployeeId(employeeId).stream()
+            .collect(Collectors.toMap(EmployeeTagStats::getTag, EmployeeTagStats::getTagCount));
+    List<Long> sortedTagCounts = Arrays.stream(Tag.values())
+            .map(tag -> tagStatsMap.getOrDefault(tag, 0L))
+            .toList();
 
-    int totalSent = allTransactions.stream()
-            .filter(tx -> user.equals(tx.getSender()))
-            .mapToInt(tx -> tx.getPointAmount())
-            .sum();
+    List<MonthlyPointStatsResponse> monthly = monthlyRepository
+            .findByEmployeeIdOrderByStatMonthDesc(employeeId, PageRequest.of(0, MONTHS)).stream()
+            .map(StatisticsService::toMonthly)
+            .toList();
 
-    // Calculate tag statistics (only for received transactions, excluding REDEEM_ITEM)
-    Map<Tag, Long> tagStatsMap = allTransactions.stream()
-            .filter(tx -> user.equals(tx.getReceiver()) && tx.getTags() != null && tx.getType() != TransactionType.REDEEM_ITEM)
-            .flatMap(tx -> tx.getTags().stream())
-            .collect(Collectors.groupingBy(tag -> tag, Collectors.counting()));
+    Pageable firstPage = PageRequest.of(0, clampSize(historySize), LATEST_FIRST);
+    List<TransactionHistoryResponse> receivedHistory = history(employeeId, Direction.RECEIVED, firstPage).getContent();
+    List<TransactionHistoryResponse> sentHistory = history(employeeId, Direction.SENT, firstPage).getContent();
 
-    List<Long> sortedTagCounts = Arrays.stream(Tag.values())
-            .map(tag -> tagStatsMap.getOrDefault(tag, 0L))
-            .collect(Collectors.toList());
+    return new PointStatisticsResponse(totalReceived, Math.abs(totalSent), sortedTagCounts, monthly,
+            receivedHistory, sentHistory);
+  }
+
+  public PagedResponse<TransactionHistoryResponse> getTransactionHistory(String userEmail, Direction direction,
+                                                                         int page, int size) {
+    Employee user = findUser(userEmail);
+    Page<TransactionHistoryResponse> result =
+            history(user.getEmployeeId(), direction, PageRequest.of(Math.max(page, 0), clampSize(size), LATEST_FIRST));
+    return new PagedResponse<>(result.getContent(), result.getNumber(), result.getSize(),
+            result.getTotalElements(), result.getTotalPages(), result.isLast());
+  }
+
+  // 0 이하면 PageRequest가 예외, 너무 크면 전체 이력을 읽게 되므로 1..MAX_PAGE_SIZE로 제한
+  private static int clampSize(int size) {
+    return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+  }
+
+  private Employee findUser(String userEmail) {
+    return employeeRepository.findByEmail(userEmail)
+            .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+  }
+
+  // REDEEM_ITEM is excluded from history
+  private Page<TransactionHistoryResponse> history(Long employeeId, Direction direction, Pageable pageable) {
+    if (direction == Direction.RECEIVED) {
+      return transactionRepository
+              .findByReceiverEmployeeIdAndTypeNot(employeeId, TransactionType.REDEEM_ITEM, pageable)
+              .map(tx -> toHistory(tx, tx.getSender(), tx.getPointAmount()));
+    }
+    return transactionRepository
+            .findBySenderEmployeeIdAndTypeNot(employeeId, TransactionType.REDEEM_ITEM, pageable)
+            .map(tx -> toHistory(tx, tx.getReceiver(), -tx.getPointAmount())); // Sent points are negative
+  }
+
+  private static TransactionHistoryResponse toHistory(RewardPointTransaction tx, Employee counterparty, int amount) {
+    return TransactionHistoryResponse.builder()
+            .transactionId(tx.getTransactionId())
+            .type(tx.getType())
+            .amount(amount)
+            .counterparty(counterparty != null ? counterparty.getEmployeeName() : "System")
+            .message(tx.getMessage())
+            .transactionDate(tx.getTransactionDate())
+            .counterpartyProfileImageUrl(counterparty != null ? counterparty.getProfileImageUrl() : null)
+            .counterpartyDepartmentName(counterparty != null && counterparty.getDepartment() != null
+                    ? counterparty.getDepartment().getName() : null)
+            .build();
+  }
 
-    return new PointStatisticsResponse(totalReceived, Math.abs(totalSent), sortedTagCounts, receivedHistory, sentHistory);
+  private static MonthlyPointStatsResponse toMonthly(EmployeeMonthlyPointStats m) {
+    String month = String.format("%04d-%02d", m.getStatMonth() / 100, m.getStatMonth() % 100);
+    return new MonthlyPointStatsResponse(month, m.getReceived(), m.getSent());
   }
-}
\ No newline at end of file
+}
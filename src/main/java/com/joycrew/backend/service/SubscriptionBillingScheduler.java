@@ -2,6 +2,7 @@ package com.joycrew.backend.service;
 
 import com.joycrew.backend.entity.Company;
 import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -27,7 +28,8 @@ public class SubscriptionBillingScheduler {
 
         for (Company c : targets) {
             try {
-                billingService.billCompany(c.getCompanyId());
+                // 회사별 작업은 해당 테넌트 컨텍스트에서 실행
+                TenantContext.runAs(c.getCompanyId(), () -> billingService.billCompany(c.getCompanyId()));
             } catch (Exception e) {
                 log.error("[AUTO-BILL-ERROR] companyId={}", c.getCompanyId(), e);
             }
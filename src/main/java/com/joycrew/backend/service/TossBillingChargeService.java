@@ -1,10 +1,12 @@
 package com.joycrew.backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joycrew.backend.dto.toss.TossErrorResponse;
+import com.joycrew.backend.dto.toss.TossPaymentResponse;
 import com.joycrew.backend.entity.Company;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -13,12 +15,12 @@ import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TossBillingChargeService {
 
@@ -29,10 +31,16 @@ public class TossBillingChargeService {
     private long monthlyPrice;
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
 
-    private static final String BILLING_URL =
-            "https://api.tosspayments.com/v1/billing/{billingKey}";
+    // base-url은 tossRestTemplate의 rootUri (TossClientConfig)
+    private static final String BILLING_URL = "/v1/billing/{billingKey}";
+
+    public TossBillingChargeService(@Qualifier("tossRestTemplate") RestTemplate restTemplate,
+                                    ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
 
     public record TossChargeResult(
             boolean success,
@@ -70,18 +78,17 @@ public class TossBillingChargeService {
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
         try {
-            ResponseEntity<String> res =
-                    restTemplate.postForEntity(BILLING_URL, entity, String.class, company.getTossBillingKey());
+            // 결제 이력(SubscriptionPayment.rawResponse)에는 Toss 응답 원문을 그대로 남기고, 필요한 필드만 레코드로 읽는다
+            ResponseEntity<String> res = restTemplate.postForEntity(
+                    BILLING_URL, entity, String.class, company.getTossBillingKey());
 
             String raw = res.getBody();
-            String paymentKey = null;
-            LocalDateTime approvedAt = null;
-
-            if (raw != null) {
-                JsonNode node = objectMapper.readTree(raw);
-                paymentKey = node.path("paymentKey").asText(null);
-                // approvedAt 포맷은 토스 응답에 맞게 파싱 필요할 수 있음 (없으면 null 허용)
-            }
+            TossPaymentResponse payment = readPayment(raw);
+            String paymentKey = (payment != null) ? payment.paymentKey() : null;
+            LocalDateTime approvedAt = (payment != null && payment.approvedAt() != null)
+                    // 다른 시각 컬럼(LocalDateTime.now())과 같은 서버 시간대로 변환
+                    ? payment.approvedAt().atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime()
+                    : null;
 
             return new TossChargeResult(true, paymentKey, approvedAt, null, null, raw);
 
@@ -89,12 +96,13 @@ public class TossBillingChargeService {
             String raw = e.getResponseBodyAsString();
             log.error("[TOSS][CHARGE] status={}, body={}", e.getStatusCode(), raw);
 
+            TossErrorResponse error = readError(e);
             return new TossChargeResult(
                     false,
                     null,
                     null,
-                    "HTTP_" + e.getStatusCode().value(),
-                    e.getStatusText(),
+                    (error != null && error.code() != null) ? error.code() : "HTTP_" + e.getStatusCode().value(),
+                    (error != null && error.message() != null) ? error.message() : e.getStatusText(),
                     raw
             );
         } catch (Exception e) {
@@ -102,4 +110,22 @@ public class TossBillingChargeService {
             return new TossChargeResult(false, null, null, "EXCEPTION", e.getMessage(), null);
         }
     }
+
+    private TossErrorResponse readError(HttpStatusCodeException e) {
+        try {
+            return e.getResponseBodyAs(TossErrorResponse.class);
+        } catch (RuntimeException ignore) {
+            return null; // JSON이 아닌 오류 본문
+        }
+    }
+
+    private TossPaymentResponse readPayment(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        try {
+            return objectMapper.readValue(raw, TossPaymentResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[TOSS][CHARGE] unreadable approval body: {}", e.getOriginalMessage());
+            return null;
+        }
+    }
 }
@@ -1,8 +1,8 @@
 package com.joycrew.backend.service;
 
 import com.joycrew.backend.dto.toss.TossIssueBillingKeyResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -15,7 +15,6 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TossBillingKeyService {
 
@@ -24,8 +23,12 @@ public class TossBillingKeyService {
 
     private final RestTemplate restTemplate;
 
-    private static final String ISSUE_URL =
-            "https://api.tosspayments.com/v1/billing/authorizations/issue";
+    // base-url은 tossRestTemplate의 rootUri (TossClientConfig)
+    private static final String ISSUE_URL = "/v1/billing/authorizations/issue";
+
+    public TossBillingKeyService(@Qualifier("tossRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
 
     public String issueBillingKey(String authKey, String customerKey) {
         if (secretKey == null || secretKey.isBlank()) {
@@ -1,69 +1,114 @@
 package com.joycrew.backend.service;
 
+import com.joycrew.backend.dto.TransactionHistoryPageResponse;
 import com.joycrew.backend.dto.TransactionHistoryResponse;
 import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.RewardPointTransaction;
 import com.joycrew.backend.entity.enums.TransactionType;
 import com.joycrew.backend.exception.UserNotFoundException;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.repository.RewardPointTransactionRepository;
 import com.joycrew.backend.tenant.Tenant;
+import com.joycrew.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TransactionHistoryService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final Set<TransactionType> DEFAULT_TYPES = Set.of(TransactionType.AWARD_P2P);
+
+    private static final Comparator<RewardPointTransaction> LATEST_FIRST = Comparator
+            .comparing(RewardPointTransaction::getTransactionDate)
+            .thenComparing(RewardPointTransaction::getTransactionId)
+            .reversed();
+
     private final RewardPointTransactionRepository transactionRepository;
     private final EmployeeRepository employeeRepository;
 
-    public List<TransactionHistoryResponse> getTransactionHistory(String userEmail) {
+    /**
+     * 내 거래 내역 (최신순, 키셋 페이지네이션).
+     * 보낸/받은 거래를 각각 (sender|receiver, transaction_date, transaction_id) 인덱스로 size+1건씩 읽어 병합하므로
+     * 회사 전체 거래량이나 내 거래 이력 길이와 무관하게 페이지당 비용이 일정하다.
+     *
+     * @param types  조회할 거래 유형 (비어 있으면 AWARD_P2P)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public TransactionHistoryPageResponse getTransactionHistory(String userEmail, Collection<TransactionType> types,
+                                                                String cursor, int size) {
         Long tenant = Tenant.id();
 
         Employee me = employeeRepository
                 .findByCompanyCompanyIdAndEmail(tenant, userEmail)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
 
-        List<TransactionType> personalTypes = List.of(TransactionType.AWARD_P2P);
-
-        return transactionRepository.findAllByCompanyScope(tenant).stream()
-                .filter(tx -> {
-                    // 본인 관련(보낸/받은)만 추려내기
-                    Long senderId   = (tx.getSender()   != null) ? tx.getSender().getEmployeeId()   : null;
-                    Long receiverId = (tx.getReceiver() != null) ? tx.getReceiver().getEmployeeId() : null;
-                    return (senderId != null && senderId.equals(me.getEmployeeId()))
-                            || (receiverId != null && receiverId.equals(me.getEmployeeId()));
-                })
-                .filter(tx -> personalTypes.contains(tx.getType()))
-                .map(tx -> {
-                    boolean isSender = me.equals(tx.getSender());
-                    int amount = isSender ? -tx.getPointAmount() : tx.getPointAmount();
-
-                    String counterparty = "System/Admin";
-                    Employee cp = isSender ? tx.getReceiver() : tx.getSender();
-
-                    if (cp != null) {
-                        counterparty = cp.getEmployeeName();
-                        // TODO: 필요 시 counterparty 이미지/부서명 등 추가 매핑
-                    } else if (tx.getType() == TransactionType.AWARD_MANAGER_SPOT) {
-                        counterparty = "Admin";
-                    } else if (tx.getType() == TransactionType.REDEEM_ITEM || tx.getType() == TransactionType.EXPIRE_POINTS) {
-                        counterparty = "System";
-                    }
-
-                    return TransactionHistoryResponse.builder()
-                            .transactionId(tx.getTransactionId())
-                            .type(tx.getType())
-                            .amount(amount)
-                            .counterparty(counterparty)
-                            .message(tx.getMessage())
-                            .transactionDate(tx.getTransactionDate())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        Collection<TransactionType> personalTypes = (types == null || types.isEmpty()) ? DEFAULT_TYPES : types;
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<RewardPointTransaction> sent = transactionRepository.findSentBefore(
+                me.getEmployeeId(), personalTypes, after.date(), after.id(), limit);
+        List<RewardPointTransaction> received = transactionRepository.findReceivedBefore(
+                me.getEmployeeId(), personalTypes, after.date(), after.id(), limit);
+
+        // 병합 (자기 자신에게 보낸 거래는 양쪽에 나오므로 ID로 중복 제거)
+        Map<Long, RewardPointTransaction> merged = new LinkedHashMap<>();
+        List<RewardPointTransaction> all = new ArrayList<>(sent);
+        all.addAll(received);
+        all.sort(LATEST_FIRST);
+        all.forEach(tx -> merged.putIfAbsent(tx.getTransactionId(), tx));
+
+        List<RewardPointTransaction> ordered = new ArrayList<>(merged.values());
+        boolean hasNext = ordered.size() > pageSize;
+        List<RewardPointTransaction> page = hasNext ? ordered.subList(0, pageSize) : ordered;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RewardPointTransaction last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getTransactionDate(), last.getTransactionId()).encode();
+        }
+
+        List<TransactionHistoryResponse> content = page.stream().map(tx -> toResponse(me, tx)).toList();
+        return new TransactionHistoryPageResponse(content, nextCursor, hasNext);
+    }
+
+    private static TransactionHistoryResponse toResponse(Employee me, RewardPointTransaction tx) {
+        boolean isSender = tx.getSender() != null && me.getEmployeeId().equals(tx.getSender().getEmployeeId());
+        int amount = isSender ? -tx.getPointAmount() : tx.getPointAmount();
+
+        String counterparty = "System/Admin";
+        Employee cp = isSender ? tx.getReceiver() : tx.getSender();
+
+        if (cp != null) {
+            counterparty = cp.getEmployeeName();
+            // TODO: 필요 시 counterparty 이미지/부서명 등 추가 매핑
+        } else if (tx.getType() == TransactionType.AWARD_MANAGER_SPOT) {
+            counterparty = "Admin";
+        } else if (tx.getType() == TransactionType.REDEEM_ITEM || tx.getType() == TransactionType.EXPIRE_POINTS) {
+            counterparty = "System";
+        }
+
+        return TransactionHistoryResponse.builder()
+                .transactionId(tx.getTransactionId())
+                .type(tx.getType())
+                .amount(amount)
+                .counterparty(counterparty)
+                .message(tx.getMessage())
+                .transactionDate(tx.getTransactionDate())
+                .build();
     }
 }
@@ -0,0 +1,67 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.enums.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.stream.Collectors;
+
+/**
+ * 예전 태그 테이블(transaction_tags, 거래당 태그 행)을 거래 행의 tag_mask 비트로 옮긴다.
+ * - 기동 시 레거시 테이블이 있을 때만 실행하며, 이미 켜진 비트는 건드리지 않으므로 여러 번 실행해도 안전하다.
+ * - 옮긴 뒤에는 transaction_tags 테이블을 수동으로 삭제하면 이후 기동에서 건너뛴다.
+ * - 통계 백필(PointStatisticsBackfill)이 태그 비트를 읽으므로 그보다 먼저 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionTagMaskMigration {
+
+  static final int ORDER = 0;
+  private static final String LEGACY_TABLE = "transaction_tags";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(ORDER)
+  public void migrateLegacyTags() {
+    if (!legacyTableExists()) return;
+
+    int updated = 0;
+    for (Tag tag : Tag.values()) {
+      // 마스크 값은 enum에서 계산한 정수뿐이므로 그대로 SQL에 넣는다
+      String withBit = tag.masksContaining().stream().map(String::valueOf).collect(Collectors.joining(","));
+      updated += jdbcTemplate.update("""
+          update reward_point_transaction
+             set tag_mask = tag_mask + ?
+           where tag_mask not in (%s)
+             and exists (select 1 from transaction_tags tt
+                          where tt.transaction_id = reward_point_transaction.transaction_id
+                            and tt.tag = ?)
+          """.formatted(withBit), tag.bit(), tag.name());
+    }
+    log.info("Migrated {} tag assignment(s) from {} to reward_point_transaction.tag_mask; "
+        + "the legacy table can be dropped", updated, LEGACY_TABLE);
+  }
+
+  private boolean legacyTableExists() {
+    Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+      DatabaseMetaData meta = con.getMetaData();
+      for (String name : new String[]{LEGACY_TABLE, LEGACY_TABLE.toUpperCase()}) {
+        try (ResultSet rs = meta.getTables(con.getCatalog(), null, name, new String[]{"TABLE"})) {
+          if (rs.next()) return true;
+        }
+      }
+      return false;
+    });
+    return Boolean.TRUE.equals(exists);
+  }
+}
@@ -0,0 +1,213 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.enums.LedgerAccount;
+import com.joycrew.backend.entity.enums.LedgerEntryType;
+import com.joycrew.backend.exception.InsufficientPointsException;
+import com.joycrew.backend.repository.PointLedgerEntryRepository;
+import com.joycrew.backend.repository.PointLedgerJdbcRepository.Leg;
+import com.joycrew.backend.repository.PointLedgerJdbcRepository.WalletPosition;
+import com.joycrew.backend.repository.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지갑 잔액 변경의 단일 진입점.
+ * 모든 변경은 Wallet 엔티티를 읽어 자바에서 수정하는 대신, 잔액 조건을 포함한 UPDATE 한 문장으로 처리해
+ * 동시 선물/구매에서도 갱신 유실이 없다. 영속성 컨텍스트에 이미 올라온 Wallet 엔티티(Employee.wallet 즉시 로딩 등)는
+ * 잠금 이전 값일 수 있으므로 잔액과 원장 번호는 항상 잠긴 행에서 읽는다. 선물 이체는 두 지갑을 먼저 잠근다 (transferGiftPoints).
+ * InnoDB 행 락은 호출 트랜잭션이 커밋할 때까지 유지되므로,
+ * 호출 측은 외부 호출(HTTP 등)을 이 트랜잭션 밖에서 해야 한다 (GiftPurchaseService 참고).
+ * 어떤 필드를 움직이는지와 예외 메시지는 Wallet 엔티티의 규칙과 같다.
+ * 모든 변경은 같은 트랜잭션에서 포인트 원장(PointLedgerEntry)에 합이 0인 분개로 남는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class WalletLedgerService {
+
+  private final WalletRepository walletRepository;
+  private final PointLedgerEntryRepository ledgerRepository;
+
+  /**
+   * P2P 선물 이체: 두 지갑 행을 walletId 순서로 한 번에 잠근 뒤 조건부 UPDATE로 차감/증가한다.
+   * 서로에게 동시에 선물해도 잠금 순서가 같아 교착이 생기지 않는다.
+   * 원장 번호는 잠근 행의 ledger_seq + 1 (각 UPDATE가 같은 값으로 올린다).
+   * 잠금 대기 시간 초과는 호출 측(WalletLockRetry)이 트랜잭션 단위로 재시도한다.
+   */
+  public void transferGiftPoints(Long senderId, Long receiverId, int amount) {
+    requireNonNegative(amount, "Points to spend cannot be negative.");
+    if (senderId.equals(receiverId)) {
+      throw new IllegalArgumentException("Sender and receiver must be different employees.");
+    }
+    List<WalletPosition> locked = ledgerRepository.findPositions(List.of(senderId, receiverId), true);
+    WalletPosition sender = findLocked(locked, senderId);
+    WalletPosition receiver = findLocked(locked, receiverId);
+
+    LocalDateTime now = LocalDateTime.now();
+    requireApplied(walletRepository.spendGiftablePoints(senderId, amount, now), senderId, "Insufficient giftable points.");
+    requireWallet(walletRepository.addBalance(receiverId, amount, now), receiverId);
+
+    ledgerRepository.appendJournal(LedgerEntryType.GIFT, null, List.of(
+        Leg.wallet(sender.walletId(), sender.seq() + 1, -amount, -amount),
+        Leg.wallet(receiver.walletId(), receiver.seq() + 1, amount, 0)
+    ), now);
+  }
+
+  /** 관리자 지급: 총 잔액과 선물 한도를 둘 다 올린다. */
+  public void addPoints(Long employeeId, int amount) {
+    requireNonNegative(amount, "Points to add cannot be negative.");
+    requireWallet(walletRepository.addPoints(employeeId, amount, LocalDateTime.now()), employeeId);
+    journal(LedgerEntryType.ADMIN_GRANT, LedgerAccount.ISSUANCE, null, employeeId, amount, amount);
+  }
+
+  /** P2P 선물 받기: 총 잔액만 올린다. */
+  public void receiveGiftPoints(Long employeeId, int amount) {
+    requireNonNegative(amount, "Points to receive cannot be negative.");
+    requireWallet(walletRepository.addBalance(employeeId, amount, LocalDateTime.now()), employeeId);
+    journal(LedgerEntryType.GIFT, LedgerAccount.CLEARING, null, employeeId, amount, 0);
+  }
+
+  /** P2P 선물 하기: 총 잔액과 선물 한도를 둘 다 차감한다. */
+  public void spendGiftablePoints(Long employeeId, int amount) {
+    requireNonNegative(amount, "Points to spend cannot be negative.");
+    int updated = walletRepository.spendGiftablePoints(employeeId, amount, LocalDateTime.now());
+    requireApplied(updated, employeeId, "Insufficient giftable points.");
+    journal(LedgerEntryType.GIFT, LedgerAccount.CLEARING, null, employeeId, -amount, -amount);
+  }
+
+  /** 기프티콘/스토어 구매: 총 잔액만 차감한다. reference는 원장에 남길 주문 식별자 */
+  public void purchaseWithPoints(Long employeeId, int amount, String reference) {
+    requireNonNegative(amount, "Purchase amount cannot be negative.");
+    int updated = walletRepository.spendBalance(employeeId, amount, LocalDateTime.now());
+    requireApplied(updated, employeeId, "Insufficient points for purchase.");
+    journal(LedgerEntryType.PURCHASE, LedgerAccount.MERCHANT, reference, employeeId, -amount, 0);
+  }
+
+  /** 관리자 회수: 총 잔액을 차감하고 선물 한도는 0까지만 줄인다. */
+  public void revokePoints(Long employeeId, int amount) {
+    revokePointsFromAll(List.of(employeeId), amount);
+  }
+
+  /** 관리자 일괄 지급: 같은 금액을 받는 직원들의 지갑을 UPDATE 한 번으로 올린다. */
+  public void addPointsToAll(Collection<Long> employeeIds, int amount) {
+    requireNonNegative(amount, "Points to add cannot be negative.");
+    int updated = walletRepository.addPointsToAll(employeeIds, amount, LocalDateTime.now());
+    if (updated < employeeIds.size()) {
+      throw new IllegalStateException("Wallet not found for " + (employeeIds.size() - updated) + " employee(s)");
+    }
+
+    // UPDATE가 잡은 행 락 안에서 새 번호를 읽어 지갑마다 한 줄 + 발행 계정 한 줄
+    List<WalletPosition> positions = ledgerRepository.findPositions(employeeIds, false);
+    List<Leg> legs = new ArrayList<>(positions.size() + 1);
+    positions.forEach(p -> legs.add(Leg.wallet(p.walletId(), p.seq(), amount, amount)));
+    legs.add(Leg.system(LedgerAccount.ISSUANCE, -(long) amount * positions.size()));
+    ledgerRepository.appendJournal(LedgerEntryType.ADMIN_GRANT, null, legs, LocalDateTime.now());
+  }
+
+  /**
+   * 관리자 일괄 회수: 한 명이라도 적용되지 않으면 예외 (호출 트랜잭션 전체 롤백).
+   * 선물 한도는 0에서 멈추므로 실제 차감량을 원장에 남기려고 변경 전 값을 walletId 순서로 잠가 읽는다.
+   */
+  public void revokePointsFromAll(Collection<Long> employeeIds, int amount) {
+    requireNonNegative(amount, "Amount to revoke cannot be negative.");
+    List<WalletPosition> before = ledgerRepository.findPositions(employeeIds, true);
+    if (before.size() < employeeIds.size()) {
+      throw new IllegalStateException("Wallet not found for " + (employeeIds.size() - before.size()) + " employee(s)");
+    }
+    int updated = walletRepository.revokePointsFromAll(employeeIds, amount, LocalDateTime.now());
+    if (updated < employeeIds.size()) {
+      throw new InsufficientPointsException("Insufficient balance to revoke points.");
+    }
+
+    List<Leg> legs = new ArrayList<>(before.size() + 1);
+    before.forEach(p -> legs.add(Leg.wallet(p.walletId(), p.seq() + 1, -amount, -Math.min(p.giftablePoint(), amount))));
+    legs.add(Leg.system(LedgerAccount.ISSUANCE, (long) amount * before.size()));
+    ledgerRepository.appendJournal(LedgerEntryType.ADMIN_REVOKE, null, legs, LocalDateTime.now());
+  }
+
+  /**
+   * 유효기간 만료: 지갑을 walletId 순서로 잠근 뒤 선입선출로 cutoff 이전 적립분 중 남은 포인트를 차감한다.
+   * 잠근 다음에 만료량을 계산하므로 동시 구매로 이미 쓴 포인트를 다시 만료시키지 않는다.
+   * 반환: employeeId → 실제 만료 포인트 (만료할 것이 없는 직원은 빠진다)
+   */
+  public Map<Long, Integer> expirePoints(Collection<Long> employeeIds, LocalDateTime cutoff, String reference) {
+    List<WalletPosition> locked = ledgerRepository.findPositions(employeeIds, true);
+    if (locked.isEmpty()) return Map.of();
+    Map<Long, Long> expirable = ledgerRepository.findExpirable(
+        locked.stream().map(WalletPosition::walletId).toList(), cutoff);
+
+    LocalDateTime now = LocalDateTime.now();
+    Map<Long, Integer> expired = new LinkedHashMap<>();
+    List<Leg> legs = new ArrayList<>();
+    long total = 0;
+    for (WalletPosition p : locked) {
+      int amount = (int) Math.min(p.balance(), expirable.getOrDefault(p.walletId(), 0L));
+      if (amount <= 0) continue;
+      requireWallet(walletRepository.expirePoints(p.employeeId(), amount, now), p.employeeId());
+
+      long giftableAfter = Math.min(p.giftablePoint(), p.balance() - amount);
+      legs.add(Leg.wallet(p.walletId(), p.seq() + 1, -amount, giftableAfter - p.giftablePoint()));
+      expired.put(p.employeeId(), amount);
+      total += amount;
+    }
+    if (!legs.isEmpty()) {
+      legs.add(Leg.system(LedgerAccount.ISSUANCE, total));
+      ledgerRepository.appendJournal(LedgerEntryType.EXPIRE, reference, legs, now);
+    }
+    return expired;
+  }
+
+  /** 구매 환불: 총 잔액만 다시 채운다. reference는 원장에 남길 주문 식별자 */
+  public void refundPoints(Long employeeId, int amount, String reference) {
+    requireNonNegative(amount, "Refund amount cannot be negative.");
+    requireWallet(walletRepository.addBalance(employeeId, amount, LocalDateTime.now()), employeeId);
+    journal(LedgerEntryType.REFUND, LedgerAccount.MERCHANT, reference, employeeId, amount, 0);
+  }
+
+  // 단건 UPDATE 직후: 같은 트랜잭션이 행 락을 쥐고 있으므로 읽은 ledgerSeq가 방금 올린 번호다
+  private void journal(LedgerEntryType type, LedgerAccount counterAccount, String reference,
+                       Long employeeId, long balanceDelta, long giftableDelta) {
+    WalletPosition position = ledgerRepository.findPositions(List.of(employeeId), false).get(0);
+    ledgerRepository.appendJournal(type, reference, List.of(
+        Leg.wallet(position.walletId(), position.seq(), balanceDelta, giftableDelta),
+        Leg.system(counterAccount, -balanceDelta)
+    ), LocalDateTime.now());
+  }
+
+  private static WalletPosition findLocked(List<WalletPosition> locked, Long employeeId) {
+    return locked.stream()
+        .filter(p -> p.employeeId().equals(employeeId))
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("Wallet not found for employeeId=" + employeeId));
+  }
+
+  private static void requireNonNegative(int amount, String message) {
+    if (amount < 0) {
+      throw new IllegalArgumentException(message);
+    }
+  }
+
+  private static void requireWallet(int updated, Long employeeId) {
+    if (updated == 0) {
+      throw new IllegalStateException("Wallet not found for employeeId=" + employeeId);
+    }
+  }
+
+  // 0행이면 지갑이 없거나 잔액 조건 불충족 → 어느 쪽인지 구분해서 알린다
+  private void requireApplied(int updated, Long employeeId, String insufficientMessage) {
+    if (updated > 0) return;
+    if (!walletRepository.existsByEmployee_EmployeeId(employeeId)) {
+      throw new IllegalStateException("Wallet not found for employeeId=" + employeeId);
+    }
+    throw new InsufficientPointsException(insufficientMessage);
+  }
+}
@@ -0,0 +1,124 @@
+package com.joycrew.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 지갑 잠금 경합 시 트랜잭션 전체를 재시도한다.
+ * 잠금 대기 초과/교착 희생(PessimisticLockingFailureException)이면 지수 백오프 + 지터 후 새 트랜잭션으로 다시 실행.
+ * 원장 번호 충돌(uk_ledger_wallet_seq 중복)도 같은 지갑을 동시에 바꾼 경합이므로 재시도한다.
+ * 잠금 대기 한도는 DB 세션 설정을 따른다 (prod: innodb_lock_wait_timeout = 3초, 커넥션 초기화 SQL).
+ * 메트릭: wallet.lock.attempts{result=success|retry|exhausted}, wallet.lock.transaction(시도별 소요 시간)
+ */
+@Slf4j
+@Component
+public class WalletLockRetry {
+
+  // PointLedgerEntry의 (wallet_id, seq) 유니크 제약 이름 (DB마다 대소문자/접미사가 달라 포함 여부로 비교)
+  static final String LEDGER_SEQ_CONSTRAINT = "uk_ledger_wallet_seq";
+
+  private final TransactionTemplate transactionTemplate;
+  private final int maxAttempts;
+  private final long baseBackoffMs;
+  private final long maxBackoffMs;
+
+  private final Counter succeeded;
+  private final Counter retried;
+  private final Counter exhausted;
+  private final Timer attemptTimer;
+
+  public WalletLockRetry(PlatformTransactionManager transactionManager,
+                         @Value("${wallet.lock-retry.max-attempts:5}") int maxAttempts,
+                         @Value("${wallet.lock-retry.base-backoff-ms:20}") long baseBackoffMs,
+                         @Value("${wallet.lock-retry.max-backoff-ms:500}") long maxBackoffMs,
+                         MeterRegistry meterRegistry) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxAttempts = maxAttempts;
+    this.baseBackoffMs = baseBackoffMs;
+    this.maxBackoffMs = maxBackoffMs;
+
+    this.succeeded = attemptCounter(meterRegistry, "success");
+    this.retried = attemptCounter(meterRegistry, "retry");
+    this.exhausted = attemptCounter(meterRegistry, "exhausted");
+    this.attemptTimer = Timer.builder("wallet.lock.transaction")
+        .description("Duration of one wallet-locking transaction attempt")
+        .register(meterRegistry);
+  }
+
+  private static Counter attemptCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("wallet.lock.attempts")
+        .description("Wallet-locking transaction attempts, by outcome")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  public <T> T execute(Supplier<T> work) {
+    // 이미 바깥 트랜잭션 안이면 재시도할 수 없으므로(롤백 전용 표시됨) 한 번만 실행
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return work.get();
+    }
+
+    for (int attempt = 1; ; attempt++) {
+      Timer.Sample sample = Timer.start();
+      try {
+        T result = transactionTemplate.execute(status -> work.get());
+        succeeded.increment();
+        return result;
+      } catch (DataAccessException e) {
+        if (!isContention(e)) throw e;
+        if (attempt >= maxAttempts) {
+          exhausted.increment();
+          log.warn("Wallet lock contention: giving up after {} attempts", attempt);
+          throw e;
+        }
+        retried.increment();
+        log.debug("Wallet lock contention (attempt {}): {}", attempt, e.getMessage());
+        sleep(backoff(attempt));
+      } finally {
+        sample.stop(attemptTimer);
+      }
+    }
+  }
+
+  public void run(Runnable work) {
+    execute(() -> {
+      work.run();
+      return null;
+    });
+  }
+
+  static boolean isContention(DataAccessException e) {
+    if (e instanceof PessimisticLockingFailureException) return true;
+    return e instanceof DuplicateKeyException
+        && String.valueOf(e.getMessage()).toLowerCase(Locale.ROOT).contains(LEDGER_SEQ_CONSTRAINT);
+  }
+
+  // full jitter: [0, min(max, base * 2^(attempt-1))]
+  private long backoff(int attempt) {
+    long cap = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while backing off wallet lock retry", e);
+    }
+  }
+}
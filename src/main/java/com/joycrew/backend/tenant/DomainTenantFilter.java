@@ -1,6 +1,5 @@
 package com.joycrew.backend.tenant;
 
-import com.joycrew.backend.repository.CompanyDomainRepository;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Component;
@@ -11,10 +10,10 @@ import java.util.Optional;
 @Component
 public class DomainTenantFilter implements Filter {
 
-    private final CompanyDomainRepository domainRepository;
+    private final TenantDomainCache domainCache;
 
-    public DomainTenantFilter(CompanyDomainRepository domainRepository) {
-        this.domainRepository = domainRepository;
+    public DomainTenantFilter(TenantDomainCache domainCache) {
+        this.domainCache = domainCache;
     }
 
     @Override
@@ -55,7 +54,8 @@ public class DomainTenantFilter implements Filter {
 
     private Optional<Long> resolveCompanyId(String host) {
         if (host == null || host.isBlank()) return Optional.empty();
-        return domainRepository.findCompanyIdByDomain(host);
+        // 메모리 캐시 조회 (미등록 호스트도 네거티브 캐시로 DB 재조회 없음)
+        return Optional.ofNullable(domainCache.resolve(host));
     }
 
     private Long fallbackCompanyId() {
@@ -8,4 +8,16 @@ public final class TenantContext {
     public static void set(Long companyId) { CURRENT.set(companyId); }
     public static Long get() { return CURRENT.get(); }
     public static void clear() { CURRENT.remove(); }
+
+    /** 요청 밖(스케줄러 등)에서 특정 테넌트로 작업을 실행하고 이전 값을 복원한다. */
+    public static void runAs(Long companyId, Runnable task) {
+        Long previous = CURRENT.get();
+        CURRENT.set(companyId);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) CURRENT.set(previous);
+            else CURRENT.remove();
+        }
+    }
 }
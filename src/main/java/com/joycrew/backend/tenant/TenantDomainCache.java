@@ -0,0 +1,182 @@
+package com.joycrew.backend.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joycrew.backend.repository.CompanyDomainRepository;
+import com.joycrew.backend.repository.CompanyDomainRepository.DomainMapping;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호스트 → 회사 ID 매핑 캐시.
+ * - 기동 시 company_domain 전체를 적재하고, 주기적으로 updatedAt 기준 증분 갱신
+ * - 삭제/도메인 변경을 반영하기 위해 일정 주기마다 전체 재적재
+ * - 등록되지 않은 호스트는 짧은 TTL의 네거티브 캐시로 DB 반복 조회 방지
+ */
+@Slf4j
+@Component
+public class TenantDomainCache {
+
+    private static final Long UNKNOWN = -1L;
+
+    private final CompanyDomainRepository domainRepository;
+    private final Duration fullReloadInterval;
+
+    private final Map<String, Long> domains = new ConcurrentHashMap<>();
+    private final Cache<String, Long> unknownHosts;
+
+    // synchronized 대신 ReentrantLock: 락 안에서 JDBC를 호출해도 가상 스레드가 고정되지 않음
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile LocalDateTime watermark;
+    private volatile long lastFullReloadNanos;
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+
+    public TenantDomainCache(CompanyDomainRepository domainRepository,
+                             @Value("${tenant.domain-cache.negative-ttl-seconds:60}") long negativeTtlSeconds,
+                             @Value("${tenant.domain-cache.negative-max-size:10000}") long negativeMaxSize,
+                             @Value("${tenant.domain-cache.full-reload-minutes:10}") long fullReloadMinutes,
+                             MeterRegistry meterRegistry) {
+        this.domainRepository = domainRepository;
+        this.fullReloadInterval = Duration.ofMinutes(fullReloadMinutes);
+        this.unknownHosts = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .build();
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.negativeHits = lookupCounter(meterRegistry, "negative_hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("tenant.domain.cache.size", domains, Map::size)
+                .description("Known host to company mappings")
+                .register(meterRegistry);
+        Gauge.builder("tenant.domain.cache.hit.ratio", this, TenantDomainCache::hitRatio)
+                .description("Share of tenant lookups served without a DB query")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tenant.domain.lookups")
+                .description("Host to tenant lookups, by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** 정규화된 호스트의 회사 ID. 등록되지 않은 호스트면 null. */
+    public Long resolve(String host) {
+        Long companyId = domains.get(host);
+        if (companyId != null) {
+            hits.increment();
+            return companyId;
+        }
+        if (unknownHosts.getIfPresent(host) != null) {
+            negativeHits.increment();
+            return null;
+        }
+
+        // 다음 갱신 전에 추가된 도메인일 수 있으므로 한 번만 DB 확인
+        misses.increment();
+        companyId = domainRepository.findCompanyIdByDomain(host).orElse(null);
+        if (companyId != null) {
+            domains.put(host, companyId);
+        } else {
+            unknownHosts.put(host, UNKNOWN);
+        }
+        return companyId;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reloadAll();
+    }
+
+    @Scheduled(fixedDelayString = "${tenant.domain-cache.refresh-ms:30000}",
+            initialDelayString = "${tenant.domain-cache.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            if (watermark == null || System.nanoTime() - lastFullReloadNanos >= fullReloadInterval.toNanos()) {
+                reloadAll();
+                return;
+            }
+            List<DomainMapping> changed = domainRepository.findMappingsUpdatedSince(watermark);
+            for (DomainMapping m : changed) {
+                put(m);
+            }
+            if (!changed.isEmpty()) {
+                log.info("Tenant domain cache: {} mapping(s) refreshed", changed.size());
+            }
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 기존 매핑을 유지 (다음 주기에 재시도)
+            log.warn("Tenant domain cache refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /** 전체 재적재. 도메인을 삭제하거나 다른 회사로 옮긴 직후 호출하면 즉시 반영된다. */
+    public void reloadAll() {
+        lock.lock();
+        try {
+            List<DomainMapping> all = domainRepository.findAllMappings();
+            Map<String, Long> fresh = new HashMap<>();
+            LocalDateTime latest = null;
+            for (DomainMapping m : all) {
+                fresh.put(normalize(m.getDomain()), m.getCompanyId());
+                latest = max(latest, m.getUpdatedAt());
+            }
+
+            domains.keySet().retainAll(fresh.keySet());
+            domains.putAll(fresh);
+            unknownHosts.invalidateAll();
+            watermark = (latest != null) ? latest : LocalDateTime.now();
+            lastFullReloadNanos = System.nanoTime();
+            log.info("Tenant domain cache loaded: {} domain(s)", fresh.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(DomainMapping m) {
+        lock.lock();
+        try {
+            String host = normalize(m.getDomain());
+            domains.put(host, m.getCompanyId());
+            unknownHosts.invalidate(host);
+            watermark = max(watermark, m.getUpdatedAt());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + negativeHits.count();
+        double total = served + misses.count();
+        return total == 0 ? 0.0 : served / total;
+    }
+
+    private static String normalize(String domain) {
+        return domain.trim().toLowerCase();
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,34 @@
+package com.joycrew.backend.util;
+
+import com.joycrew.backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (시각, ID) 키셋 페이지네이션 커서. 클라이언트에는 불투명한 base64url 문자열로 전달한다.
+ */
+public record KeysetCursor(LocalDateTime date, Long id) {
+
+    /** 첫 페이지: 모든 행보다 뒤에 있는 위치 */
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 문자열이면 첫 페이지 */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogHttpCacheTest {
+
+  @Test
+  @DisplayName("[Unit] A matching If-None-Match gets 304 without building the body")
+  void respond_ReturnsNotModifiedForCurrentVersion() {
+    // Given
+    CatalogSnapshot snapshot = CatalogSnapshot.build(List.of(KakaoTemplate.builder()
+        .templateId("t1").templateToken("token-t1").name("아메리카노").brand("brand")
+        .basePriceKrw(4500).joyCategory(GiftCategory.CAFE).updatedAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+        .build()), 40);
+    CatalogSnapshotStore store = mock(CatalogSnapshotStore.class);
+    when(store.current()).thenReturn(snapshot);
+    when(store.lastChangedAt()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
+    CatalogHttpCache cache = new CatalogHttpCache(store, 60, 300, 600, new SimpleMeterRegistry());
+
+    // When
+    ResponseEntity<String> first = cache.respond(get(null), () -> "body");
+    String etag = first.getHeaders().getETag();
+    ResponseEntity<String> second = cache.respond(get(etag), () -> {
+      throw new AssertionError("body must not be built for a 304");
+    });
+    ResponseEntity<String> stale = cache.respond(get("W/\"c0\""), () -> "body");
+
+    // Then
+    assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(etag).isEqualTo(CatalogHttpCache.etagOf(snapshot.version()));
+    assertThat(first.getHeaders().getCacheControl())
+        .isEqualTo("max-age=60, public, s-maxage=300, stale-while-revalidate=600");
+    assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(second.getBody()).isNull();
+    assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(cache.respond(get(null), () -> null).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  private static ServletWebRequest get(String ifNoneMatch) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/catalog/kakao/CAFE");
+    if (ifNoneMatch != null) request.addHeader("If-None-Match", ifNoneMatch);
+    return new ServletWebRequest(request, new MockHttpServletResponse());
+  }
+}
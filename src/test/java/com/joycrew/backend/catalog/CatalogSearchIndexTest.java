@@ -0,0 +1,83 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.enums.SortOption;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSearchIndexTest {
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+  private final List<KakaoTemplate> templates = List.of(
+      template("t1", "아이스 아메리카노 T", "스타벅스", GiftCategory.CAFE, 4700),
+      template("t2", "아메리카노", "이디야", GiftCategory.CAFE, 3200),
+      template("t3", "카페 아메리카노 세트", "투썸플레이스", GiftCategory.CAFE, 9000),
+      template("t4", "후라이드 치킨", "BHC", GiftCategory.CHICKEN_PIZZA_BURGER, 20000),
+      template("t5", "아메리칸 치즈버거", "버거킹", GiftCategory.CHICKEN_PIZZA_BURGER, 8000));
+
+  @Test
+  @DisplayName("[Unit] Name search ranks exact, prefix then substring matches")
+  void search_RanksByRelevance() {
+    // Given
+    CatalogSnapshot snapshot = CatalogSnapshot.build(templates, 40);
+
+    // When & Then
+    assertThat(ids(snapshot.search("아메리카노", null, SortOption.RELEVANCE))).containsExactly("t2", "t1", "t3");
+    assertThat(ids(snapshot.search("아메리카노", null, SortOption.PRICE_DESC))).containsExactly("t3", "t1", "t2");
+    assertThat(ids(snapshot.search("아메리 세트", null, SortOption.RELEVANCE))).containsExactly("t3");
+    assertThat(ids(snapshot.search("bhc", null, SortOption.RELEVANCE))).containsExactly("t4");
+    assertThat(ids(snapshot.search("아메리", GiftCategory.CHICKEN_PIZZA_BURGER, SortOption.RELEVANCE)))
+        .containsExactly("t5");
+    assertThat(snapshot.search("라떼", null, SortOption.RELEVANCE)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[Unit] Choseong and half-typed syllables match Korean names")
+  void search_MatchesChoseong() {
+    // Given
+    CatalogSnapshot snapshot = CatalogSnapshot.build(templates, 40);
+
+    // When & Then
+    assertThat(ids(snapshot.search("ㅇㅁㄹㅋㄴ", null, SortOption.RELEVANCE))).containsExactly("t2", "t1", "t3");
+    assertThat(ids(snapshot.search("아메ㄹㅋ", null, SortOption.RELEVANCE))).containsExactly("t2", "t5", "t1", "t3");
+    assertThat(ids(snapshot.search("ㅊㅋ", null, SortOption.RELEVANCE))).containsExactly("t4");
+    assertThat(ids(snapshot.search("ㅅㅌㅂㅅ", null, SortOption.RELEVANCE))).containsExactly("t1");
+  }
+
+  @Test
+  @DisplayName("[Unit] Rebuilding reuses the analysis of templates whose name and brand did not change")
+  void rebuild_ReusesUnchangedDocs() {
+    // Given
+    CatalogSnapshot first = CatalogSnapshot.build(templates, 40);
+    List<KakaoTemplate> changed = List.of(
+        templates.get(0), templates.get(1), templates.get(2), templates.get(3),
+        template("t5", "더블 치즈버거", "버거킹", GiftCategory.CHICKEN_PIZZA_BURGER, 9000));
+
+    // When
+    CatalogSnapshot second = CatalogSnapshot.build(changed, 40, Map.of(), first);
+
+    // Then
+    assertThat(second.reusedSearchDocs()).isEqualTo(4);
+    assertThat(ids(second.search("치즈", null, SortOption.RELEVANCE))).containsExactly("t5");
+    assertThat(ids(second.search("아메리칸", null, SortOption.RELEVANCE))).isEmpty();
+  }
+
+  private static List<String> ids(List<CatalogItem> items) {
+    return items.stream().map(CatalogItem::templateId).toList();
+  }
+
+  private static KakaoTemplate template(String id, String name, String brand, GiftCategory category, int price) {
+    return KakaoTemplate.builder()
+        .templateId(id).templateToken("token-" + id).name(name).brand(brand)
+        .basePriceKrw(price).joyCategory(category).updatedAt(T0)
+        .build();
+  }
+}
@@ -0,0 +1,102 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.enums.SortOption;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+  @Test
+  @DisplayName("[Unit] Lists are pre-sorted per category and sort option with a stable tie-break")
+  void build_PreSortsPerCategory() {
+    // Given
+    List<KakaoTemplate> templates = List.of(
+        template("t1", "아메리카노", GiftCategory.CAFE, 4500, T0),
+        template("t2", "라떼", GiftCategory.CAFE, 5000, T0.plusDays(1)),
+        template("t3", "치킨", GiftCategory.CHICKEN_PIZZA_BURGER, 20000, T0),
+        template("t0", "카푸치노", GiftCategory.CAFE, 4500, T0));
+
+    // When
+    CatalogSnapshot snapshot = CatalogSnapshot.build(templates, 40);
+
+    // Then
+    assertThat(ids(snapshot.list(GiftCategory.CAFE, SortOption.PRICE_ASC))).containsExactly("t0", "t1", "t2");
+    assertThat(ids(snapshot.list(GiftCategory.CAFE, SortOption.NEW))).containsExactly("t2", "t0", "t1");
+    assertThat(ids(snapshot.list(null, SortOption.PRICE_DESC))).containsExactly("t3", "t2", "t0", "t1");
+    assertThat(snapshot.list(GiftCategory.HOTEL_MEAL, SortOption.NEW)).isEmpty();
+    assertThat(snapshot.find("t1").detail().pointPrice()).isEqualTo(113);
+    assertThat(snapshot.lastUpdatedAt()).isEqualTo(T0.plusDays(1));
+    assertThat(snapshot.estimatedBytes()).isPositive();
+  }
+
+  @Test
+  @DisplayName("[Unit] Version depends on content only")
+  void version_FollowsContent() {
+    // Given
+    CatalogSnapshot first = CatalogSnapshot.build(List.of(
+        template("t1", "a", GiftCategory.CAFE, 1000, T0), template("t2", "b", GiftCategory.CAFE, 2000, T0)), 40);
+
+    // When
+    CatalogSnapshot reordered = CatalogSnapshot.build(List.of(
+        template("t2", "b", GiftCategory.CAFE, 2000, T0), template("t1", "a", GiftCategory.CAFE, 1000, T0)), 40);
+    CatalogSnapshot repriced = CatalogSnapshot.build(List.of(
+        template("t1", "a", GiftCategory.CAFE, 1500, T0.plusMinutes(1)), template("t2", "b", GiftCategory.CAFE, 2000, T0)), 40);
+
+    // Then
+    assertThat(reordered.version()).isEqualTo(first.version());
+    assertThat(repriced.version()).isNotEqualTo(first.version());
+  }
+
+  @Test
+  @DisplayName("[Unit] Version is the same on every JVM for the same content")
+  void version_IsStableAcrossJvms() {
+    // Given: 파드마다 같은 값이어야 ETag가 맞는다 (identity hashCode에 의존하면 실행마다 달라진다)
+    CatalogSnapshot snapshot = CatalogSnapshot.build(List.of(
+        template("t1", "아메리카노", GiftCategory.CAFE, 4500, T0),
+        template("t2", "치킨", GiftCategory.CHICKEN_PIZZA_BURGER, 20000, T0.plusDays(1))), 40, Map.of("t2", 1.5), null);
+
+    // When & Then
+    assertThat(snapshot.version()).isEqualTo(17367429532L);
+  }
+
+  @Test
+  @DisplayName("[Unit] Popular sort orders by popularity score and falls back to newest")
+  void build_SortsByPopularity() {
+    // Given
+    List<KakaoTemplate> templates = List.of(
+        template("t1", "아메리카노", GiftCategory.CAFE, 4500, T0),
+        template("t2", "라떼", GiftCategory.CAFE, 5000, T0.plusDays(1)),
+        template("t3", "치킨", GiftCategory.CHICKEN_PIZZA_BURGER, 20000, T0),
+        template("t4", "피자", GiftCategory.CHICKEN_PIZZA_BURGER, 25000, T0.plusDays(2)));
+    Map<String, Double> popularity = Map.of("t1", 3.0, "t3", 8.0);
+
+    // When
+    CatalogSnapshot snapshot = CatalogSnapshot.build(templates, 40, popularity, null);
+
+    // Then: 점수 순, 주문이 없는 상품은 최신순
+    assertThat(ids(snapshot.list(null, SortOption.POPULAR))).containsExactly("t3", "t1", "t4", "t2");
+    assertThat(ids(snapshot.list(GiftCategory.CAFE, SortOption.RELEVANCE))).containsExactly("t1", "t2");
+    assertThat(snapshot.version()).isNotEqualTo(CatalogSnapshot.build(templates, 40).version());
+  }
+
+  private static List<String> ids(List<CatalogItem> items) {
+    return items.stream().map(CatalogItem::templateId).toList();
+  }
+
+  private static KakaoTemplate template(String id, String name, GiftCategory category, int price, LocalDateTime at) {
+    return KakaoTemplate.builder()
+        .templateId(id).templateToken("token-" + id).name(name).brand("brand")
+        .basePriceKrw(price).joyCategory(category).updatedAt(at)
+        .build();
+  }
+}
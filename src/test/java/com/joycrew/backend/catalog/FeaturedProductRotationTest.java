@@ -0,0 +1,54 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FeaturedProductRotationTest {
+
+  @Test
+  @DisplayName("[Unit] Consecutive requests walk the rotation without repeats until it wraps")
+  void next_WalksRotation() {
+    // Given: 카페 6개, 치킨 2개
+    List<KakaoTemplate> templates = new ArrayList<>();
+    for (int i = 0; i < 6; i++) templates.add(template("cafe" + i, GiftCategory.CAFE));
+    for (int i = 0; i < 2; i++) templates.add(template("chicken" + i, GiftCategory.CHICKEN_PIZZA_BURGER));
+    CatalogSnapshotStore store = mock(CatalogSnapshotStore.class);
+    when(store.current()).thenReturn(CatalogSnapshot.build(templates, 40));
+    FeaturedProductRotation rotation = new FeaturedProductRotation(store, true);
+
+    // When
+    List<CatalogItem> first = rotation.next(4);
+    List<CatalogItem> second = rotation.next(4);
+    List<CatalogItem> wrapped = rotation.next(4);
+
+    // Then
+    Set<String> seen = new HashSet<>();
+    first.forEach(i -> seen.add(i.templateId()));
+    second.forEach(i -> seen.add(i.templateId()));
+    assertThat(seen).hasSize(8);
+    assertThat(wrapped).isEqualTo(first);
+    // 카테고리를 번갈아 배치하므로 앞쪽 4개에 두 카테고리가 모두 들어 있다
+    assertThat(first).extracting(CatalogItem::category)
+        .contains(GiftCategory.CAFE, GiftCategory.CHICKEN_PIZZA_BURGER);
+    assertThat(rotation.next(20)).hasSize(8);
+  }
+
+  private static KakaoTemplate template(String id, GiftCategory category) {
+    return KakaoTemplate.builder()
+        .templateId(id).templateToken("token-" + id).name(id).brand("brand")
+        .basePriceKrw(1000).joyCategory(category).updatedAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+        .build();
+  }
+}
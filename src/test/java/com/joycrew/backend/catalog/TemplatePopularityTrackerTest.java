@@ -0,0 +1,107 @@
+package com.joycrew.backend.catalog;
+
+import com.joycrew.backend.entity.kakao.TemplatePopularity;
+import com.joycrew.backend.repository.OrderRepository;
+import com.joycrew.backend.repository.TemplatePopularityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TemplatePopularityTrackerTest {
+
+  private final TemplatePopularityRepository popularityRepository = mock(TemplatePopularityRepository.class);
+  private final TemplatePopularityTracker tracker = tracker(168);
+
+  private TemplatePopularityTracker tracker(double halfLifeHours) {
+    return new TemplatePopularityTracker(popularityRepository, mock(OrderRepository.class),
+        mock(CatalogSnapshotStore.class), mock(PlatformTransactionManager.class), halfLifeHours, 30,
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("[Unit] An order one half-life older weighs half as much")
+  void weight_HalvesPerHalfLife() {
+    // Given
+    LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+    LocalDateTime epoch = tracker.epochAt(now);
+
+    // When
+    double recent = tracker.weight(now, epoch);
+    double weekOld = tracker.weight(now.minusHours(168), epoch);
+
+    // Then
+    assertThat(weekOld / recent).isCloseTo(0.5, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("[Unit] Flush inserts missing rows and keeps deltas for the next flush when the write fails")
+  void flush_RetriesFailedDeltas() {
+    // Given
+    LocalDateTime at = LocalDateTime.of(2025, 6, 1, 12, 0);
+    tracker.record("t1", at);
+    tracker.record("t1", at);
+    when(popularityRepository.addScore(eq("t1"), anyDouble(), any(), any()))
+        .thenThrow(new QueryTimeoutException("timeout"))
+        .thenReturn(0);
+
+    // When
+    tracker.flush(at);
+    tracker.flush(at);
+
+    // Then: 실패한 두 건의 가중치가 합쳐진 채로 다시 반영된다
+    double expected = 2 * tracker.weight(at, tracker.epochAt(at));
+    verify(popularityRepository, times(2)).addScore(eq("t1"),
+        doubleThat(d -> Math.abs(d - expected) < expected * 1e-12), eq(tracker.epochAt(at)), eq(at));
+    verify(popularityRepository).save(any(TemplatePopularity.class));
+  }
+
+  @Test
+  @DisplayName("[Unit] A short half-life far in the future keeps weights finite by moving the epoch forward")
+  void flush_FarFuture_RebasesInsteadOfOverflowing() {
+    // Given: 30분 반감기로 2100년 (고정 기준 시각이면 2^1,330,000 이상)
+    TemplatePopularityTracker shortHalfLife = tracker(0.5);
+    LocalDateTime now = LocalDateTime.of(2100, 1, 1, 0, 0);
+    LocalDateTime epoch = shortHalfLife.epochAt(now);
+    when(popularityRepository.findLatestEpoch()).thenReturn(TemplatePopularityTracker.EPOCH);
+    when(popularityRepository.findEpochsBefore(epoch)).thenReturn(List.of(TemplatePopularityTracker.EPOCH));
+    shortHalfLife.record("t1", now);
+    shortHalfLife.record("t1", now.minusMinutes(30));
+
+    // When
+    shortHalfLife.flush(now);
+
+    // Then: 이전 기준 점수는 유한한 비율(언더플로 시 0)로 환산되고, 새 가중치는 2^32 이하
+    verify(popularityRepository).rebase(eq(TemplatePopularityTracker.EPOCH), eq(epoch),
+        doubleThat(f -> f >= 0 && f < 1), eq(now));
+    verify(popularityRepository).addScore(eq("t1"),
+        doubleThat(d -> Double.isFinite(d) && d >= 1.5 && d <= 1.5 * Math.pow(2, TemplatePopularityTracker.ERA_HALF_LIVES)),
+        eq(epoch), eq(now));
+    assertThat(epoch).isAfter(now.minusHours(16)).isBeforeOrEqualTo(now);
+  }
+
+  @Test
+  @DisplayName("[Unit] A half-life that is not a positive finite duration is rejected at startup")
+  void constructor_RejectsInvalidHalfLife() {
+    assertThatThrownBy(() -> tracker(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> tracker(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> tracker(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> tracker(Double.POSITIVE_INFINITY)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
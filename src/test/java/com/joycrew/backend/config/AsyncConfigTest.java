@@ -0,0 +1,55 @@
+package com.joycrew.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+  @Test
+  @DisplayName("[Unit] A saturated caller-runs executor runs the task on the caller and counts the rejection")
+  void buildExecutor_Saturated_CallerRuns() throws Exception {
+    // Given
+    AsyncExecutorProperties properties = new AsyncExecutorProperties();
+    AsyncExecutorProperties.Pool pool = new AsyncExecutorProperties.Pool();
+    pool.setCoreSize(1);
+    pool.setMaxSize(1);
+    pool.setQueueCapacity(1);
+    properties.getExecutors().put("notifications", pool);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AsyncConfig config = new AsyncConfig(properties, meterRegistry, new MockEnvironment());
+
+    Executor executor = config.buildExecutor("notificationExecutor", "notifications", "Notify-");
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<String> overflowThread = new AtomicReference<>();
+
+    // When
+    executor.execute(() -> awaitQuietly(release)); // 실행 중
+    executor.execute(() -> awaitQuietly(release)); // 큐 대기
+    executor.execute(() -> overflowThread.set(Thread.currentThread().getName())); // 거절 → 호출 스레드
+    release.countDown();
+
+    // Then
+    assertThat(overflowThread.get()).isEqualTo(Thread.currentThread().getName());
+    assertThat(meterRegistry.get("executor.rejected").tag("name", "notificationExecutor").counter().count())
+        .isEqualTo(1.0);
+    ((ThreadPoolTaskExecutor) executor).shutdown();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.joycrew.backend.config;
+
+import com.joycrew.backend.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextPropagatingTaskDecoratorTest {
+
+  private final ContextPropagatingTaskDecorator decorator = new ContextPropagatingTaskDecorator();
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+    SecurityContextHolder.clearContext();
+    MDC.clear();
+  }
+
+  @Test
+  @DisplayName("[Unit] Tenant, authentication and MDC reach the worker thread and are cleared afterwards")
+  void decorate_PropagatesAndRestores() throws Exception {
+    // Given
+    Authentication auth = new TestingAuthenticationToken("user@joycrew.com", null);
+    TenantContext.set(7L);
+    SecurityContextHolder.getContext().setAuthentication(auth);
+    MDC.put("traceId", "abc");
+
+    AtomicReference<Long> tenantSeen = new AtomicReference<>();
+    AtomicReference<Authentication> authSeen = new AtomicReference<>();
+    AtomicReference<String> traceSeen = new AtomicReference<>();
+    Runnable task = decorator.decorate(() -> {
+      tenantSeen.set(TenantContext.get());
+      authSeen.set(SecurityContextHolder.getContext().getAuthentication());
+      traceSeen.set(MDC.get("traceId"));
+    });
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      // When
+      executor.submit(task).get();
+      AtomicReference<Long> tenantAfter = new AtomicReference<>(-1L);
+      executor.submit(() -> tenantAfter.set(TenantContext.get())).get();
+
+      // Then
+      assertThat(tenantSeen.get()).isEqualTo(7L);
+      assertThat(authSeen.get()).isSameAs(auth);
+      assertThat(traceSeen.get()).isEqualTo("abc");
+      assertThat(tenantAfter.get()).isNull();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.joycrew.backend.controller;
 
+import com.joycrew.backend.dto.TransactionHistoryPageResponse;
 import com.joycrew.backend.dto.TransactionHistoryResponse;
 import com.joycrew.backend.entity.enums.TransactionType;
 import com.joycrew.backend.security.EmployeeDetailsService;
@@ -44,13 +45,15 @@ class TransactionHistoryControllerTest {
                     .counterparty("Colleague Name").message("Thanks!")
                     .transactionDate(LocalDateTime.now()).build()
     );
-    when(transactionHistoryService.getTransactionHistory("user@joycrew.com")).thenReturn(mockHistory);
+    when(transactionHistoryService.getTransactionHistory("user@joycrew.com", null, null, 20))
+        .thenReturn(new TransactionHistoryPageResponse(mockHistory, "next", true));
 
     // When & Then
     mockMvc.perform(get("/api/transactions")
                     .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$[0].transactionId").value(1L))
-            .andExpect(jsonPath("$[0].counterparty").value("Colleague Name"));
+            .andExpect(jsonPath("$.content[0].transactionId").value(1L))
+            .andExpect(jsonPath("$.content[0].counterparty").value("Colleague Name"))
+            .andExpect(jsonPath("$.nextCursor").value("next"));
   }
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.joycrew.backend.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.enums.AdminLevel;
+import com.joycrew.backend.repository.IdempotencyRecordRepository;
+import com.joycrew.backend.security.UserPrincipal;
+import com.joycrew.backend.support.TestMetricsConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({IdempotencyStore.class, TestMetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyFilterTest {
+
+  @Autowired private IdempotencyStore store;
+  @Autowired private IdempotencyRecordRepository repository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private IdempotencyFilter filter;
+  private UserPrincipal principal;
+  private final AtomicInteger executions = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    filter = new IdempotencyFilter(store, new ObjectMapper().findAndRegisterModules(), Duration.ofSeconds(5),
+        new SimpleMeterRegistry());
+    Company company = Company.builder().companyId(7L).companyName("Idem Co").build();
+    principal = new UserPrincipal(Employee.builder().employeeId(1L).email("user@joycrew.com")
+        .employeeName("User").role(AdminLevel.EMPLOYEE).company(company).passwordHash("...").status("ACTIVE").build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    repository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("[Integration] A retried request replays the stored response without running the handler again")
+  void retry_ReplaysStoredResponse() throws Exception {
+    // When
+    MockHttpServletResponse first = send("key-1", "{\"points\":10}", created());
+    MockHttpServletResponse retry = send("key-1", "{\"points\":10}", created());
+
+    // Then
+    assertThat(executions).hasValue(1);
+    assertThat(retry.getStatus()).isEqualTo(202);
+    assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+    assertThat(retry.getHeader("Location")).isEqualTo("/jobs/1");
+    assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+
+    // 다른 파드(빈 캐시)도 DB 기록으로 같은 키를 알아본다
+    IdempotencyStore otherPod = new IdempotencyStore(repository, transactionManager, 24, 300, 100,
+        new SimpleMeterRegistry());
+    assertThat(otherPod.begin("7:1:key-1", "unused").decision()).isEqualTo(IdempotencyStore.Decision.MISMATCH);
+  }
+
+  @Test
+  @DisplayName("[Integration] Reusing a key with a different body is rejected")
+  void differentBody_Rejected() throws Exception {
+    // When
+    send("key-2", "{\"points\":10}", created());
+    MockHttpServletResponse reused = send("key-2", "{\"points\":99}", created());
+
+    // Then
+    assertThat(executions).hasValue(1);
+    assertThat(reused.getStatus()).isEqualTo(422);
+    assertThat(reused.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+  }
+
+  @Test
+  @DisplayName("[Integration] A server error releases the key so the retry runs again")
+  void serverError_ReleasesKey() throws Exception {
+    // When
+    send("key-3", "{}", (req, res) -> {
+      executions.incrementAndGet();
+      ((HttpServletResponse) res).setStatus(503);
+    });
+    MockHttpServletResponse retry = send("key-3", "{}", created());
+
+    // Then
+    assertThat(executions).hasValue(2);
+    assertThat(retry.getStatus()).isEqualTo(202);
+  }
+
+  @Test
+  @DisplayName("[Integration] Concurrent duplicates are coalesced into one execution")
+  void concurrentDuplicates_Coalesced() throws Exception {
+    // Given: 첫 요청이 처리 중인 동안 같은 키 요청이 들어온다
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    FilterChain slow = (req, res) -> {
+      entered.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      created().doFilter(req, res);
+    };
+
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      // When
+      Future<MockHttpServletResponse> leader = pool.submit(() -> send("key-4", "{}", slow));
+      assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<MockHttpServletResponse> duplicate = pool.submit(() -> send("key-4", "{}", created()));
+      Thread.sleep(100);
+      release.countDown();
+
+      // Then
+      assertThat(leader.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(202);
+      MockHttpServletResponse coalesced = duplicate.get(5, TimeUnit.SECONDS);
+      assertThat(coalesced.getStatus()).isEqualTo(202);
+      assertThat(coalesced.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+      assertThat(executions).hasValue(1);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("[Integration] A handler reading the body through a ReadListener receives the cached bytes")
+  void readListener_ReceivesCachedBody() throws Exception {
+    // Given
+    ByteArrayOutputStream received = new ByteArrayOutputStream();
+    AtomicInteger completed = new AtomicInteger();
+    FilterChain async = (req, res) -> {
+      ServletInputStream in = req.getInputStream();
+      in.setReadListener(new ReadListener() {
+        @Override public void onDataAvailable() throws IOException {
+          byte[] buffer = new byte[4];
+          int n;
+          while (in.isReady() && (n = in.read(buffer)) != -1) {
+            received.write(buffer, 0, n);
+          }
+        }
+        @Override public void onAllDataRead() {
+          completed.incrementAndGet();
+        }
+        @Override public void onError(Throwable t) {
+          throw new AssertionError(t);
+        }
+      });
+      created().doFilter(req, res);
+    };
+
+    // When
+    MockHttpServletResponse response = send("key-5", "{\"points\":10}", async);
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(202);
+    assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo("{\"points\":10}");
+    assertThat(completed).hasValue(1);
+  }
+
+  private FilterChain created() {
+    return (req, res) -> {
+      executions.incrementAndGet();
+      req.getInputStream().readAllBytes();
+      HttpServletResponse http = (HttpServletResponse) res;
+      http.setStatus(202);
+      http.setHeader("Location", "/jobs/1");
+      http.setContentType("application/json");
+      http.getOutputStream().write("{\"jobId\":1}".getBytes(StandardCharsets.UTF_8));
+    };
+  }
+
+  private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/admin/employees/points/distribute");
+    request.addHeader(IdempotencyFilter.HEADER, key);
+    request.setContentType("application/json");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+}
@@ -0,0 +1,93 @@
+package com.joycrew.backend.kakao;
+
+import com.joycrew.backend.config.KakaoGiftBizClientConfig;
+import com.joycrew.backend.dto.kakao.KakaoTemplateOrderRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoGiftBizClientTest {
+
+  private static final int MAX_PER_ROUTE = 4;
+
+  private KakaoGiftBizStubServer stub;
+  private PoolingHttpClientConnectionManager connectionManager;
+  private CloseableHttpClient httpClient;
+  private KakaoGiftBizClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    stub = new KakaoGiftBizStubServer(0);
+    KakaoGiftBizClientConfig config = new KakaoGiftBizClientConfig();
+    connectionManager = config.kakaoGiftBizConnectionManager(
+        2000, 20, MAX_PER_ROUTE, 300, 2000, new SimpleMeterRegistry());
+    httpClient = config.kakaoGiftBizHttpClient(connectionManager, 2000, 1000, 30);
+    client = new KakaoGiftBizClient(
+        config.kakaoGiftBizRestTemplate(new RestTemplateBuilder(), httpClient, stub.baseUrl()));
+    ReflectionTestUtils.setField(client, "apiKey", "test-key");
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    httpClient.close();
+    stub.close();
+  }
+
+  @Test
+  @DisplayName("[Unit] Sequential gift orders reuse one keep-alive connection")
+  void sendTemplateOrder_Sequential_ReusesConnection() {
+    // When
+    for (int i = 0; i < 20; i++) {
+      String body = client.sendTemplateOrder(order(i));
+      assertThat(body).contains("stub-trace");
+    }
+
+    // Then
+    assertThat(stub.connectionCount()).isEqualTo(1);
+    assertThat(stub.lastAuthorization()).isEqualTo("KakaoAK test-key");
+  }
+
+  @Test
+  @DisplayName("[Unit] Concurrent gift orders never open more than the per-route limit")
+  void sendTemplateOrder_Concurrent_BoundedByRouteLimit() throws Exception {
+    // Given
+    stub.setLatencyMs(50);
+    ExecutorService callers = Executors.newFixedThreadPool(12);
+    try {
+      // When
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 48; i++) {
+        int n = i;
+        results.add(callers.submit(() -> client.sendTemplateOrder(order(n))));
+      }
+      for (Future<String> result : results) {
+        assertThat(result.get()).contains("stub-trace");
+      }
+
+      // Then
+      assertThat(stub.connectionCount()).isLessThanOrEqualTo(MAX_PER_ROUTE);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  private static KakaoTemplateOrderRequest order(int n) {
+    return new KakaoTemplateOrderRequest("token", "PHONE", List.of(Map.of("receiver_id", "01000000000")),
+        null, null, null, "order-" + n, "ext-" + n);
+  }
+}
@@ -0,0 +1,82 @@
+package com.joycrew.backend.kakao;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Kakao GiftBiz 로컬 스텁 서버 (지연 시간 주입, 커넥션 재사용 관찰용).
+ * 요청마다 클라이언트 소켓 포트를 기록하므로 서로 다른 포트 수 = 새로 맺은 커넥션 수.
+ */
+public class KakaoGiftBizStubServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private volatile long latencyMs;
+  private volatile String lastAuthorization;
+
+  public KakaoGiftBizStubServer(long latencyMs) throws IOException {
+    this.latencyMs = latencyMs;
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(KakaoGiftBizClient.TEMPLATE_ORDER_PATH, this::handleOrder);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  public String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  public int connectionCount() {
+    return clientPorts.size();
+  }
+
+  public String lastAuthorization() {
+    return lastAuthorization;
+  }
+
+  public void setLatencyMs(long latencyMs) {
+    this.latencyMs = latencyMs;
+  }
+
+  private void handleOrder(HttpExchange exchange) throws IOException {
+    clientPorts.add(exchange.getRemoteAddress().getPort());
+    lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+    try (InputStream in = exchange.getRequestBody()) {
+      in.readAllBytes();
+    }
+    sleep(latencyMs);
+
+    byte[] body = "{\"reserve_trace_id\":\"stub-trace\"}".getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private static void sleep(long millis) {
+    if (millis <= 0) return;
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,83 @@
+package com.joycrew.backend.security;
+
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.enums.AdminLevel;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+  private JwtUtil jwtUtil;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = new JwtUtil("test-secret-key-that-is-long-enough-for-hs256", 3600000L, 16);
+  }
+
+  @Test
+  @DisplayName("[Unit] Access token carries everything needed to build the principal")
+  void generateToken_ClaimsRoundTrip() {
+    // Given
+    Company company = Company.builder().companyId(7L).build();
+    Employee employee = Employee.builder()
+        .employeeId(42L)
+        .company(company)
+        .email("admin@joycrew.com")
+        .role(AdminLevel.SUPER_ADMIN)
+        .tokenVersion(3)
+        .build();
+
+    // When
+    String token = jwtUtil.generateToken(employee);
+    UserPrincipal principal = jwtUtil.toPrincipal(jwtUtil.parseClaims(token));
+
+    // Then
+    assertThat(principal).isNotNull();
+    assertThat(principal.getEmployee()).isNull();
+    assertThat(principal.getEmployeeId()).isEqualTo(42L);
+    assertThat(principal.getCompanyId()).isEqualTo(7L);
+    assertThat(principal.getUsername()).isEqualTo("admin@joycrew.com");
+    assertThat(principal.getRole()).isEqualTo(AdminLevel.SUPER_ADMIN);
+    assertThat(principal.getTokenVersion()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("[Unit] Subject-only tokens are not turned into a claims principal")
+  void toPrincipal_LegacyToken_ReturnsNull() {
+    // Given
+    String token = jwtUtil.generateToken("user@joycrew.com");
+
+    // When & Then
+    assertThat(jwtUtil.getEmailFromToken(token)).isEqualTo("user@joycrew.com");
+    assertThat(jwtUtil.toPrincipal(jwtUtil.parseClaims(token))).isNull();
+  }
+
+  @Test
+  @DisplayName("[Unit] Repeated verification of the same token returns the cached claims")
+  void parseClaims_CachesVerifiedToken() {
+    // Given
+    String token = jwtUtil.generateToken("user@joycrew.com");
+
+    // When & Then
+    assertThat(jwtUtil.parseClaims(token)).isSameAs(jwtUtil.parseClaims(token));
+  }
+
+  @Test
+  @DisplayName("[Unit] A tampered token is rejected even after the original was cached")
+  void parseClaims_TamperedToken_Rejected() {
+    // Given
+    String token = jwtUtil.generateToken("user@joycrew.com");
+    jwtUtil.parseClaims(token);
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+    // When & Then
+    assertThatThrownBy(() -> jwtUtil.parseClaims(tampered))
+        .isInstanceOf(JwtException.class);
+  }
+}
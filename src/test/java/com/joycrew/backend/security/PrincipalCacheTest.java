@@ -0,0 +1,71 @@
+package com.joycrew.backend.security;
+
+import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.enums.AdminLevel;
+import com.joycrew.backend.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private PrincipalCache principalCache;
+  private AtomicInteger loads;
+  private Function<String, UserDetails> loader;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    principalCache = new PrincipalCache(100, 60, meterRegistry);
+    loads = new AtomicInteger();
+    loader = email -> {
+      loads.incrementAndGet();
+      return new UserPrincipal(Employee.builder()
+          .employeeId(1L)
+          .email(email)
+          .role(AdminLevel.EMPLOYEE)
+          .status("ACTIVE")
+          .passwordHash("hash")
+          .build());
+    };
+  }
+
+  @Test
+  @DisplayName("[Unit] Same token is served from cache after the first load")
+  void get_CachesPerEmailAndIssuedAt() {
+    // When
+    UserDetails first = principalCache.get("user@joycrew.com", 1000L, loader);
+    UserDetails second = principalCache.get("user@joycrew.com", 1000L, loader);
+    principalCache.get("user@joycrew.com", 2000L, loader);
+
+    // Then
+    assertThat(second).isSameAs(first);
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("[Unit] Employee change event evicts every cached token of that employee")
+  void onEmployeeChanged_InvalidatesAllEntriesForEmail() {
+    // Given
+    principalCache.get("user@joycrew.com", 1000L, loader);
+    principalCache.get("user@joycrew.com", 2000L, loader);
+    principalCache.get("other@joycrew.com", 1000L, loader);
+
+    // When
+    principalCache.onEmployeeChanged(new EmployeeChangedEvent(this, 1L, "user@joycrew.com"));
+    principalCache.get("user@joycrew.com", 1000L, loader);
+    principalCache.get("other@joycrew.com", 1000L, loader);
+
+    // Then
+    assertThat(loads.get()).isEqualTo(4);
+  }
+}
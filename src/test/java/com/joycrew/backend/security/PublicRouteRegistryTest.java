@@ -0,0 +1,45 @@
+package com.joycrew.backend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicRouteRegistryTest {
+
+  private final PublicRouteRegistry registry = new PublicRouteRegistry();
+
+  @Test
+  @DisplayName("[Unit] Exact and subtree patterns match like AntPathMatcher")
+  void isPublic_MatchesAntSemantics() {
+    // Given
+    AntPathMatcher ant = new AntPathMatcher();
+    List<String> paths = List.of(
+        "/", "/error", "/errors", "/actuator/health", "/actuator/health/liveness", "/actuator/prometheus",
+        "/h2-console", "/h2-console/login.do", "/h2-consoles",
+        "/api/auth/login", "/api/auth/login/x", "/api/auth/me",
+        "/swagger-ui.html", "/swagger-ui/index.html", "/api/kyc/phone/start",
+        "/api/wallets/point", "/api/catalog/kakao/templates", "");
+
+    // When & Then
+    for (String path : paths) {
+      boolean expected = registry.routes().stream()
+          .filter(route -> route.method() == null)
+          .anyMatch(route -> ant.match(route.pattern(), path));
+      assertThat(registry.isPublic("POST", path)).as(path).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  @DisplayName("[Unit] Method-scoped routes only bypass for that method")
+  void isPublic_MethodScopedRoute() {
+    // When & Then
+    assertThat(registry.isPublic("GET", "/api/catalog/kakao/templates")).isTrue();
+    assertThat(registry.isPublic("GET", "/api/catalog")).isTrue();
+    assertThat(registry.isPublic("POST", "/api/catalog/kakao/templates")).isFalse();
+    assertThat(registry.isPublic("GET", "/api/catalogue")).isFalse();
+  }
+}
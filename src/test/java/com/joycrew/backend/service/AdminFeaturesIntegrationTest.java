@@ -12,6 +12,9 @@ import com.joycrew.backend.repository.CompanyRepository;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.repository.RewardPointTransactionRepository;
 import com.joycrew.backend.repository.WalletRepository;
+import com.joycrew.backend.tenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,11 +32,13 @@ class AdminFeaturesIntegrationTest {
 
   @Autowired private EmployeeManagementService managementService;
   @Autowired private AdminPointService pointService;
+  @Autowired private PointDistributionJobWorker distributionJobWorker;
 
   @Autowired private EmployeeRepository employeeRepository;
   @Autowired private WalletRepository walletRepository;
   @Autowired private CompanyRepository companyRepository;
   @Autowired private RewardPointTransactionRepository transactionRepository;
+  @Autowired private EntityManager entityManager;
 
   private Employee admin, employee1, employee2;
   private Company company;
@@ -44,11 +49,18 @@ class AdminFeaturesIntegrationTest {
         .companyName("Integration Test Company")
         .totalCompanyBalance(10000.0)
         .build());
+    company.registerBillingKeyAndEnableAutoRenew("billing-key", "customer-key");
+    TenantContext.set(company.getCompanyId());
     admin = createAndSaveEmployee("admin@test.com", "Admin", AdminLevel.SUPER_ADMIN, 0);
     employee1 = createAndSaveEmployee("emp1@test.com", "Employee1", AdminLevel.EMPLOYEE, 100);
     employee2 = createAndSaveEmployee("emp2@test.com", "Employee2", AdminLevel.EMPLOYEE, 200);
   }
 
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
   private Employee createAndSaveEmployee(String email, String name, AdminLevel level, int initialPoints) {
     Employee emp = Employee.builder().email(email).employeeName(name).role(level).company(company).passwordHash("...").status("ACTIVE").build();
     employeeRepository.save(emp);
@@ -75,8 +87,11 @@ class AdminFeaturesIntegrationTest {
         TransactionType.AWARD_MANAGER_SPOT
     );
 
-    // When
-    pointService.distributePoints(request, admin);
+    // When: 등록 후 워커가 처리 (테스트 트랜잭션 안이라 커밋 후 이벤트 대신 직접 실행)
+    var job = pointService.enqueueDistribution(request, admin.getEmployeeId());
+    distributionJobWorker.run(job.jobId());
+    entityManager.flush();
+    entityManager.clear();
 
     // Then
     Wallet wallet1 = walletRepository.findByEmployee_EmployeeId(employee1.getEmployeeId()).get();
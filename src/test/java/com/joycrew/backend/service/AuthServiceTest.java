@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -42,6 +43,7 @@ class AuthServiceTest {
   @Mock private EmployeeRepository employeeRepository;
   @Mock private PasswordEncoder passwordEncoder;
   @Mock private EmailService emailService;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks
   private AuthService authService;
@@ -80,7 +82,7 @@ class AuthServiceTest {
     when(mockWallet.getBalance()).thenReturn(1000);
     when(walletRepository.findByEmployee_EmployeeId(anyLong())).thenReturn(Optional.of(mockWallet));
 
-    when(jwtUtil.generateToken(anyString())).thenReturn(testToken);
+    when(jwtUtil.generateToken(any(Employee.class))).thenReturn(testToken);
 
     // When
     LoginResponse response = authService.login(testLoginRequest);
@@ -95,7 +97,7 @@ class AuthServiceTest {
     assertThat(response.profileImageUrl()).isEqualTo(testEmployee.getProfileImageUrl());
 
     verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-    verify(jwtUtil).generateToken(testEmployee.getEmail());
+    verify(jwtUtil).generateToken(testEmployee);
   }
 
   @Test
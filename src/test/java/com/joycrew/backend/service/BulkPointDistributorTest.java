@@ -0,0 +1,102 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.dto.PointDistributionDetail;
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.RewardPointTransaction;
+import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.exception.InsufficientPointsException;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.repository.WalletRepository;
+import com.joycrew.backend.support.PointTestFixtures;
+import com.joycrew.backend.support.TestMetricsConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({WalletLedgerService.class, BulkPointDistributor.class, PointStatisticsRecorder.class,
+    PointTestFixtures.class, TestMetricsConfig.class})
+class BulkPointDistributorTest {
+
+  @Autowired private BulkPointDistributor bulkPointDistributor;
+  @Autowired private WalletRepository walletRepository;
+  @Autowired private PointTestFixtures fixtures;
+  @Autowired private CompanyRepository companyRepository;
+  @Autowired private RewardPointTransactionRepository transactionRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private MeterRegistry meterRegistry;
+
+  private Long adminId;
+  private final List<Long> employeeIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    Company company = companyRepository.save(Company.builder().companyName("Bulk Co").build());
+    adminId = fixtures.employee(company, "admin@test.com").getEmployeeId();
+    for (int i = 0; i < 5; i++) {
+      employeeIds.add(fixtures.employeeWithWallet(company, "bulk" + i + "@test.com", 10).getEmployeeId());
+    }
+  }
+
+  @Test
+  @DisplayName("[Integration] A chunk updates wallets grouped by amount with one transaction row per recipient")
+  void applyChunk_UpdatesWalletsAndRecordsTransactions() {
+    // Given
+    List<PointDistributionDetail> details = List.of(
+        new PointDistributionDetail(employeeIds.get(0), 100),
+        new PointDistributionDetail(employeeIds.get(1), 100),
+        new PointDistributionDetail(employeeIds.get(2), 50),
+        new PointDistributionDetail(employeeIds.get(3), 100),
+        new PointDistributionDetail(employeeIds.get(4), -5));
+
+    // When
+    bulkPointDistributor.applyChunk(adminId, details, "Monthly");
+
+    // Then
+    entityManager.clear();
+    assertThat(meterRegistry.get("points.distribution.chunk").timer().count()).isEqualTo(1);
+    assertThat(balances()).containsExactly(110, 110, 60, 110, 5);
+    assertThat(walletRepository.findByEmployee_EmployeeId(employeeIds.get(4)).orElseThrow().getGiftablePoint())
+        .isEqualTo(5);
+
+    List<RewardPointTransaction> transactions = transactionRepository.findAll();
+    assertThat(transactions).hasSize(5);
+    assertThat(transactions).allSatisfy(tx -> {
+      assertThat(tx.getSender().getEmployeeId()).isEqualTo(adminId);
+      assertThat(tx.getType()).isEqualTo(TransactionType.AWARD_MANAGER_SPOT);
+      assertThat(tx.getMessage()).isEqualTo("Monthly");
+    });
+  }
+
+  @Test
+  @DisplayName("[Integration] Revoking more than a wallet holds fails the whole chunk")
+  void applyChunk_RevokeInsufficient_Throws() {
+    // Given
+    List<PointDistributionDetail> details = List.of(
+        new PointDistributionDetail(employeeIds.get(0), -5),
+        new PointDistributionDetail(employeeIds.get(1), -50));
+
+    // When & Then
+    assertThatThrownBy(() -> bulkPointDistributor.applyChunk(adminId, details, "Revoke"))
+        .isInstanceOf(InsufficientPointsException.class)
+        .hasMessage("Insufficient balance to revoke points.");
+  }
+
+  private List<Integer> balances() {
+    return employeeIds.stream()
+        .map(id -> walletRepository.findByEmployee_EmployeeId(id).orElseThrow().getBalance())
+        .toList();
+  }
+}
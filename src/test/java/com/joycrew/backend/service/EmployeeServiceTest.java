@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -32,6 +33,7 @@ class EmployeeServiceTest {
   @Mock private WalletRepository walletRepository;
   @Mock private PasswordEncoder passwordEncoder;
   @Mock private EmployeeMapper employeeMapper;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks
   private EmployeeService employeeService;
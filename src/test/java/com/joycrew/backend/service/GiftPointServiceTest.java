@@ -1,23 +1,29 @@
 package com.joycrew.backend.service;
 
 import com.joycrew.backend.dto.GiftPointRequest;
-import com.joycrew.backend.entity.Employee;
-import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.entity.RewardPointTransaction;
+import com.joycrew.backend.entity.enums.Tag;
 import com.joycrew.backend.exception.InsufficientPointsException;
+import com.joycrew.backend.exception.SelfGiftNotAllowedException;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.repository.RewardPointTransactionRepository;
-import com.joycrew.backend.repository.WalletRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,41 +34,33 @@ import static org.mockito.Mockito.*;
 class GiftPointServiceTest {
 
   @Mock private EmployeeRepository employeeRepository;
-  @Mock private WalletRepository walletRepository;
+  @Mock private WalletLedgerService walletLedgerService;
   @Mock private RewardPointTransactionRepository transactionRepository;
   @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private WalletLockRetry walletLockRetry;
+  @Mock private PointStatisticsRecorder statisticsRecorder;
   @InjectMocks private GiftPointService giftPointService;
 
-  private Employee sender, receiver;
-  private Wallet senderWallet, receiverWallet;
-
   @BeforeEach
   void setUp() {
-    sender = Employee.builder().employeeId(1L).build();
-    receiver = Employee.builder().employeeId(2L).build();
-    senderWallet = new Wallet(sender);
-    receiverWallet = new Wallet(receiver);
+    lenient().when(walletLockRetry.execute(any())).thenAnswer(inv -> inv.<Supplier<?>>getArgument(0).get());
   }
 
   @Test
   @DisplayName("[Unit] Gift points successfully")
   void giftPoints_Success() {
     // Given
-    senderWallet.addPoints(100);
     GiftPointRequest request = new GiftPointRequest(2L, 50, "Thanks!", List.of());
-    when(employeeRepository.findByEmail("sender@test.com")).thenReturn(Optional.of(sender));
-    when(employeeRepository.findById(2L)).thenReturn(Optional.of(receiver));
-    when(walletRepository.findByEmployee_EmployeeId(1L)).thenReturn(Optional.of(senderWallet));
-    when(walletRepository.findByEmployee_EmployeeId(2L)).thenReturn(Optional.of(receiverWallet));
+    when(employeeRepository.findIdByEmail("sender@test.com")).thenReturn(Optional.of(1L));
+    when(employeeRepository.existsById(2L)).thenReturn(true);
 
     // When
     giftPointService.giftPointsToColleague("sender@test.com", request);
 
     // Then
+    verify(walletLedgerService).transferGiftPoints(1L, 2L, 50);
     verify(transactionRepository, times(1)).save(any());
     verify(eventPublisher, times(1)).publishEvent(any());
-    assertThat(senderWallet.getBalance()).isEqualTo(50);
-    assertThat(receiverWallet.getBalance()).isEqualTo(50);
   }
 
   @Test
@@ -70,13 +68,64 @@ class GiftPointServiceTest {
   void giftPoints_Failure_InsufficientPoints() {
     // Given
     GiftPointRequest request = new GiftPointRequest(2L, 50, "Thanks!", List.of());
-    when(employeeRepository.findByEmail("sender@test.com")).thenReturn(Optional.of(sender));
-    when(employeeRepository.findById(2L)).thenReturn(Optional.of(receiver));
-    when(walletRepository.findByEmployee_EmployeeId(1L)).thenReturn(Optional.of(senderWallet));
-    when(walletRepository.findByEmployee_EmployeeId(2L)).thenReturn(Optional.of(receiverWallet));
+    when(employeeRepository.findIdByEmail("sender@test.com")).thenReturn(Optional.of(1L));
+    when(employeeRepository.existsById(2L)).thenReturn(true);
+    doThrow(new InsufficientPointsException("Insufficient giftable points."))
+        .when(walletLedgerService).transferGiftPoints(1L, 2L, 50);
 
     // When & Then
     assertThatThrownBy(() -> giftPointService.giftPointsToColleague("sender@test.com", request))
         .isInstanceOf(InsufficientPointsException.class);
+    verify(transactionRepository, never()).save(any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  @DisplayName("[Unit] Gift points failure - Sender and receiver are the same employee")
+  void giftPoints_Failure_SelfGift() {
+    // Given
+    GiftPointRequest request = new GiftPointRequest(1L, 50, "Me!", List.of());
+    when(employeeRepository.findIdByEmail("sender@test.com")).thenReturn(Optional.of(1L));
+
+    // When & Then
+    assertThatThrownBy(() -> giftPointService.giftPointsToColleague("sender@test.com", request))
+        .isInstanceOf(SelfGiftNotAllowedException.class);
+    verify(walletLedgerService, never()).transferGiftPoints(any(), any(), anyInt());
+    verify(transactionRepository, never()).save(any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  @DisplayName("[Unit] Gift request validation - Null and duplicate tags are rejected")
+  void giftRequest_Validation_RejectsNullAndDuplicateTags() {
+    // Given
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    GiftPointRequest withNull = new GiftPointRequest(2L, 50, "Thanks!", Arrays.asList(Tag.TEAMWORK, null));
+    GiftPointRequest withDuplicate = new GiftPointRequest(2L, 50, "Thanks!", List.of(Tag.TEAMWORK, Tag.TEAMWORK));
+    GiftPointRequest valid = new GiftPointRequest(2L, 50, "Thanks!", List.of(Tag.TEAMWORK, Tag.INNOVATION));
+
+    // When & Then
+    assertThat(validator.validate(withNull)).extracting(ConstraintViolation::getMessage)
+        .containsExactly("Tags cannot contain null.");
+    assertThat(validator.validate(withDuplicate)).extracting(ConstraintViolation::getMessage)
+        .containsExactly("Tags cannot contain duplicates.");
+    assertThat(validator.validate(valid)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[Unit] Gift points - A null tag is skipped instead of failing the gift")
+  void giftPoints_NullTag_Skipped() {
+    // Given
+    GiftPointRequest request = new GiftPointRequest(2L, 50, "Thanks!", Arrays.asList(Tag.TEAMWORK, null));
+    when(employeeRepository.findIdByEmail("sender@test.com")).thenReturn(Optional.of(1L));
+    when(employeeRepository.existsById(2L)).thenReturn(true);
+
+    // When
+    giftPointService.giftPointsToColleague("sender@test.com", request);
+
+    // Then
+    ArgumentCaptor<RewardPointTransaction> saved = ArgumentCaptor.forClass(RewardPointTransaction.class);
+    verify(transactionRepository).save(saved.capture());
+    assertThat(saved.getValue().getTags()).containsExactly(Tag.TEAMWORK);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.dto.CreateOrderRequest;
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.Order;
+import com.joycrew.backend.entity.enums.GiftCategory;
+import com.joycrew.backend.entity.enums.OrderStatus;
+import com.joycrew.backend.entity.kakao.KakaoTemplate;
+import com.joycrew.backend.kakao.KakaoGiftBizClient;
+import com.joycrew.backend.repository.EmployeeRepository;
+import com.joycrew.backend.repository.KakaoTemplateRepository;
+import com.joycrew.backend.repository.OrderRepository;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GiftPurchaseServiceTest {
+
+  private final KakaoGiftBizClient kakao = mock(KakaoGiftBizClient.class);
+  private final WalletLedgerService walletLedgerService = mock(WalletLedgerService.class);
+  private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+  private final OrderRepository orderRepository = mock(OrderRepository.class);
+  private final KakaoTemplateRepository templateRepository = mock(KakaoTemplateRepository.class);
+  private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+  private final GiftPurchaseService service = new GiftPurchaseService(kakao, walletLedgerService, employeeRepository,
+      orderRepository, mock(RewardPointTransactionRepository.class), mock(PointStatisticsRecorder.class),
+      templateRepository, mock(ApplicationEventPublisher.class), new TransactionTemplate(transactionManager));
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(service, "krwPerPoint", 40);
+    TenantContext.set(1L);
+
+    Company company = Company.builder().companyId(1L).build();
+    company.registerBillingKeyAndEnableAutoRenew("billing-key", "customer-key");
+    Employee employee = Employee.builder().employeeId(7L).company(company).phoneNumber("010-1234-5678").build();
+    when(employeeRepository.findByCompanyCompanyIdAndEmployeeIdWithCompany(1L, 7L)).thenReturn(Optional.of(employee));
+    when(templateRepository.findById("t1")).thenReturn(Optional.of(KakaoTemplate.builder()
+        .templateId("t1").templateToken("token-t1").name("아메리카노").brand("brand")
+        .basePriceKrw(4000).joyCategory(GiftCategory.CAFE).updatedAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+        .build()));
+    when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  @DisplayName("[Unit] The point debit commits before the Kakao call so the wallet row is not locked during it")
+  void purchase_CommitsDebitBeforeKakaoCall() {
+    // When
+    var response = service.purchaseWithPoints(7L, new CreateOrderRequest("t1", 1));
+
+    // Then: [선차감 커밋] → Kakao 호출 → [확정 커밋]
+    InOrder inOrder = inOrder(walletLedgerService, transactionManager, kakao);
+    inOrder.verify(walletLedgerService).purchaseWithPoints(eq(7L), eq(100), any());
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(kakao).sendTemplateOrder(any());
+    inOrder.verify(transactionManager).commit(any());
+    assertThat(response).isNotNull();
+  }
+
+  @Test
+  @DisplayName("[Unit] A failed Kakao call marks the order FAILED and refunds in separate transactions")
+  void purchase_RefundsWhenKakaoFails() {
+    // Given
+    when(kakao.sendTemplateOrder(any())).thenThrow(new IllegalStateException("kakao down"));
+
+    // When & Then
+    assertThatThrownBy(() -> service.purchaseWithPoints(7L, new CreateOrderRequest("t1", 1)))
+        .hasMessage("kakao down");
+    verify(walletLedgerService).refundPoints(eq(7L), eq(100), any());
+    verify(orderRepository, atLeastOnce()).save(argThat(o -> o.getStatus() == OrderStatus.FAILED));
+    verify(transactionManager, times(3)).commit(any());
+  }
+}
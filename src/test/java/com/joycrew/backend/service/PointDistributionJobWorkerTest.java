@@ -0,0 +1,183 @@
+package com.joycrew.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joycrew.backend.dto.PointDistributionDetail;
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.PointDistributionJob;
+import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.entity.enums.DistributionJobStatus;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.EmployeeMonthlyPointStatsRepository;
+import com.joycrew.backend.repository.EmployeePointStatsRepository;
+import com.joycrew.backend.repository.EmployeeRepository;
+import com.joycrew.backend.repository.PointDistributionJobRepository;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.repository.WalletRepository;
+import com.joycrew.backend.support.PointTestFixtures;
+import com.joycrew.backend.support.TestMetricsConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "points.distribution.chunk-size=2")
+@Import({WalletLedgerService.class, WalletLockRetry.class, BulkPointDistributor.class, PointStatisticsRecorder.class,
+    PointDistributionJobWorker.class, PointTestFixtures.class, TestMetricsConfig.class,
+    PointDistributionJobWorkerTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointDistributionJobWorkerTest {
+
+  @TestConfiguration
+  static class Beans {
+    @Bean
+    ObjectMapper objectMapper() {
+      return new ObjectMapper();
+    }
+  }
+
+  @Autowired private PointDistributionJobWorker worker;
+  @Autowired private PointDistributionJobRepository jobRepository;
+  @Autowired private WalletRepository walletRepository;
+  @Autowired private EmployeeRepository employeeRepository;
+  @Autowired private CompanyRepository companyRepository;
+  @Autowired private RewardPointTransactionRepository transactionRepository;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private EmployeePointStatsRepository statsRepository;
+  @Autowired private EmployeeMonthlyPointStatsRepository monthlyStatsRepository;
+  @Autowired private PointTestFixtures fixtures;
+
+  private Company company;
+  private Long adminId;
+  private final List<Long> employeeIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    // 등록 시 예산 500을 이미 차감한 상태
+    company = companyRepository.save(Company.builder().companyName("Job Co").totalCompanyBalance(500.0).build());
+    adminId = fixtures.employee(company, "admin@test.com").getEmployeeId();
+    for (int i = 0; i < 5; i++) {
+      employeeIds.add(fixtures.employeeWithWallet(company, "job" + i + "@test.com", 10).getEmployeeId());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    jobRepository.deleteAllInBatch();
+    statsRepository.deleteAllInBatch();
+    monthlyStatsRepository.deleteAllInBatch();
+    transactionRepository.deleteAllInBatch();
+    walletRepository.deleteAllInBatch();
+    employeeRepository.deleteAllInBatch();
+    companyRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("[Integration] A queued job is processed in committed chunks until completed")
+  void run_QueuedJob_Completes() throws Exception {
+    // Given
+    Long jobId = saveJob(grantAll(100), DistributionJobStatus.QUEUED, 0, null);
+
+    // When
+    worker.run(jobId);
+
+    // Then
+    PointDistributionJob job = jobRepository.findById(jobId).orElseThrow();
+    assertThat(job.getStatus()).isEqualTo(DistributionJobStatus.COMPLETED);
+    assertThat(job.getProcessedCount()).isEqualTo(5);
+    assertThat(balances()).containsOnly(110);
+    assertThat(transactionRepository.count()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("[Integration] A stalled job resumes after its last committed chunk without paying twice")
+  void run_StalledJob_ResumesFromCheckpoint() throws Exception {
+    // Given: 첫 청크(2명)를 커밋한 뒤 워커가 멈춘 상태
+    List<PointDistributionDetail> items = grantAll(100);
+    Long jobId = saveJob(items, DistributionJobStatus.RUNNING, 2, LocalDateTime.now().minusHours(1));
+    for (Long id : employeeIds.subList(0, 2)) {
+      Wallet wallet = walletRepository.findByEmployee_EmployeeId(id).orElseThrow();
+      wallet.addPoints(100);
+      walletRepository.save(wallet);
+    }
+
+    // When
+    worker.resumePending();
+
+    // Then
+    assertThat(jobRepository.findById(jobId).orElseThrow().getStatus()).isEqualTo(DistributionJobStatus.COMPLETED);
+    assertThat(balances()).containsOnly(110);
+    assertThat(transactionRepository.count()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("[Integration] A running job with a fresh heartbeat is not taken over")
+  void run_ActiveJob_NotClaimed() throws Exception {
+    // Given
+    Long jobId = saveJob(grantAll(100), DistributionJobStatus.RUNNING, 2, LocalDateTime.now());
+
+    // When
+    worker.run(jobId);
+
+    // Then
+    assertThat(jobRepository.findById(jobId).orElseThrow().getProcessedCount()).isEqualTo(2);
+    assertThat(transactionRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("[Integration] A failing chunk marks the job failed and returns the unprocessed budget")
+  void run_FailingChunk_RefundsRemainingBudget() throws Exception {
+    // Given: 세 번째 청크에 지갑이 없는 직원이 섞여 있음
+    List<PointDistributionDetail> items = new ArrayList<>(grantAll(100));
+    items.add(new PointDistributionDetail(fixtures.employee(company, "nowallet@test.com").getEmployeeId(), 100));
+    Long jobId = saveJob(items, DistributionJobStatus.QUEUED, 0, null);
+
+    // When
+    worker.run(jobId);
+
+    // Then
+    PointDistributionJob job = jobRepository.findById(jobId).orElseThrow();
+    assertThat(job.getStatus()).isEqualTo(DistributionJobStatus.FAILED);
+    assertThat(job.getProcessedCount()).isEqualTo(4);
+    assertThat(job.getFailMessage()).contains("Wallet not found");
+    assertThat(companyRepository.findById(company.getCompanyId()).orElseThrow().getTotalCompanyBalance())
+        .isEqualTo(700.0);
+  }
+
+  private List<PointDistributionDetail> grantAll(int points) {
+    return employeeIds.stream().map(id -> new PointDistributionDetail(id, points)).toList();
+  }
+
+  private Long saveJob(List<PointDistributionDetail> items, DistributionJobStatus status, int processed,
+                       LocalDateTime heartbeatAt) throws Exception {
+    return jobRepository.save(PointDistributionJob.builder()
+        .company(company)
+        .adminId(adminId)
+        .message("Monthly")
+        .payload(objectMapper.writeValueAsString(items))
+        .status(status)
+        .totalCount(items.size())
+        .processedCount(processed)
+        .netPoints(items.stream().mapToInt(PointDistributionDetail::points).sum())
+        .heartbeatAt(heartbeatAt)
+        .build()).getId();
+  }
+
+  private List<Integer> balances() {
+    return employeeIds.stream()
+        .map(id -> walletRepository.findByEmployee_EmployeeId(id).orElseThrow().getBalance())
+        .toList();
+  }
+}
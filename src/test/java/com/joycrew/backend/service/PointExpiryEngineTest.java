@@ -0,0 +1,129 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.PointExpiryRun;
+import com.joycrew.backend.entity.RewardPointTransaction;
+import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.entity.enums.ExpiryRunStatus;
+import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.PointExpiryRunRepository;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.repository.WalletRepository;
+import com.joycrew.backend.support.PointTestFixtures;
+import com.joycrew.backend.support.TestMetricsConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "points.expiry.batch-size=1")
+@Import({PointExpiryEngine.class, WalletLedgerService.class, PointStatisticsRecorder.class, WalletLockRetry.class,
+    PointLedgerAuditService.class, PointTestFixtures.class, TestMetricsConfig.class})
+class PointExpiryEngineTest {
+
+  @Autowired private PointExpiryEngine expiryEngine;
+  @Autowired private WalletLedgerService walletLedgerService;
+  @Autowired private PointLedgerAuditService auditService;
+  @Autowired private PointExpiryRunRepository runRepository;
+  @Autowired private RewardPointTransactionRepository transactionRepository;
+  @Autowired private WalletRepository walletRepository;
+  @Autowired private PointTestFixtures fixtures;
+  @Autowired private CompanyRepository companyRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  private Company company;
+  private Long aliceId, bobId;
+
+  @BeforeEach
+  void setUp() {
+    company = companyRepository.save(Company.builder().companyName("Expiry Co").pointValidityDays(30).build());
+    aliceId = fixtures.employeeWithWallet(company, "alice@test.com", 0).getEmployeeId();
+    bobId = fixtures.employeeWithWallet(company, "bob@test.com", 0).getEmployeeId();
+  }
+
+  @Test
+  @DisplayName("[Integration] Grants older than the validity period expire first-in first-out")
+  void expire_FifoAgainstSpending() {
+    // Given: alice는 오래된 100 중 30을 썼고, bob은 오래된 40을 넘게 썼다
+    walletLedgerService.addPoints(aliceId, 100);
+    walletLedgerService.addPoints(bobId, 40);
+    backdateLedger(60);
+    walletLedgerService.addPoints(aliceId, 50);
+    walletLedgerService.purchaseWithPoints(aliceId, 30, "order-1");
+    walletLedgerService.addPoints(bobId, 40);
+    walletLedgerService.purchaseWithPoints(bobId, 60, "order-2");
+    entityManager.flush();
+
+    // When
+    expiryEngine.expireAll();
+    entityManager.clear();
+
+    // Then
+    Wallet alice = walletRepository.findByEmployee_EmployeeId(aliceId).orElseThrow();
+    assertThat(alice.getBalance()).isEqualTo(50);
+    assertThat(alice.getGiftablePoint()).isEqualTo(50);
+    assertThat(walletRepository.findByEmployee_EmployeeId(bobId).orElseThrow().getBalance()).isEqualTo(20);
+
+    List<RewardPointTransaction> expired = transactionRepository.findAll().stream()
+        .filter(tx -> tx.getType() == TransactionType.EXPIRE_POINTS)
+        .toList();
+    assertThat(expired).singleElement().satisfies(tx -> {
+      assertThat(tx.getSender().getEmployeeId()).isEqualTo(aliceId);
+      assertThat(tx.getReceiver()).isNull();
+      assertThat(tx.getPointAmount()).isEqualTo(70);
+    });
+
+    PointExpiryRun run = runRepository.findByCompanyIdAndRunDate(company.getCompanyId(), LocalDate.now()).orElseThrow();
+    assertThat(run.getStatus()).isEqualTo(ExpiryRunStatus.COMPLETED);
+    assertThat(run.getExpiredPoints()).isEqualTo(70);
+    assertThat(auditService.reconcile().mismatched()).isZero();
+
+    // When & Then: 다음 날 다시 돌려도 이미 만료한 포인트는 다시 만료되지 않는다
+    expiryEngine.expireCompany(company.getCompanyId(), LocalDate.now().plusDays(1), 30);
+    entityManager.clear();
+    assertThat(walletRepository.findByEmployee_EmployeeId(aliceId).orElseThrow().getBalance()).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("[Integration] An interrupted run resumes after its last committed wallet")
+  void expire_ResumesFromCheckpoint() {
+    // Given: 첫 지갑까지 커밋된 채 멈춘 오늘의 실행
+    walletLedgerService.addPoints(aliceId, 10);
+    walletLedgerService.addPoints(bobId, 10);
+    backdateLedger(60);
+    entityManager.flush();
+    Long aliceWalletId = walletRepository.findByEmployee_EmployeeId(aliceId).orElseThrow().getWalletId();
+    runRepository.saveAndFlush(PointExpiryRun.builder()
+        .companyId(company.getCompanyId()).runDate(LocalDate.now())
+        .cutoff(LocalDate.now().minusDays(30).atStartOfDay())
+        .lastWalletId(aliceWalletId).build());
+
+    // When
+    expiryEngine.expireAll();
+    entityManager.clear();
+
+    // Then
+    assertThat(walletRepository.findByEmployee_EmployeeId(aliceId).orElseThrow().getBalance()).isEqualTo(10);
+    assertThat(walletRepository.findByEmployee_EmployeeId(bobId).orElseThrow().getBalance()).isZero();
+    PointExpiryRun run = runRepository.findByCompanyIdAndRunDate(company.getCompanyId(), LocalDate.now()).orElseThrow();
+    assertThat(run.getExpiredWallets()).isEqualTo(1);
+    assertThat(run.isCompleted()).isTrue();
+  }
+
+  private void backdateLedger(int days) {
+    entityManager.flush();
+    jdbcTemplate.update("update point_ledger_entry set created_at = ?", LocalDateTime.now().minusDays(days));
+  }
+}
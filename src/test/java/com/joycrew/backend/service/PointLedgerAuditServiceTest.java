@@ -0,0 +1,82 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.PointLedgerJdbcRepository.WalletLedgerState;
+import com.joycrew.backend.repository.WalletBalanceSnapshotRepository;
+import com.joycrew.backend.support.PointTestFixtures;
+import com.joycrew.backend.support.TestMetricsConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"ledger.page-size=1", "ledger.snapshot.min-entries=1"})
+@Import({WalletLedgerService.class, PointLedgerAuditService.class, PointTestFixtures.class,
+    TestMetricsConfig.class})
+class PointLedgerAuditServiceTest {
+
+  @Autowired private PointLedgerAuditService auditService;
+  @Autowired private WalletLedgerService walletLedgerService;
+  @Autowired private WalletBalanceSnapshotRepository snapshotRepository;
+  @Autowired private PointTestFixtures fixtures;
+  @Autowired private CompanyRepository companyRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+
+  private Long aliceId, bobId;
+
+  @BeforeEach
+  void setUp() {
+    Company company = companyRepository.save(Company.builder().companyName("Ledger Co").build());
+    aliceId = fixtures.employeeWithWallet(company, "alice@test.com", 100).getEmployeeId();   // 원장 도입 전 잔액
+    bobId = fixtures.employeeWithWallet(company, "bob@test.com", 0).getEmployeeId();
+  }
+
+  @Test
+  @DisplayName("[Integration] Ledger balances come from baseline/snapshot plus tail and reconcile with wallets")
+  void snapshotPlusTail_MatchesWallets() {
+    // Given
+    auditService.baselineIfEmpty();
+    walletLedgerService.transferGiftPoints(aliceId, bobId, 30);
+    walletLedgerService.addPoints(bobId, 10);
+    entityManager.flush();
+
+    // When & Then: 기준선 + 꼬리
+    WalletLedgerState alice = auditService.ledgerStateOf(aliceId).orElseThrow();
+    assertThat(alice.ledgerBalance()).isEqualTo(70);
+    assertThat(alice.ledgerGiftable()).isEqualTo(70);
+    assertThat(alice.snapshotSeq()).isZero();
+    assertThat(auditService.reconcile()).isEqualTo(new PointLedgerAuditService.ReconciliationResult(2, 0));
+
+    // When & Then: 스냅샷 이후에는 꼬리가 비어도 같은 잔액
+    auditService.takeSnapshots();
+    WalletLedgerState bob = auditService.ledgerStateOf(bobId).orElseThrow();
+    assertThat(bob.snapshotSeq()).isEqualTo(2L);
+    assertThat(bob.ledgerBalance()).isEqualTo(40);
+    assertThat(bob.ledgerGiftable()).isEqualTo(10);
+    assertThat(snapshotRepository.count()).isEqualTo(4);
+    assertThat(auditService.reconcile().mismatched()).isZero();
+  }
+
+  @Test
+  @DisplayName("[Integration] A wallet changed outside the ledger is reported as a mismatch")
+  void reconcile_DetectsDrift() {
+    // Given
+    auditService.baselineIfEmpty();
+    jdbcTemplate.update("update wallet set balance = balance + 5 where employee_id = ?", bobId);
+
+    // When
+    PointLedgerAuditService.ReconciliationResult result = auditService.reconcile();
+
+    // Then
+    assertThat(result.checked()).isEqualTo(2);
+    assertThat(result.mismatched()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,56 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.repository.EmployeeMonthlyPointStatsRepository;
+import com.joycrew.backend.repository.EmployeePointStatsRepository;
+import com.joycrew.backend.repository.EmployeeTagStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointStatisticsRecorderTest {
+
+  @Mock private EmployeePointStatsRepository statsRepository;
+  @Mock private EmployeeMonthlyPointStatsRepository monthlyRepository;
+  @Mock private EmployeeTagStatsRepository tagRepository;
+  @Mock private EntityManager entityManager;
+  @InjectMocks private PointStatisticsRecorder recorder;
+
+  @Test
+  @DisplayName("[Unit] When another transaction inserts the admin's first stats row first, the amount is added to it")
+  void recordDistribution_LostInsertRaceFallsBackToUpdate() {
+    // Given: 갱신할 행이 없어 보였지만 INSERT 직전에 다른 지급이 행을 넣었다
+    LocalDateTime at = LocalDateTime.of(2025, 3, 1, 9, 0);
+    int month = PointStatisticsRecorder.statMonth(at);
+    when(statsRepository.addReceived(any(), anyLong(), any())).thenReturn(1);
+    when(monthlyRepository.addReceived(any(), anyInt(), anyLong())).thenReturn(1);
+    when(statsRepository.addSent(List.of(9L), 10, at)).thenReturn(0, 1);
+    when(monthlyRepository.addSent(List.of(9L), month, 10)).thenReturn(0, 1);
+    when(statsRepository.findExistingIds(List.of(9L))).thenReturn(List.of());
+    when(monthlyRepository.findExistingIds(List.of(9L), month)).thenReturn(List.of());
+    when(statsRepository.insertIfAbsent(9L, 0, 10, at)).thenReturn(false);
+    when(monthlyRepository.insertIfAbsent(9L, month, 0, 10)).thenReturn(false);
+
+    // When
+    recorder.recordDistribution(9L, Map.of(10, List.of(1L)), at);
+
+    // Then
+    verify(statsRepository, times(2)).addSent(List.of(9L), 10, at);
+    verify(monthlyRepository, times(2)).addSent(List.of(9L), month, 10);
+    verify(statsRepository, never()).addReceived(eq(List.of(9L)), anyLong(), any());
+  }
+}
@@ -0,0 +1,152 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.dto.PagedResponse;
+import com.joycrew.backend.dto.PointStatisticsResponse;
+import com.joycrew.backend.dto.TransactionHistoryResponse;
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.RewardPointTransaction;
+import com.joycrew.backend.entity.enums.Tag;
+import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.EmployeePointStatsRepository;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.support.PointTestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PointStatisticsRecorder.class, PointStatisticsBackfill.class, StatisticsService.class, PointTestFixtures.class})
+class PointStatisticsTest {
+
+  @Autowired private PointStatisticsRecorder recorder;
+  @Autowired private PointStatisticsBackfill backfill;
+  @Autowired private StatisticsService statisticsService;
+  @Autowired private RewardPointTransactionRepository transactionRepository;
+  @Autowired private EmployeePointStatsRepository statsRepository;
+  @Autowired private CompanyRepository companyRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private PointTestFixtures fixtures;
+
+  private Employee alice, bob, admin;
+
+  @BeforeEach
+  void setUp() {
+    Company company = companyRepository.save(Company.builder().companyName("Stats Co").build());
+    alice = fixtures.employee(company, "alice@test.com");
+    bob = fixtures.employee(company, "bob@test.com");
+    admin = fixtures.employee(company, "admin@test.com");
+  }
+
+  @Test
+  @DisplayName("[Integration] Incremental statistics match a backfill from the transaction history")
+  void incrementalStatistics_MatchBackfill() {
+    // Given: 거래를 기록하면서 통계를 증분 갱신
+    write(bob, alice, 30, TransactionType.AWARD_P2P, List.of(Tag.TEAMWORK, Tag.GOALS));
+    write(bob, alice, 20, TransactionType.AWARD_P2P, List.of(Tag.TEAMWORK));
+    write(alice, bob, 5, TransactionType.AWARD_P2P, List.of(Tag.INNOVATION));
+    write(alice, null, 40, TransactionType.REDEEM_ITEM, null);
+    RewardPointTransaction award = transactionRepository.save(tx(admin, alice, 100, TransactionType.AWARD_MANAGER_SPOT, null));
+    recorder.recordDistribution(admin.getEmployeeId(), Map.of(100, List.of(alice.getEmployeeId())),
+        award.getTransactionDate());
+    entityManager.flush();
+    entityManager.clear();
+
+    PointStatisticsResponse incremental = statisticsService.getPointStatistics("alice@test.com", 20);
+
+    // When
+    backfill.rebuildAll();
+    entityManager.clear();
+    PointStatisticsResponse rebuilt = statisticsService.getPointStatistics("alice@test.com", 20);
+
+    // Then
+    assertThat(incremental.totalPointsReceived()).isEqualTo(150);
+    assertThat(incremental.totalPointsSent()).isEqualTo(45);
+    assertThat(incremental.tagCounts().get(Tag.TEAMWORK.ordinal())).isEqualTo(2L);
+    assertThat(incremental.tagCounts().get(Tag.GOALS.ordinal())).isEqualTo(1L);
+    assertThat(incremental.monthlyStats()).hasSize(1);
+    assertThat(incremental.monthlyStats().get(0).received()).isEqualTo(150);
+    assertThat(incremental.receivedTransactions()).hasSize(3);
+    assertThat(incremental.sentTransactions()).hasSize(1);
+
+    assertThat(rebuilt).usingRecursiveComparison().isEqualTo(incremental);
+  }
+
+  @Test
+  @DisplayName("[Integration] Transaction history is served page by page, latest first")
+  void transactionHistory_Paged() {
+    // Given
+    for (int i = 1; i <= 5; i++) {
+      write(bob, alice, i, TransactionType.AWARD_P2P, List.of());
+    }
+    entityManager.clear();
+
+    // When
+    PagedResponse<TransactionHistoryResponse> page =
+        statisticsService.getTransactionHistory("alice@test.com", StatisticsService.Direction.RECEIVED, 0, 2);
+
+    // Then
+    assertThat(page.totalElements()).isEqualTo(5);
+    assertThat(page.totalPages()).isEqualTo(3);
+    assertThat(page.content()).extracting(TransactionHistoryResponse::counterparty).containsOnly("bob@test.com");
+  }
+
+  @Test
+  @DisplayName("[Integration] Out-of-range page sizes are clamped instead of failing or reading everything")
+  void pageSizes_Clamped() {
+    // Given
+    write(bob, alice, 1, TransactionType.AWARD_P2P, List.of());
+    entityManager.clear();
+
+    // When
+    PointStatisticsResponse stats = statisticsService.getPointStatistics("alice@test.com", 0);
+    PagedResponse<TransactionHistoryResponse> page = statisticsService.getTransactionHistory(
+        "alice@test.com", StatisticsService.Direction.RECEIVED, -1, 1_000_000);
+
+    // Then
+    assertThat(stats.receivedTransactions()).hasSize(1);
+    assertThat(page.size()).isEqualTo(StatisticsService.MAX_PAGE_SIZE);
+  }
+
+  @Test
+  @DisplayName("[Integration] A first stats insert that loses the race adds to the row that won")
+  void recordDistribution_ToleratesConcurrentFirstInsert() {
+    // Given: 확인 이후 다른 트랜잭션이 관리자의 통계 행을 먼저 넣은 상황
+    LocalDateTime at = LocalDateTime.now();
+    assertThat(statsRepository.insertIfAbsent(admin.getEmployeeId(), 0, 7, at)).isTrue();
+
+    // When: 같은 행을 다시 INSERT 하면 예외 대신 false, 트랜잭션은 계속 쓸 수 있다
+    boolean inserted = statsRepository.insertIfAbsent(admin.getEmployeeId(), 0, 3, at);
+    recorder.recordDistribution(admin.getEmployeeId(), Map.of(10, List.of(alice.getEmployeeId())), at);
+    entityManager.clear();
+
+    // Then
+    assertThat(inserted).isFalse();
+    assertThat(statsRepository.findById(admin.getEmployeeId()).orElseThrow().getTotalSent()).isEqualTo(17);
+  }
+
+  private void write(Employee sender, Employee receiver, int points, TransactionType type, List<Tag> tags) {
+    RewardPointTransaction saved = transactionRepository.save(tx(sender, receiver, points, type, tags));
+    recorder.recordTransaction(sender.getEmployeeId(), receiver != null ? receiver.getEmployeeId() : null,
+        points, type, tags, saved.getTransactionDate());
+  }
+
+  private static RewardPointTransaction tx(Employee sender, Employee receiver, int points, TransactionType type,
+                                           List<Tag> tags) {
+    return RewardPointTransaction.builder()
+        .sender(sender).receiver(receiver).pointAmount(points).message("m").type(type).tags(tags == null ? null : Set.copyOf(tags))
+        .build();
+  }
+}
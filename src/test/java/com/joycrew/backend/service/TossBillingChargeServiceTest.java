@@ -0,0 +1,86 @@
+package com.joycrew.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.joycrew.backend.entity.Company;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class TossBillingChargeServiceTest {
+
+  private MockRestServiceServer server;
+  private TossBillingChargeService chargeService;
+  private Company company;
+
+  @BeforeEach
+  void setUp() {
+    RestTemplate restTemplate = new RestTemplateBuilder().rootUri("https://api.tosspayments.com").build();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    chargeService = new TossBillingChargeService(restTemplate, new ObjectMapper().registerModule(new JavaTimeModule()));
+    ReflectionTestUtils.setField(chargeService, "secretKey", "test_sk");
+    ReflectionTestUtils.setField(chargeService, "monthlyPrice", 50000L);
+
+    company = Company.builder().companyId(1L).build();
+    company.registerBillingKeyAndEnableAutoRenew("bk_123", "ck_123");
+  }
+
+  @Test
+  @DisplayName("[Unit] Approved charge is read into a typed response and the raw body is kept verbatim")
+  void charge_Success_TypedResponse() {
+    // Given
+    server.expect(requestTo("https://api.tosspayments.com/v1/billing/bk_123"))
+        .andExpect(method(HttpMethod.POST))
+        .andRespond(withSuccess("""
+            {"paymentKey":"pk_1","orderId":"order-1","status":"DONE","totalAmount":50000,
+             "approvedAt":"2024-05-01T03:00:05+09:00","card":{"number":"1234"}}
+            """, MediaType.APPLICATION_JSON));
+
+    // When
+    TossBillingChargeService.TossChargeResult result = chargeService.charge(company, "order-1");
+
+    // Then
+    assertThat(result.success()).isTrue();
+    assertThat(result.paymentKey()).isEqualTo("pk_1");
+    assertThat(result.approvedAt()).isEqualTo(OffsetDateTime.parse("2024-05-01T03:00:05+09:00")
+        .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+    // 레코드에 없는 필드(card)도 원문 그대로 남는다
+    assertThat(result.rawResponse()).contains("\"paymentKey\":\"pk_1\"").contains("\"card\":{\"number\":\"1234\"}");
+    server.verify();
+  }
+
+  @Test
+  @DisplayName("[Unit] Toss error body is mapped to its error code and message")
+  void charge_Rejected_ErrorCodeMapped() {
+    // Given
+    server.expect(requestTo("https://api.tosspayments.com/v1/billing/bk_123"))
+        .andRespond(withStatus(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body("{\"code\":\"REJECT_CARD_PAYMENT\",\"message\":\"한도 초과\"}"));
+
+    // When
+    TossBillingChargeService.TossChargeResult result = chargeService.charge(company, "order-1");
+
+    // Then
+    assertThat(result.success()).isFalse();
+    assertThat(result.failCode()).isEqualTo("REJECT_CARD_PAYMENT");
+    assertThat(result.failMessage()).isEqualTo("한도 초과");
+    assertThat(result.rawResponse()).contains("REJECT_CARD_PAYMENT");
+  }
+}
@@ -1,23 +1,34 @@
 package com.joycrew.backend.service;
 
+import com.joycrew.backend.dto.TransactionHistoryPageResponse;
 import com.joycrew.backend.dto.TransactionHistoryResponse;
 import com.joycrew.backend.entity.Employee;
 import com.joycrew.backend.entity.RewardPointTransaction;
 import com.joycrew.backend.entity.enums.TransactionType;
+import com.joycrew.backend.exception.InvalidCursorException;
 import com.joycrew.backend.repository.EmployeeRepository;
 import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.tenant.TenantContext;
+import com.joycrew.backend.util.KeysetCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,50 +42,62 @@ class TransactionHistoryServiceTest {
   @InjectMocks
   private TransactionHistoryService transactionHistoryService;
 
+  private final LocalDateTime now = LocalDateTime.of(2026, 10, 1, 12, 0);
+  private Employee user, colleague;
+
+  @BeforeEach
+  void setUp() {
+    TenantContext.set(7L);
+    user = Employee.builder().employeeId(1L).employeeName("Test User").email("user@joycrew.com").build();
+    colleague = Employee.builder().employeeId(2L).employeeName("Colleague").build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
   @Test
-  @DisplayName("[Unit] Get transaction history - Should include P2P and item purchases, but exclude admin awards")
-  void getTransactionHistory_Success_WithFiltering() {
+  @DisplayName("[Unit] Get transaction history - Sent and received pages are merged latest first with a next cursor")
+  void getTransactionHistory_MergesAndReturnsCursor() {
     // Given
-    String userEmail = "user@joycrew.com";
-    Employee user = Employee.builder().employeeId(1L).employeeName("Test User").email(userEmail).build();
-    Employee colleague = Employee.builder().employeeId(2L).employeeName("Colleague").build();
-    Employee admin = Employee.builder().employeeId(99L).employeeName("Admin").build();
-
-    RewardPointTransaction p2pSentTx = RewardPointTransaction.builder()
-        .transactionId(101L).sender(user).receiver(colleague)
-        .pointAmount(50).type(TransactionType.AWARD_P2P)
-        .transactionDate(LocalDateTime.now().minusDays(1)).build();
-
-    RewardPointTransaction itemRedeemTx = RewardPointTransaction.builder()
-        .transactionId(102L).sender(user).receiver(null) // receiver is null for item purchases
-        .pointAmount(200).type(TransactionType.REDEEM_ITEM).message("Purchased: Coffee")
-        .transactionDate(LocalDateTime.now()).build();
-
-    // This transaction should be filtered out
-    RewardPointTransaction adminAwardTx = RewardPointTransaction.builder()
-        .transactionId(103L).sender(admin).receiver(user)
-        .pointAmount(1000).type(TransactionType.AWARD_MANAGER_SPOT)
-        .transactionDate(LocalDateTime.now().minusDays(2)).build();
-
-    when(employeeRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-    when(transactionRepository.findBySenderOrReceiverOrderByTransactionDateDesc(user, user))
-        .thenReturn(List.of(itemRedeemTx, p2pSentTx, adminAwardTx));
+    RewardPointTransaction sent = tx(101L, user, colleague, 50, now.minusDays(1));
+    RewardPointTransaction received = tx(102L, colleague, user, 30, now);
+    RewardPointTransaction older = tx(103L, colleague, user, 10, now.minusDays(2));
+
+    when(employeeRepository.findByCompanyCompanyIdAndEmail(7L, "user@joycrew.com")).thenReturn(Optional.of(user));
+    when(transactionRepository.findSentBefore(eq(1L), anyCollection(), any(), any(), eq(Limit.of(3))))
+        .thenReturn(List.of(sent));
+    when(transactionRepository.findReceivedBefore(eq(1L), anyCollection(), any(), any(), eq(Limit.of(3))))
+        .thenReturn(List.of(received, older));
 
     // When
-    List<TransactionHistoryResponse> history = transactionHistoryService.getTransactionHistory(userEmail);
+    TransactionHistoryPageResponse page =
+        transactionHistoryService.getTransactionHistory("user@joycrew.com", null, null, 2);
 
     // Then
-    assertThat(history).hasSize(2);
-    assertThat(history.stream().map(TransactionHistoryResponse::transactionId))
-        .containsExactlyInAnyOrder(101L, 102L)
-        .doesNotContain(103L);
-
-    TransactionHistoryResponse redeemResponse = history.stream().filter(h -> h.type() == TransactionType.REDEEM_ITEM).findFirst().get();
-    assertThat(redeemResponse.amount()).isEqualTo(-200);
-    assertThat(redeemResponse.counterparty()).isEqualTo("Purchased: Coffee");
-
-    TransactionHistoryResponse p2pResponse = history.stream().filter(h -> h.type() == TransactionType.AWARD_P2P).findFirst().get();
-    assertThat(p2pResponse.amount()).isEqualTo(-50);
-    assertThat(p2pResponse.counterparty()).isEqualTo("Colleague");
+    assertThat(page.content()).extracting(TransactionHistoryResponse::transactionId).containsExactly(102L, 101L);
+    assertThat(page.content()).extracting(TransactionHistoryResponse::amount).containsExactly(30, -50);
+    assertThat(page.content().get(1).counterparty()).isEqualTo("Colleague");
+    assertThat(page.hasNext()).isTrue();
+    assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(now.minusDays(1), 101L));
+  }
+
+  @Test
+  @DisplayName("[Unit] Get transaction history - A malformed cursor is rejected")
+  void getTransactionHistory_InvalidCursor() {
+    // Given
+    when(employeeRepository.findByCompanyCompanyIdAndEmail(7L, "user@joycrew.com")).thenReturn(Optional.of(user));
+
+    // When & Then
+    assertThatThrownBy(() -> transactionHistoryService.getTransactionHistory("user@joycrew.com", null, "not-a-cursor", 20))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  private static RewardPointTransaction tx(Long id, Employee sender, Employee receiver, int points, LocalDateTime at) {
+    return RewardPointTransaction.builder()
+        .transactionId(id).sender(sender).receiver(receiver)
+        .pointAmount(points).type(TransactionType.AWARD_P2P)
+        .transactionDate(at).build();
   }
-}
\ No newline at end of file
+}
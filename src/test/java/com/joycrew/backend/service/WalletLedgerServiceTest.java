@@ -0,0 +1,119 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.PointLedgerEntry;
+import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.entity.enums.LedgerAccount;
+import com.joycrew.backend.entity.enums.LedgerEntryType;
+import com.joycrew.backend.exception.InsufficientPointsException;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.PointLedgerEntryRepository;
+import com.joycrew.backend.repository.WalletRepository;
+import com.joycrew.backend.support.PointTestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({WalletLedgerService.class, PointTestFixtures.class})
+class WalletLedgerServiceTest {
+
+  @Autowired private WalletLedgerService walletLedgerService;
+  @Autowired private WalletRepository walletRepository;
+  @Autowired private CompanyRepository companyRepository;
+  @Autowired private PointLedgerEntryRepository ledgerRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private PointTestFixtures fixtures;
+
+  private Long employeeId;
+
+  @BeforeEach
+  void setUp() {
+    Company company = companyRepository.save(Company.builder().companyName("Ledger Co").build());
+    employeeId = fixtures.employeeWithWallet(company, "ledger@test.com", 100).getEmployeeId();
+  }
+
+  @Test
+  @DisplayName("[Integration] Gift, receive and purchase move the same fields as the Wallet rules")
+  void conditionalUpdates_FollowWalletRules() {
+    // When
+    walletLedgerService.spendGiftablePoints(employeeId, 30);  // 100/100 -> 70/70
+    walletLedgerService.receiveGiftPoints(employeeId, 20);    // -> 90/70
+    walletLedgerService.purchaseWithPoints(employeeId, 85, "JC-1");   // -> 5/70
+    walletLedgerService.revokePoints(employeeId, 5);          // -> 0/65
+
+    // Then
+    Wallet wallet = reload();
+    assertThat(wallet.getBalance()).isZero();
+    assertThat(wallet.getGiftablePoint()).isEqualTo(65);
+  }
+
+  @Test
+  @DisplayName("[Integration] Every movement is journaled with a gapless wallet sequence and balanced legs")
+  void movements_AppendBalancedJournals() {
+    // When
+    walletLedgerService.addPoints(employeeId, 50);                     // 150/150
+    walletLedgerService.purchaseWithPoints(employeeId, 40, "JC-1");    // 110/150
+    walletLedgerService.refundPoints(employeeId, 40, "JC-1");          // 150/150
+    walletLedgerService.revokePoints(employeeId, 120);                 // 30/30
+
+    // Then: 지갑 행은 1..4 연속 번호, 분개마다 잔액 합 0
+    Wallet wallet = reload();
+    List<PointLedgerEntry> walletLegs = ledgerRepository.findByWalletIdOrderBySeq(wallet.getWalletId());
+    assertThat(walletLegs).extracting(PointLedgerEntry::getSeq).containsExactly(1L, 2L, 3L, 4L);
+    assertThat(walletLegs).extracting(PointLedgerEntry::getEntryType).containsExactly(
+        LedgerEntryType.ADMIN_GRANT, LedgerEntryType.PURCHASE, LedgerEntryType.REFUND, LedgerEntryType.ADMIN_REVOKE);
+    assertThat(walletLegs.get(3).getGiftableDelta()).isEqualTo(-120);
+    assertThat(wallet.getLedgerSeq()).isEqualTo(4L);
+
+    Map<String, Long> journalSums = ledgerRepository.findAll().stream()
+        .collect(Collectors.groupingBy(PointLedgerEntry::getJournalId,
+            Collectors.summingLong(PointLedgerEntry::getBalanceDelta)));
+    assertThat(journalSums).hasSize(4).allSatisfy((journal, sum) -> assertThat(sum).isZero());
+    assertThat(ledgerRepository.findAll()).filteredOn(e -> e.getAccount() == LedgerAccount.MERCHANT)
+        .extracting(PointLedgerEntry::getReference).containsOnly("JC-1");
+
+    // 원장 도입 전 잔액 100 을 제외한 원장 합 = 지갑 잔액 - 100
+    assertThat(walletLegs.stream().mapToLong(PointLedgerEntry::getBalanceDelta).sum())
+        .isEqualTo(wallet.getBalance() - 100);
+  }
+
+  @Test
+  @DisplayName("[Integration] A debit larger than the balance changes nothing and reports insufficient points")
+  void spend_Insufficient_NoChange() {
+    // When & Then
+    assertThatThrownBy(() -> walletLedgerService.spendGiftablePoints(employeeId, 101))
+        .isInstanceOf(InsufficientPointsException.class)
+        .hasMessage("Insufficient giftable points.");
+    assertThatThrownBy(() -> walletLedgerService.purchaseWithPoints(employeeId, 101, "JC-1"))
+        .isInstanceOf(InsufficientPointsException.class);
+
+    Wallet wallet = reload();
+    assertThat(wallet.getBalance()).isEqualTo(100);
+    assertThat(wallet.getGiftablePoint()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("[Integration] Missing wallet is reported separately from insufficient points")
+  void spend_MissingWallet_IllegalState() {
+    // When & Then
+    assertThatThrownBy(() -> walletLedgerService.spendGiftablePoints(-1L, 10))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private Wallet reload() {
+    entityManager.clear();
+    return walletRepository.findByEmployee_EmployeeId(employeeId).orElseThrow();
+  }
+}
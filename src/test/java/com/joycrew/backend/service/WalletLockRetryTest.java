@@ -0,0 +1,55 @@
+package com.joycrew.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class WalletLockRetryTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WalletLockRetry walletLockRetry =
+      new WalletLockRetry(mock(PlatformTransactionManager.class), 3, 0, 0, meterRegistry);
+
+  @Test
+  @DisplayName("[Unit] A duplicate ledger seq is retried in a new transaction")
+  void execute_RetriesDuplicateLedgerSeq() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    String result = walletLockRetry.execute(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new DuplicateKeyException("Unique index or primary key violation: \"PUBLIC.UK_LEDGER_WALLET_SEQ_INDEX_5\"");
+      }
+      return "ok";
+    });
+
+    // Then
+    assertThat(result).isEqualTo("ok");
+    assertThat(calls).hasValue(2);
+    assertThat(meterRegistry.get("wallet.lock.attempts").tag("result", "retry").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("[Unit] Other duplicate keys are not retried")
+  void execute_OtherDuplicateKey_Throws() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When & Then
+    assertThatThrownBy(() -> walletLockRetry.execute(() -> {
+      calls.incrementAndGet();
+      throw new DuplicateKeyException("Duplicate entry 'key-1' for key 'uk_idempotency_key'");
+    })).isInstanceOf(DuplicateKeyException.class);
+    assertThat(calls).hasValue(1);
+  }
+}
@@ -0,0 +1,167 @@
+package com.joycrew.backend.service;
+
+import com.joycrew.backend.dto.GiftPointRequest;
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.entity.enums.Tag;
+import com.joycrew.backend.repository.CompanyRepository;
+import com.joycrew.backend.repository.EmployeeMonthlyPointStatsRepository;
+import com.joycrew.backend.repository.EmployeePointStatsRepository;
+import com.joycrew.backend.repository.EmployeeRepository;
+import com.joycrew.backend.repository.RewardPointTransactionRepository;
+import com.joycrew.backend.repository.WalletRepository;
+import com.joycrew.backend.support.PointTestFixtures;
+import com.joycrew.backend.support.TestMetricsConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({WalletLedgerService.class, WalletLockRetry.class, GiftPointService.class, PointStatisticsRecorder.class,
+    PointTestFixtures.class, TestMetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WalletTransferConcurrencyTest {
+
+  private static final int RING_SIZE = 6;
+  private static final int GIFTS_PER_THREAD = 40;
+  private static final int INITIAL_POINTS = 1_000;
+
+  @Autowired private WalletLedgerService walletLedgerService;
+  @Autowired private WalletLockRetry walletLockRetry;
+  @Autowired private GiftPointService giftPointService;
+  @Autowired private WalletRepository walletRepository;
+  @Autowired private EmployeeRepository employeeRepository;
+  @Autowired private CompanyRepository companyRepository;
+  @Autowired private RewardPointTransactionRepository transactionRepository;
+  @Autowired private EmployeePointStatsRepository statsRepository;
+  @Autowired private EmployeeMonthlyPointStatsRepository monthlyStatsRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private MeterRegistry meterRegistry;
+  @Autowired private PointTestFixtures fixtures;
+
+  private final List<Long> ring = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    Company company = companyRepository.save(Company.builder().companyName("Ring Co").build());
+    for (int i = 0; i < RING_SIZE; i++) {
+      ring.add(fixtures.employeeWithWallet(company, "ring" + i + "@test.com", INITIAL_POINTS).getEmployeeId());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from point_ledger_entry");
+    transactionRepository.deleteAllInBatch();
+    statsRepository.deleteAllInBatch();
+    monthlyStatsRepository.deleteAllInBatch();
+    walletRepository.deleteAllInBatch();
+    employeeRepository.deleteAllInBatch();
+    companyRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("[Integration] Gifting around a ring in both directions never deadlocks and conserves points")
+  void transfer_RingOfThreads_NoDeadlock() throws Exception {
+    // Given
+    double succeededBefore = lockAttempts("success");
+
+    // When
+    giftAroundRing((senderId, receiverId) ->
+        walletLockRetry.run(() -> walletLedgerService.transferGiftPoints(senderId, receiverId, 1)));
+
+    // Then: 모든 선물이 반영되고 포인트 총합이 보존됨
+    assertPointsConserved();
+    assertThat(lockAttempts("success") - succeededBefore).isEqualTo(RING_SIZE * 2 * GIFTS_PER_THREAD);
+    assertThat(lockAttempts("exhausted")).isZero();
+  }
+
+  @Test
+  @DisplayName("[Integration] Concurrent gifts through GiftPointService apply every gift and keep the ledger in step")
+  void giftPointsToColleague_RingOfThreads_NoLostUpdates() throws Exception {
+    // When: 직원을 먼저 조회하는 서비스 경로로 같은 링을 주고받음
+    giftAroundRing((senderId, receiverId) -> giftPointService.giftPointsToColleague(email(senderId),
+        new GiftPointRequest(receiverId, 1, "Thanks", List.of(Tag.TEAMWORK))));
+
+    // Then: 원장 번호가 지갑마다 끊김 없이 이어지고 원장 합이 잔액 변화와 같다
+    assertPointsConserved();
+    assertThat(transactionRepository.count()).isEqualTo(RING_SIZE * 2 * GIFTS_PER_THREAD);
+    for (Wallet wallet : walletRepository.findAll()) {
+      Long entries = jdbcTemplate.queryForObject(
+          "select count(*) from point_ledger_entry where wallet_id = ?", Long.class, wallet.getWalletId());
+      Long delta = jdbcTemplate.queryForObject(
+          "select coalesce(sum(balance_delta), 0) from point_ledger_entry where wallet_id = ?", Long.class,
+          wallet.getWalletId());
+      assertThat(entries).isEqualTo(wallet.getLedgerSeq());
+      assertThat(delta).isEqualTo(wallet.getBalance() - INITIAL_POINTS);
+    }
+  }
+
+  // 스레드마다 이웃과 주고받음 (정방향/역방향 스레드가 같은 지갑 쌍을 반대 순서로 요청)
+  private void giftAroundRing(BiConsumer<Long, Long> gift) throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(RING_SIZE * 2);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < RING_SIZE; i++) {
+      Long a = ring.get(i);
+      Long b = ring.get((i + 1) % RING_SIZE);
+      futures.add(pool.submit(() -> giftRepeatedly(start, gift, a, b)));
+      futures.add(pool.submit(() -> giftRepeatedly(start, gift, b, a)));
+    }
+
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    pool.shutdown();
+  }
+
+  private void assertPointsConserved() {
+    List<Wallet> wallets = walletRepository.findAll();
+    int totalBalance = wallets.stream().mapToInt(Wallet::getBalance).sum();
+    int totalGiftable = wallets.stream().mapToInt(Wallet::getGiftablePoint).sum();
+    int gifts = RING_SIZE * 2 * GIFTS_PER_THREAD;
+
+    assertThat(totalBalance).isEqualTo(RING_SIZE * INITIAL_POINTS);
+    assertThat(totalGiftable).isEqualTo(RING_SIZE * INITIAL_POINTS - gifts);
+  }
+
+  private double lockAttempts(String result) {
+    return meterRegistry.get("wallet.lock.attempts").tag("result", result).counter().count();
+  }
+
+  private String email(Long employeeId) {
+    return "ring" + ring.indexOf(employeeId) + "@test.com";
+  }
+
+  private void giftRepeatedly(CountDownLatch start, BiConsumer<Long, Long> gift, Long senderId, Long receiverId) {
+    try {
+      start.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    for (int n = 0; n < GIFTS_PER_THREAD; n++) {
+      gift.accept(senderId, receiverId);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.joycrew.backend.support;
+
+import com.joycrew.backend.entity.Company;
+import com.joycrew.backend.entity.Employee;
+import com.joycrew.backend.entity.Wallet;
+import com.joycrew.backend.entity.enums.AdminLevel;
+import com.joycrew.backend.repository.EmployeeRepository;
+import com.joycrew.backend.repository.WalletRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+/** 포인트 관련 @DataJpaTest 공용 데이터: 직원과 지갑 저장. @Import(PointTestFixtures.class)로 쓴다. */
+@TestComponent
+public class PointTestFixtures {
+
+  private final EmployeeRepository employeeRepository;
+  private final WalletRepository walletRepository;
+
+  public PointTestFixtures(EmployeeRepository employeeRepository, WalletRepository walletRepository) {
+    this.employeeRepository = employeeRepository;
+    this.walletRepository = walletRepository;
+  }
+
+  /** 지갑 없는 직원 (관리자 등). 이름은 이메일과 같다. */
+  public Employee employee(Company company, String email) {
+    return employeeRepository.save(Employee.builder()
+        .email(email).employeeName(email).role(AdminLevel.EMPLOYEE)
+        .company(company).passwordHash("...").status("ACTIVE").build());
+  }
+
+  /** 관리자 지급으로 points를 받은 지갑을 가진 직원 (총 잔액 = 선물 한도 = points) */
+  public Employee employeeWithWallet(Company company, String email, int points) {
+    Employee employee = employee(company, email);
+    Wallet wallet = new Wallet(employee);
+    if (points > 0) {
+      wallet.addPoints(points);
+    }
+    walletRepository.saveAndFlush(wallet);
+    return employee;
+  }
+}
@@ -0,0 +1,16 @@
+package com.joycrew.backend.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/** 슬라이스 테스트(@DataJpaTest 등)에는 MeterRegistry가 없으므로 메트릭을 등록하는 컴포넌트를 위해 넣어 준다. */
+@TestConfiguration
+public class TestMetricsConfig {
+
+  @Bean
+  MeterRegistry meterRegistry() {
+    return new SimpleMeterRegistry();
+  }
+}
@@ -0,0 +1,97 @@
+package com.joycrew.backend.tenant;
+
+import com.joycrew.backend.repository.CompanyDomainRepository;
+import com.joycrew.backend.repository.CompanyDomainRepository.DomainMapping;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TenantDomainCacheTest {
+
+  @Mock
+  private CompanyDomainRepository domainRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TenantDomainCache cache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new TenantDomainCache(domainRepository, 60, 100, 10, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("[Unit] Warmed domains resolve without a DB query")
+  void resolve_WarmedDomain_NoQuery() {
+    // Given
+    when(domainRepository.findAllMappings()).thenReturn(List.of(mapping("Acme.joycrew.co.kr", 7L)));
+    cache.warmUp();
+
+    // When
+    Long companyId = cache.resolve("acme.joycrew.co.kr");
+
+    // Then
+    assertThat(companyId).isEqualTo(7L);
+    verify(domainRepository, never()).findCompanyIdByDomain(anyString());
+    assertThat(meterRegistry.get("tenant.domain.cache.hit.ratio").gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("[Unit] Unknown hosts are queried once and then served from the negative cache")
+  void resolve_UnknownHost_NegativeCached() {
+    // Given
+    when(domainRepository.findCompanyIdByDomain("nope.joycrew.co.kr")).thenReturn(Optional.empty());
+
+    // When
+    Long first = cache.resolve("nope.joycrew.co.kr");
+    Long second = cache.resolve("nope.joycrew.co.kr");
+
+    // Then
+    assertThat(first).isNull();
+    assertThat(second).isNull();
+    verify(domainRepository, times(1)).findCompanyIdByDomain("nope.joycrew.co.kr");
+    assertThat(meterRegistry.get("tenant.domain.lookups").tag("result", "negative_hit").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("[Unit] Incremental refresh picks up a newly registered domain")
+  void refresh_NewDomain_ClearsNegativeEntry() {
+    // Given
+    when(domainRepository.findAllMappings()).thenReturn(List.of(mapping("acme.joycrew.co.kr", 7L)));
+    when(domainRepository.findCompanyIdByDomain("beta.joycrew.co.kr")).thenReturn(Optional.empty());
+    cache.warmUp();
+    assertThat(cache.resolve("beta.joycrew.co.kr")).isNull();
+    when(domainRepository.findMappingsUpdatedSince(any())).thenReturn(List.of(mapping("beta.joycrew.co.kr", 9L)));
+
+    // When
+    cache.refresh();
+
+    // Then
+    assertThat(cache.resolve("beta.joycrew.co.kr")).isEqualTo(9L);
+    verify(domainRepository, times(1)).findCompanyIdByDomain("beta.joycrew.co.kr");
+  }
+
+  private static DomainMapping mapping(String domain, Long companyId) {
+    LocalDateTime updatedAt = LocalDateTime.now();
+    return new DomainMapping() {
+      @Override public String getDomain() { return domain; }
+      @Override public Long getCompanyId() { return companyId; }
+      @Override public LocalDateTime getUpdatedAt() { return updatedAt; }
+    };
+  }
+}